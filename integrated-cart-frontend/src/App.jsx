@@ -93,29 +93,46 @@ function App() {
 
     /**
      * 특정 재료에 대한 상품 검색을 수행합니다.
+     * SSE 스트림으로 쇼핑몰별 결과를 받아, 가장 빠른 쇼핑몰의 최저가부터 바로 표시합니다.
      */
-    const handleSearch = async (keyword, amount, malls) => {
+    const handleSearch = (keyword, amount, malls) => {
         setSearchError(false);
         setProducts(null);
         setProductLoading(true);
-        try {
-            const mallParams = malls.includes('ALL') ? '' : `&malls=${malls.join(',')}`;
-            const res = await fetch(`${API_BASE}/ingredients/search?keyword=${encodeURIComponent(keyword)}&requiredAmount=${amount}${mallParams}`);
-            
-            if (!res.ok) throw new Error("상품 검색에 실패했습니다.");
 
-            const searchResults = await res.json();
+        const mallParams = malls.includes('ALL') ? '' : `&malls=${malls.join(',')}`;
+        const source = new EventSource(`${API_BASE}/ingredients/search/stream?keyword=${encodeURIComponent(keyword)}&requiredAmount=${amount}${mallParams}`);
+
+        // cheapest: 지금까지 도착한 결과 중 최저가 (더 싼 상품이 오면 다시 전송됨)
+        source.addEventListener('cheapest', (event) => {
+            const { product } = JSON.parse(event.data);
+            setProducts({ [product.mallType]: [product] });
+            setProductLoading(false);
+        });
+
+        // summary: 최종 결과, mallStatuses: 쇼핑몰별 상태 (TIMEOUT/FAILED/REJECTED 포함 부분 결과)
+        source.addEventListener('summary', (event) => {
+            source.close();
+            const { products: searchResults, mallStatuses } = JSON.parse(event.data);
+            if (mallStatuses) {
+                Object.entries(mallStatuses)
+                    .filter(([, s]) => ['TIMEOUT', 'FAILED', 'REJECTED'].includes(s.status))
+                    .forEach(([mall, s]) => console.warn(`${mall} 검색 ${s.status}: ${s.error ?? ''}`));
+            }
 
             const isEmpty = Object.values(searchResults).every(arr => arr.length === 0);
             if (isEmpty) {
                 setSearchError(true);
             }
             setProducts(searchResults);
-        } catch (e) {
+            setProductLoading(false);
+        });
+
+        source.onerror = () => {
+            source.close();
             setSearchError(true);
-        } finally {
             setProductLoading(false);
-        }
+        };
     };
 
     const selectIngredient = (ing) => {
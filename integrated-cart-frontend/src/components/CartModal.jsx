@@ -22,6 +22,22 @@ export default function CartModal({ onClose, cartItems, apiBase, onRemoveItem })
 
     const totalAmount = cartItems.reduce((sum, item) => sum + (item.product.price * item.quantity), 0);
 
+    /**
+     * 제출된 자동화 작업 그룹의 진행 상황을 SSE로 받아 모든 쇼핑몰 작업이 끝나면 결과를 알립니다.
+     * @param {string} groupId - 작업 그룹 ID
+     * @param {string} label - 알림에 표시할 작업 이름
+     */
+    const watchJobs = (groupId, label) => {
+        const source = new EventSource(`${apiBase}/order/jobs/${groupId}/stream`);
+        source.addEventListener('summary', (event) => {
+            source.close();
+            const { jobs } = JSON.parse(event.data);
+            const lines = jobs.map(job => `${job.mallType}: ${job.status === 'SUCCEEDED' ? '완료' : '실패'} (${job.message})`);
+            alert(`${label} 결과\n${lines.join('\n')}`);
+        });
+        source.addEventListener('error', () => source.close());
+    };
+
     const handleAutoCart = async () => {
         setIsProcessing(true);
         try {
@@ -33,7 +49,9 @@ export default function CartModal({ onClose, cartItems, apiBase, onRemoveItem })
             });
             if (!res.ok) throw new Error("자동 담기 실패");
 
-            alert("선택한 쇼핑몰의 장바구니에 상품을 모두 담았습니다! 곧 장바구니 페이지가 열립니다.");
+            const { groupId } = await res.json();
+            watchJobs(groupId, "장바구니 담기");
+            alert("장바구니 담기를 시작했습니다. 쇼핑몰별로 브라우저 창이 열리면 필요 시 로그인해 주세요.");
             onClose();
         } catch (e) {
             alert("장바구니 연동 중 오류 발생: " + e.message);
@@ -53,6 +71,8 @@ export default function CartModal({ onClose, cartItems, apiBase, onRemoveItem })
             });
             if (!res.ok) throw new Error("결제 시작 실패");
 
+            const { groupId } = await res.json();
+            watchJobs(groupId, "결제");
             alert("각 쇼핑몰 봇이 백그라운드에서 결제를 시작했습니다!");
             onClose();
         } catch (e) {
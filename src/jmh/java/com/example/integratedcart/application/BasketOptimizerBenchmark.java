@@ -0,0 +1,85 @@
+package com.example.integratedcart.application;
+
+import com.example.integratedcart.domain.product.MallType;
+import com.example.integratedcart.domain.product.Product;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 재료 수 × 4개 쇼핑몰 후보에 대한 장바구니 최적화 (BasketOptimizer).
+ * 가격은 고정 seed로 생성하며, 배송 정책은 application.yml의 기본값과 같습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BasketOptimizerBenchmark {
+
+    @Param({ "10", "30", "50" })
+    public int ingredients;
+
+    /**
+     * 쇼핑몰당 후보 상품 수
+     */
+    @Param({ "5" })
+    public int productsPerMall;
+
+    private BasketOptimizer optimizer;
+    private List<BasketLine> lines;
+
+    @Setup
+    public void setUp() {
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("basket", Map.of(
+                "app.basket.shipping.coupang.free-threshold", 19800,
+                "app.basket.shipping.kurly.free-threshold", 40000,
+                "app.basket.shipping.bmart.free-threshold", 15000,
+                "app.basket.shipping.naver.free-threshold", 30000)));
+        optimizer = new BasketOptimizer(new QuantityScalingService(), environment, 1000, 200_000);
+
+        Random random = new Random(42);
+        long id = 1;
+        lines = new ArrayList<>(ingredients);
+        for (int i = 0; i < ingredients; i++) {
+            IngredientRequirement requirement = new IngredientRequirement("재료" + i, 1 + random.nextInt(3), "개");
+            int basePrice = 1000 + random.nextInt(9000);
+            Map<MallType, MallSearchResult> mallResults = new EnumMap<>(MallType.class);
+            for (MallType mall : MallType.values()) {
+                List<Product> products = new ArrayList<>(productsPerMall);
+                for (int p = 0; p < productsPerMall; p++) {
+                    products.add(Product.builder()
+                            .id(id++)
+                            .name("재료" + i + " 상품" + p)
+                            .price(basePrice + random.nextInt(basePrice / 2))
+                            .mallType(mall)
+                            .capacity(1 + random.nextInt(2))
+                            .unit("개")
+                            .inStock(true)
+                            .sugarPer100g(0.0)
+                            .build());
+                }
+                mallResults.put(mall, MallSearchResult.completed(mall, products, 0));
+            }
+            lines.add(new BasketLine(requirement, null, mallResults));
+        }
+    }
+
+    @Benchmark
+    public BasketPlan optimize() {
+        return optimizer.optimize(lines);
+    }
+}
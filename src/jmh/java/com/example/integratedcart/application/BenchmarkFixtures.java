@@ -0,0 +1,87 @@
+package com.example.integratedcart.application;
+
+import com.example.integratedcart.domain.product.MallType;
+import com.example.integratedcart.domain.product.Product;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 실제 사이트 대신 사용하는 저장된 응답(src/jmh/resources/fixtures)을 읽습니다.
+ */
+final class BenchmarkFixtures {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private BenchmarkFixtures() {
+    }
+
+    static String read(String name) {
+        try (InputStream in = BenchmarkFixtures.class.getResourceAsStream("/fixtures/" + name)) {
+            if (in == null) {
+                throw new IllegalStateException("fixture 없음: " + name);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * search-candidates.json의 검색 키워드.
+     */
+    static List<String> keywords() {
+        List<String> keywords = new ArrayList<>();
+        candidates().path("keywords").forEach(k -> keywords.add(k.asText()));
+        return keywords;
+    }
+
+    /**
+     * search-candidates.json의 쇼핑몰별 검색 결과 상품 (스크래퍼가 만드는 형태, 용량/단위는 상품명에서 추출).
+     */
+    static List<Product> products() {
+        List<Product> products = new ArrayList<>();
+        long id = 1;
+        for (JsonNode node : candidates().path("products")) {
+            ProductQuantityParser.ProductQuantity quantity = ProductQuantityParser.parse(node.path("name").asText());
+            products.add(Product.builder()
+                    .id(id++)
+                    .name(node.path("name").asText())
+                    .price(node.path("price").asInt())
+                    .mallType(MallType.valueOf(node.path("mallType").asText()))
+                    .capacity(quantity.capacity())
+                    .unit(quantity.unit())
+                    .inStock(true)
+                    .sugarPer100g(0.0)
+                    .build());
+        }
+        return products;
+    }
+
+    /**
+     * product-titles.tsv의 상품명과 기대 용량/단위. (# 주석 줄 제외)
+     */
+    static List<String[]> productTitles() {
+        List<String[]> rows = new ArrayList<>();
+        for (String line : read("product-titles.tsv").split("\n")) {
+            if (!line.isBlank() && !line.startsWith("#")) {
+                rows.add(line.split("\t"));
+            }
+        }
+        return rows;
+    }
+
+    private static JsonNode candidates() {
+        try {
+            return OBJECT_MAPPER.readTree(read("search-candidates.json"));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
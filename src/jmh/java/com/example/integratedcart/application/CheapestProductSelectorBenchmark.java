@@ -0,0 +1,55 @@
+package com.example.integratedcart.application;
+
+import com.example.integratedcart.domain.product.Product;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * /ingredients/search의 최저가 선정 루프 (CheapestProductSelector).
+ * select는 단위를 모를 때(단위 가격 비교), selectWithUnit은 필요한 양의 단위를 알 때(구매 금액 비교).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CheapestProductSelectorBenchmark {
+
+    /**
+     * 후보 상품 수 (쇼핑몰 수 × 쇼핑몰당 결과 수)
+     */
+    @Param({ "20", "200", "2000" })
+    public int candidates;
+
+    private CheapestProductSelector selector;
+    private List<Product> products;
+
+    @Setup
+    public void setUp() {
+        selector = new CheapestProductSelector();
+        List<Product> fixture = BenchmarkFixtures.products();
+        products = new ArrayList<>(candidates);
+        for (int i = 0; i < candidates; i++) {
+            products.add(fixture.get(i % fixture.size()));
+        }
+    }
+
+    @Benchmark
+    public Optional<Product> select() {
+        return selector.select(products, 3);
+    }
+
+    @Benchmark
+    public Optional<Product> selectWithUnit() {
+        return selector.select(products, 1.2, "kg");
+    }
+}
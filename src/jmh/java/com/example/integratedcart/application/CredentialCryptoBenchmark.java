@@ -0,0 +1,97 @@
+package com.example.integratedcart.application;
+
+import com.example.integratedcart.infrastructure.AES256Util;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.env.StandardEnvironment;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 쇼핑몰 계정 정보 암복호화 한 번의 비용. (멀티 쇼핑몰 결제는 쇼핑몰 수만큼 복호화)
+ * - legacyPerCall: 이전 구현 그대로 (매번 Cipher.getInstance("AES") + SecretKeySpec, ECB)
+ * - gcmPerCall: AES-GCM이지만 매번 Cipher/SecretKeySpec을 새로 만드는 경우 (준비 비용만 분리해서 보기 위함)
+ * - decrypt / encrypt: AES256Util (키는 한 번 생성, Cipher는 풀에서 재사용, v&lt;버전&gt;: 형식)
+ * - decryptLegacyFormat: AES256Util로 이전 형식 암호문 읽기 (지연 마이그레이션 전 레코드)
+ * - cachedDecrypt: MallCredentialService의 복호화 캐시 적중
+ * 스레드 수를 바꿔(-t) Cipher 풀 경합도 확인할 수 있습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CredentialCryptoBenchmark {
+
+    private static final String SECRET = "ThisIsASecretKeyForAES256Encrypt";
+    private static final String CREDENTIALS = "{\"id\":\"shopper@example.com\",\"password\":\"p@ssw0rd-1234\"}";
+
+    private AES256Util aes256Util;
+    private String v2CipherText;
+    private String legacyCipherText;
+    private byte[] gcmPayload;
+    private Cache<Long, String> decrypted;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        aes256Util = new AES256Util(SECRET, 1, 1, new StandardEnvironment());
+        v2CipherText = aes256Util.encrypt(CREDENTIALS);
+        gcmPayload = Base64.getDecoder().decode(v2CipherText.substring(v2CipherText.indexOf(':') + 1));
+
+        Cipher cipher = Cipher.getInstance("AES");
+        cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(SECRET.getBytes(), "AES"));
+        legacyCipherText = Base64.getEncoder().encodeToString(cipher.doFinal(CREDENTIALS.getBytes()));
+
+        decrypted = Caffeine.newBuilder().maximumSize(1000).expireAfterWrite(Duration.ofMinutes(10)).build();
+        decrypted.put(1L, CREDENTIALS);
+    }
+
+    @Benchmark
+    public String legacyPerCall() throws Exception {
+        Cipher cipher = Cipher.getInstance("AES");
+        SecretKeySpec keySpec = new SecretKeySpec(SECRET.getBytes(), "AES");
+        cipher.init(Cipher.DECRYPT_MODE, keySpec);
+        return new String(cipher.doFinal(Base64.getDecoder().decode(legacyCipherText)));
+    }
+
+    @Benchmark
+    public String gcmPerCall() throws Exception {
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        SecretKeySpec keySpec = new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "AES");
+        cipher.init(Cipher.DECRYPT_MODE, keySpec, new GCMParameterSpec(128, Arrays.copyOf(gcmPayload, 12)));
+        return new String(cipher.doFinal(gcmPayload, 12, gcmPayload.length - 12), StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public String decrypt() throws Exception {
+        return aes256Util.decrypt(v2CipherText);
+    }
+
+    @Benchmark
+    public String encrypt() throws Exception {
+        return aes256Util.encrypt(CREDENTIALS);
+    }
+
+    @Benchmark
+    public String decryptLegacyFormat() throws Exception {
+        return aes256Util.decrypt(legacyCipherText);
+    }
+
+    @Benchmark
+    public String cachedDecrypt() {
+        return decrypted.getIfPresent(1L);
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.integratedcart.application;
+
+import com.example.integratedcart.infrastructure.BoundedExecutors;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 동시 검색 요청 requests개가 한꺼번에 들어올 때 플랫폼 스레드 모드와 가상 스레드 모드의 처리 시간 비교 (부하 테스트).
+ * - 요청 스레드: platform = Tomcat 기본값과 같은 200개 고정 풀, virtual = 요청마다 가상 스레드
+ * - 요청마다 4개 쇼핑몰 검색을 mallSearchExecutor(BoundedExecutors, 16 스레드 + 대기열 200)에 제출하고,
+ *   각 검색은 ioMillis 동안 블로킹 I/O(브라우저 IPC, HTTP 응답 대기)를 흉내 냅니다.
+ * 한 번의 호출 = 요청 requests개 전체 처리. rejected는 풀이 가득 차 REJECTED로 끝났을 쇼핑몰 검색 수입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ExecutorModeBenchmark {
+
+    private static final int MALLS = 4;
+    private static final int TOMCAT_MAX_THREADS = 200;
+
+    @Param({ "platform", "virtual" })
+    public String mode;
+
+    /**
+     * 동시에 들어오는 검색 요청 수
+     */
+    @Param({ "50", "200", "1000" })
+    public int requests;
+
+    @Param({ "20" })
+    public int ioMillis;
+
+    private ExecutorService requestExecutor;
+    private ExecutorService mallSearchExecutor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        boolean virtual = "virtual".equals(mode);
+        requestExecutor = virtual
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+        mallSearchExecutor = BoundedExecutors.create("mall-search-", 16, 200, virtual);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        requestExecutor.shutdownNow();
+        mallSearchExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public int burst(Outcome outcome) throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(requests);
+        AtomicInteger completed = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        for (int i = 0; i < requests; i++) {
+            requestExecutor.execute(() -> {
+                try {
+                    search(completed, rejected);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        outcome.searches += completed.get();
+        outcome.rejected += rejected.get();
+        return completed.get();
+    }
+
+    private void search(AtomicInteger completed, AtomicInteger rejected) {
+        List<Future<?>> malls = new ArrayList<>(MALLS);
+        for (int m = 0; m < MALLS; m++) {
+            try {
+                malls.add(mallSearchExecutor.submit(this::blockingScrape));
+            } catch (RejectedExecutionException e) {
+                rejected.incrementAndGet();
+            }
+        }
+        for (Future<?> mall : malls) {
+            try {
+                mall.get();
+                completed.incrementAndGet();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+    }
+
+    private void blockingScrape() {
+        try {
+            Thread.sleep(ioMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 반복(iteration)마다 합산되는 쇼핑몰 검색 결과 수
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Outcome {
+
+        public long searches;
+        public long rejected;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            searches = 0;
+            rejected = 0;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.integratedcart.application;
+
+import com.example.integratedcart.domain.product.MallType;
+import com.example.integratedcart.domain.product.Product;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 저장된 응답으로 측정하는 Jackson 파싱 비용.
+ * - 마켓컬리 검색 API 응답 → 상품 목록 (KurlySearchParser 스트리밍 파싱, 비교용 JsonNode 트리 파싱)
+ * - Gemini 레시피 응답 → 재료 JSON (RecipeService가 저장하는 형태)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonParsingBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private KurlySearchParser kurlySearchParser;
+    private String kurlyResponse;
+    private byte[] kurlyResponseBytes;
+    private ProductRelevanceScorer relevanceScorer;
+    private String geminiResponse;
+
+    @Setup
+    public void setUp() {
+        relevanceScorer = new ProductRelevanceScorer();
+        kurlySearchParser = new KurlySearchParser(relevanceScorer);
+        kurlyResponse = BenchmarkFixtures.read("kurly-search.json");
+        kurlyResponseBytes = kurlyResponse.getBytes(StandardCharsets.UTF_8);
+        geminiResponse = BenchmarkFixtures.read("gemini-recipe.txt");
+    }
+
+    @Benchmark
+    public List<Product> parseKurlySearch(KurlyKeyword kurlyKeyword) throws Exception {
+        return kurlySearchParser.parse(kurlyResponse, kurlyKeyword.keyword, 5);
+    }
+
+    @Benchmark
+    public List<Product> parseKurlySearchStream(KurlyKeyword kurlyKeyword) throws Exception {
+        return kurlySearchParser.parse(new ByteArrayInputStream(kurlyResponseBytes), kurlyKeyword.keyword, 5);
+    }
+
+    /**
+     * 이전 방식(응답 전체를 JsonNode 트리로 만든 뒤 탐색) - 스트리밍 파싱과의 비교 기준
+     */
+    @Benchmark
+    public List<Product> parseKurlySearchTree(KurlyKeyword kurlyKeyword) throws Exception {
+        List<Product> products = new ArrayList<>();
+        for (JsonNode section : objectMapper.readTree(kurlyResponse).path("data").path("listSections")) {
+            if ("PRODUCT_LIST".equals(section.path("view").path("sectionCode").asText())) {
+                for (JsonNode item : section.path("data").path("items")) {
+                    if (products.size() >= 5) {
+                        break;
+                    }
+                    String name = item.path("name").asText();
+                    if (relevanceScorer.isRelevant(name, kurlyKeyword.keyword)) {
+                        int price = item.path("discountedPrice").asInt();
+                        products.add(Product.builder()
+                                .mallProductId(item.path("no").asText())
+                                .name(name)
+                                .price(price != 0 ? price : item.path("salesPrice").asInt())
+                                .mallType(MallType.KURLY)
+                                .inStock(!item.path("isSoldOut").asBoolean())
+                                .build());
+                    }
+                }
+                break;
+            }
+        }
+        return products;
+    }
+
+    @Benchmark
+    public String parseGeminiRecipe() throws Exception {
+        JsonNode root = objectMapper.readTree(GeminiRecipeAnalyzer.extractJson(geminiResponse));
+        return objectMapper.writeValueAsString(root.path("ingredients"));
+    }
+
+    @State(Scope.Benchmark)
+    public static class KurlyKeyword {
+
+        /**
+         * 키워드에 따라 관련 상품 5개를 채우기까지 읽는 항목 수가 달라집니다.
+         */
+        @Param({ "계란", "양파", "우유" })
+        public String keyword;
+    }
+}
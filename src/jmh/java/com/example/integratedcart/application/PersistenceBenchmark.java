@@ -0,0 +1,169 @@
+package com.example.integratedcart.application;
+
+import com.example.integratedcart.domain.product.MallType;
+import com.example.integratedcart.domain.product.Product;
+import com.example.integratedcart.domain.recipe.Recipe;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.jpa.HibernatePersistenceProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * H2(메모리)를 로컬 대역으로 사용한 JPA 저장/조회 처리량.
+ * - default: application.yml 그대로 (JDBC batch 없음, 2차 캐시 없음)
+ * - prod: application-prod.yml의 영속성 설정 (batch_size 50 + order_inserts, Caffeine JCache 2차 캐시)
+ * insertProducts는 상품 batchRows개를 한 트랜잭션으로 persist, find*는 새 EntityManager로 ID 조회 한 번입니다.
+ * 절대값은 PostgreSQL과 다르며(네트워크 왕복 없음), 두 설정의 상대 비교용입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PersistenceBenchmark {
+
+    private static final int PRELOADED = 1000;
+
+    @Param({ "default", "prod" })
+    public String profile;
+
+    @Param({ "200" })
+    public int batchRows;
+
+    private HikariDataSource dataSource;
+    private EntityManagerFactory entityManagerFactory;
+    private long[] productIds;
+    private long[] recipeIds;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:persistence-" + profile + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+        dataSource.setMaximumPoolSize(4);
+
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("hibernate.hbm2ddl.auto", "create-drop");
+        properties.put("hibernate.physical_naming_strategy",
+                "org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy");
+        properties.put("hibernate.implicit_naming_strategy",
+                "org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy");
+        if ("prod".equals(profile)) {
+            properties.put("hibernate.jdbc.batch_size", 50);
+            properties.put("hibernate.order_inserts", true);
+            properties.put("hibernate.order_updates", true);
+            properties.put("hibernate.cache.use_second_level_cache", true);
+            properties.put("hibernate.cache.region.factory_class", "jcache");
+            properties.put("hibernate.javax.cache.provider",
+                    "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider");
+            properties.put("hibernate.javax.cache.uri", "classpath:hibernate-jcache.conf");
+        } else {
+            properties.put("hibernate.cache.use_second_level_cache", false);
+        }
+
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(dataSource);
+        factory.setPackagesToScan("com.example.integratedcart.domain");
+        factory.setPersistenceProvider(new HibernatePersistenceProvider());
+        factory.setJpaPropertyMap(properties);
+        factory.afterPropertiesSet();
+        entityManagerFactory = factory.getObject();
+
+        List<Product> products = persistProducts(PRELOADED);
+        productIds = products.stream().mapToLong(Product::getId).toArray();
+        recipeIds = new long[PRELOADED];
+        inTransaction(em -> {
+            for (int i = 0; i < PRELOADED; i++) {
+                Recipe recipe = Recipe.builder()
+                        .name("레시피" + i)
+                        .ingredientsJson("[{\"name\":\"감자\",\"amount\":2,\"unit\":\"개\"}]")
+                        .basePortion(2)
+                        .normalizedName("레시피" + i)
+                        .build();
+                em.persist(recipe);
+                recipeIds[i] = recipe.getId();
+            }
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        entityManagerFactory.close();
+        dataSource.close();
+    }
+
+    @Benchmark
+    public int insertProducts() {
+        return persistProducts(batchRows).size();
+    }
+
+    @Benchmark
+    public Product findProductById() {
+        return find(Product.class, productIds[ThreadLocalRandom.current().nextInt(productIds.length)]);
+    }
+
+    @Benchmark
+    public Recipe findRecipeById() {
+        return find(Recipe.class, recipeIds[ThreadLocalRandom.current().nextInt(recipeIds.length)]);
+    }
+
+    private <T> T find(Class<T> type, long id) {
+        EntityManager em = entityManagerFactory.createEntityManager();
+        try {
+            return em.find(type, id);
+        } finally {
+            em.close();
+        }
+    }
+
+    private List<Product> persistProducts(int count) {
+        MallType[] malls = MallType.values();
+        List<Product> products = new ArrayList<>(count);
+        Instant now = Instant.now();
+        for (int i = 0; i < count; i++) {
+            long n = sequence++;
+            products.add(Product.builder()
+                    .name("상품" + n + " 500g")
+                    .price(1000 + (int) (n % 9000))
+                    .mallType(malls[(int) (n % malls.length)])
+                    .unit("g")
+                    .capacity(500)
+                    .inStock(true)
+                    .mallProductId("bench-" + n)
+                    .lastSeenAt(now)
+                    .build());
+        }
+        inTransaction(em -> products.forEach(em::persist));
+        return products;
+    }
+
+    private void inTransaction(Consumer<EntityManager> work) {
+        EntityManager em = entityManagerFactory.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            work.accept(em);
+            em.getTransaction().commit();
+        } finally {
+            em.close();
+        }
+    }
+}
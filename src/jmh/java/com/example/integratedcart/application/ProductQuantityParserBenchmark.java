@@ -0,0 +1,36 @@
+package com.example.integratedcart.application;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품명 → 용량/단위 추출 (ProductQuantityParser). 스크래퍼가 상품마다 호출합니다.
+ * 상품명은 fixtures/product-titles.tsv를 순서대로 돌며 사용합니다. (기대 용량/단위 확인은 ProductQuantityParserTest)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductQuantityParserBenchmark {
+
+    private String[] titles;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        titles = BenchmarkFixtures.productTitles().stream().map(row -> row[0]).toArray(String[]::new);
+    }
+
+    @Benchmark
+    public ProductQuantityParser.ProductQuantity parse() {
+        String title = titles[next];
+        next = next + 1 == titles.length ? 0 : next + 1;
+        return ProductQuantityParser.parse(title);
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.integratedcart.application;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인분 수 조정 및 구매 수량 계산 (QuantityScalingService).
+ * calculateTargetAmount는 호출마다 INFO, calculatePurchaseQuantity는 DEBUG 로그를 남기므로, 로그 레벨(src/jmh/resources/logback.xml)에 따라 결과가 달라집니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class QuantityScalingBenchmark {
+
+    private QuantityScalingService service;
+    private double amount;
+    private int basePortion;
+    private int targetPortion;
+    private int capacity;
+
+    @Setup
+    public void setUp() {
+        service = new QuantityScalingService();
+        amount = 300;
+        basePortion = 2;
+        targetPortion = 5;
+        capacity = 200;
+    }
+
+    @Benchmark
+    public double calculateTargetAmount() {
+        return service.calculateTargetAmount(amount, basePortion, targetPortion);
+    }
+
+    @Benchmark
+    public int calculatePurchaseQuantity() {
+        return service.calculatePurchaseQuantity(amount * targetPortion / basePortion, capacity);
+    }
+}
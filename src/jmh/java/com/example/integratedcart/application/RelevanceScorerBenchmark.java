@@ -0,0 +1,64 @@
+package com.example.integratedcart.application;
+
+import com.example.integratedcart.domain.product.Product;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품명-키워드 관련도 필터링 (기존 RealMartScraperService.isStrictlyRelevant를 대체한 ProductRelevanceScorer).
+ * 스크래퍼마다 결과 상품 하나당 한 번씩 호출됩니다. 호출당 할당량은 -prof gc로 확인합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RelevanceScorerBenchmark {
+
+    private ProductRelevanceScorer scorer;
+    private String[] names;
+    private String[] normalizedNames;
+    private String[] keywords;
+    private String[] normalizedKeywords;
+
+    @Setup
+    public void setUp() {
+        scorer = new ProductRelevanceScorer();
+        List<Product> products = BenchmarkFixtures.products();
+        names = products.stream().map(Product::getName).toArray(String[]::new);
+        normalizedNames = products.stream().map(p -> KoreanNGram.normalize(p.getName())).toArray(String[]::new);
+        keywords = BenchmarkFixtures.keywords().toArray(String[]::new);
+        normalizedKeywords = BenchmarkFixtures.keywords().stream().map(KoreanNGram::normalize).toArray(String[]::new);
+    }
+
+    /**
+     * 스크래퍼 경로: 원본 상품명과 키워드를 매번 정규화합니다.
+     */
+    @Benchmark
+    public void isRelevant(Blackhole bh) {
+        for (String keyword : keywords) {
+            for (String name : names) {
+                bh.consume(scorer.isRelevant(name, keyword));
+            }
+        }
+    }
+
+    /**
+     * 색인 경로: 정규화된 상품명/키워드로 점수만 계산합니다.
+     */
+    @Benchmark
+    public void scoreNormalized(Blackhole bh) {
+        for (int k = 0; k < keywords.length; k++) {
+            for (String name : normalizedNames) {
+                bh.consume(scorer.score(name, keywords[k], normalizedKeywords[k]));
+            }
+        }
+    }
+}
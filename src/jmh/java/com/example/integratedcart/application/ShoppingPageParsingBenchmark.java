@@ -0,0 +1,62 @@
+package com.example.integratedcart.application;
+
+import com.example.integratedcart.domain.product.Product;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP 단계의 검색 페이지 파싱 비용 (문서 파싱 + 상품 추출).
+ * 네이버 쇼핑은 __NEXT_DATA__ JSON 경로와, 이를 제거한 HTML 카드 경로를 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ShoppingPageParsingBenchmark {
+
+    private NaverShoppingSource naverShoppingSource;
+    private GoogleShoppingSource googleShoppingSource;
+    private String naverHtml;
+    private String naverHtmlWithoutNextData;
+    private String googleHtml;
+
+    @Setup
+    public void setUp() {
+        ProductRelevanceScorer scorer = new ProductRelevanceScorer();
+        naverShoppingSource = new NaverShoppingSource(scorer, null, "https://search.shopping.naver.com");
+        googleShoppingSource = new GoogleShoppingSource(scorer, null, "https://www.google.com");
+        naverHtml = BenchmarkFixtures.read("naver-shopping.html");
+        Document stripped = Jsoup.parse(naverHtml);
+        stripped.select("script#__NEXT_DATA__").remove();
+        naverHtmlWithoutNextData = stripped.outerHtml();
+        googleHtml = BenchmarkFixtures.read("google-shopping.html");
+
+        if (parseNaverNextData().isEmpty() || parseNaverHtml().isEmpty() || parseGoogleHtml().isEmpty()) {
+            throw new IllegalStateException("fixture에서 상품을 추출하지 못했습니다.");
+        }
+    }
+
+    @Benchmark
+    public List<Product> parseNaverNextData() {
+        return naverShoppingSource.fromDocument(Jsoup.parse(naverHtml), "양파", null);
+    }
+
+    @Benchmark
+    public List<Product> parseNaverHtml() {
+        return naverShoppingSource.fromDocument(Jsoup.parse(naverHtmlWithoutNextData), "양파", null);
+    }
+
+    @Benchmark
+    public List<Product> parseGoogleHtml() {
+        return googleShoppingSource.fromDocument(Jsoup.parse(googleHtml), "삼겹살", "쿠팡");
+    }
+}
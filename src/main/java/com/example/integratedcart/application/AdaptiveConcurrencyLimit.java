@@ -0,0 +1,112 @@
+package com.example.integratedcart.application;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * AIMD(additive increase / multiplicative decrease) 방식의 동시 실행 한도.
+ * 목표 지연 시간 안에 성공한 호출마다 한도를 1/한도만큼 늘리고(한 바퀴에 +1),
+ * 지연 시간이 목표를 넘거나 실패하면 한도를 backoff-ratio배로 줄입니다.
+ */
+@Slf4j
+class AdaptiveConcurrencyLimit {
+
+    private final String name;
+    private final double minLimit;
+    private final double maxLimit;
+    private final long latencyTargetMs;
+    private final double backoffRatio;
+    // 모든 검색 요청이 거치는 잠금이라 경합 시 캐리어 스레드를 고정하지 않는 ReentrantLock 사용
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private double limit;
+    private int inFlight;
+    private long rejected;
+
+    AdaptiveConcurrencyLimit(String name, int initialLimit, int minLimit, int maxLimit, long latencyTargetMs,
+                             double backoffRatio) {
+        this.name = name;
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.latencyTargetMs = latencyTargetMs;
+        this.backoffRatio = backoffRatio;
+        this.limit = Math.min(this.maxLimit, Math.max(this.minLimit, initialLimit));
+    }
+
+    boolean tryAcquire() {
+        lock.lock();
+        try {
+            if (inFlight >= (int) limit) {
+                rejected++;
+                return false;
+            }
+            inFlight++;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @param latencyMs 호출 소요 시간
+     * @param failed 실패 여부
+     */
+    void release(long latencyMs, boolean failed) {
+        lock.lock();
+        try {
+            inFlight--;
+            if (failed || latencyMs > latencyTargetMs) {
+                double previous = limit;
+                limit = Math.max(minLimit, limit * backoffRatio);
+                if ((int) previous != (int) limit) {
+                    log.info("{} 동시 검색 한도 축소 {} → {} ({}ms{})", name, (int) previous, (int) limit, latencyMs,
+                            failed ? ", 실패" : "");
+                }
+            } else {
+                limit = Math.min(maxLimit, limit + 1 / limit);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 한도 조정 없이 자리만 반환합니다. (쇼핑몰 응답과 무관하게 끝난 경우)
+     */
+    void releaseUnused() {
+        lock.lock();
+        try {
+            inFlight--;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int limit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int inFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long rejected() {
+        lock.lock();
+        try {
+            return rejected;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,294 @@
+package com.example.integratedcart.application;
+
+import com.example.integratedcart.domain.automation.AutomationJob;
+import com.example.integratedcart.domain.automation.AutomationJobRepository;
+import com.example.integratedcart.domain.automation.AutomationJobStatus;
+import com.example.integratedcart.domain.automation.AutomationJobType;
+import com.example.integratedcart.domain.product.MallType;
+import com.example.integratedcart.infrastructure.PlaywrightScraperService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * 장바구니 담기/결제 자동화 작업 큐.
+ * - 제출 즉시 쇼핑몰별 작업을 DB에 저장하고 작업 그룹 ID를 반환합니다. (요청 스레드는 브라우저를 기다리지 않음)
+ * - 작업은 automationExecutor에서 실행되며, 쇼핑몰별 동시 실행 수(app.automation.max-concurrent.&lt;mall&gt;)를 넘는 작업은
+ *   쇼핑몰별 대기열에서 기다립니다. 한 그룹의 서로 다른 쇼핑몰 작업은 병렬로 실행됩니다.
+ * - 상태가 바뀔 때마다 저장하고 구독자(SSE)에게 알립니다. 클라이언트는 그룹 ID로 조회(polling)할 수도 있습니다.
+ * - 재기동 시 대기 중이던 작업은 다시 대기열에 넣고, 실행 중이던 장바구니 작업은 재시도합니다.
+ *   실행 중이던 결제 작업은 중복 결제를 막기 위해 재시도하지 않고 실패로 기록합니다.
+ */
+@Slf4j
+@Service
+public class AutomationJobService {
+
+    private final AutomationJobRepository jobRepository;
+    private final MallCredentialService mallCredentialService;
+    private final PlaywrightScraperService scraperService;
+    private final ExecutorService executor;
+    private final int maxAttempts;
+    private final Duration retention;
+
+    private final Map<MallType, Semaphore> slots = new EnumMap<>(MallType.class);
+    private final Map<MallType, Integer> limits = new EnumMap<>(MallType.class);
+    private final Map<MallType, Deque<Long>> waiting = new EnumMap<>(MallType.class);
+    private final Map<String, List<Consumer<AutomationJob>>> listeners = new ConcurrentHashMap<>();
+
+    public AutomationJobService(AutomationJobRepository jobRepository,
+                                MallCredentialService mallCredentialService,
+                                PlaywrightScraperService scraperService,
+                                @Qualifier("automationExecutor") ExecutorService executor,
+                                Environment environment,
+                                @Value("${app.automation.max-concurrent.default:1}") int defaultMaxConcurrent,
+                                @Value("${app.automation.max-attempts:2}") int maxAttempts,
+                                @Value("${app.automation.retention-days:7}") long retentionDays) {
+        this.jobRepository = jobRepository;
+        this.mallCredentialService = mallCredentialService;
+        this.scraperService = scraperService;
+        this.executor = executor;
+        this.maxAttempts = maxAttempts;
+        this.retention = Duration.ofDays(retentionDays);
+        for (MallType type : MallType.values()) {
+            int limit = environment.getProperty("app.automation.max-concurrent." + type.name().toLowerCase(Locale.ROOT),
+                    Integer.class, defaultMaxConcurrent);
+            limits.put(type, limit);
+            slots.put(type, new Semaphore(limit));
+            waiting.put(type, new ConcurrentLinkedDeque<>());
+        }
+    }
+
+    /**
+     * 쇼핑몰별 작업을 만들어 대기열에 넣습니다.
+     * @param userId 사용자 ID
+     * @param type 작업 종류
+     * @param malls 대상 쇼핑몰 (쇼핑몰마다 작업 하나)
+     * @param productsJson 담을 상품 목록 (JSON)
+     * @return 생성된 작업 (같은 groupId)
+     * @throws IllegalArgumentException 사용자가 없거나 쇼핑몰이 비어 있는 경우
+     */
+    public List<AutomationJob> submit(Long userId, AutomationJobType type, Collection<MallType> malls,
+                                      String productsJson) {
+        mallCredentialService.requireUser(userId);
+        if (malls.isEmpty()) {
+            throw new IllegalArgumentException("쇼핑몰을 하나 이상 선택해 주세요.");
+        }
+        String groupId = UUID.randomUUID().toString();
+        Instant now = Instant.now();
+        List<AutomationJob> jobs = new ArrayList<>(malls.size());
+        for (MallType mall : malls) {
+            jobs.add(AutomationJob.builder()
+                    .groupId(groupId)
+                    .userId(userId)
+                    .mallType(mall)
+                    .type(type)
+                    .productsJson(productsJson)
+                    .now(now)
+                    .build());
+        }
+        List<AutomationJob> saved = jobRepository.saveAll(jobs);
+        log.info("자동화 작업 제출 - 그룹 {}, {} {}", groupId, type, malls);
+        for (AutomationJob job : saved) {
+            enqueue(job.getMallType(), job.getId());
+        }
+        return saved;
+    }
+
+    public List<AutomationJob> findGroup(String groupId) {
+        return jobRepository.findByGroupIdOrderByIdAsc(groupId);
+    }
+
+    /**
+     * 그룹의 작업 상태가 바뀔 때마다 listener를 호출합니다. listener는 작업 실행 스레드에서 호출됩니다.
+     * @return 구독 해제
+     */
+    public Runnable subscribe(String groupId, Consumer<AutomationJob> listener) {
+        listeners.computeIfAbsent(groupId, k -> new CopyOnWriteArrayList<>()).add(listener);
+        return () -> listeners.computeIfPresent(groupId, (k, list) -> {
+            list.remove(listener);
+            return list.isEmpty() ? null : list;
+        });
+    }
+
+    /**
+     * 재기동 전에 끝나지 않은 작업을 이어서 실행합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinished() {
+        List<AutomationJob> unfinished = jobRepository.findByStatusInOrderByIdAsc(
+                List.of(AutomationJobStatus.QUEUED, AutomationJobStatus.RUNNING));
+        int resumed = 0;
+        for (AutomationJob job : unfinished) {
+            if (job.getStatus() == AutomationJobStatus.RUNNING) {
+                if (job.getType() == AutomationJobType.CHECKOUT) {
+                    job.fail(Instant.now(), "서버 재시작으로 중단되었습니다. 결제 진행 여부를 쇼핑몰에서 확인해 주세요.");
+                    jobRepository.save(job);
+                    continue;
+                }
+                if (job.getAttempts() >= maxAttempts) {
+                    job.fail(Instant.now(), "서버 재시작으로 중단되었습니다.");
+                    jobRepository.save(job);
+                    continue;
+                }
+                job.requeue("서버 재시작 후 다시 대기 중");
+                jobRepository.save(job);
+            }
+            enqueue(job.getMallType(), job.getId());
+            resumed++;
+        }
+        if (!unfinished.isEmpty()) {
+            log.info("미완료 자동화 작업 {}건 중 {}건 재개", unfinished.size(), resumed);
+        }
+    }
+
+    /**
+     * 실행 풀이 가득 차 넘기지 못한 작업을 주기적으로 다시 넘깁니다.
+     */
+    @Scheduled(fixedDelayString = "${app.automation.dispatch-interval-ms:5000}")
+    public void dispatchWaiting() {
+        for (MallType mall : MallType.values()) {
+            drain(mall);
+        }
+    }
+
+    /**
+     * 매일 새벽 끝난 지 오래된 작업을 정리합니다.
+     */
+    @Transactional
+    @Scheduled(cron = "${app.automation.prune-cron:0 40 4 * * *}")
+    public void pruneFinished() {
+        int removed = jobRepository.deleteFinishedBefore(Instant.now().minus(retention));
+        if (removed > 0) {
+            log.info("자동화 작업 정리 - {}건 삭제", removed);
+        }
+    }
+
+    private void enqueue(MallType mall, Long jobId) {
+        waiting.get(mall).offerLast(jobId);
+        drain(mall);
+    }
+
+    /**
+     * 쇼핑몰의 빈 자리만큼 대기 중인 작업을 실행 풀에 넘깁니다.
+     */
+    private void drain(MallType mall) {
+        Semaphore slot = slots.get(mall);
+        Deque<Long> queue = waiting.get(mall);
+        while (!queue.isEmpty() && slot.tryAcquire()) {
+            Long jobId = queue.pollFirst();
+            if (jobId == null) {
+                slot.release();
+                continue;
+            }
+            try {
+                executor.execute(() -> run(mall, jobId));
+            } catch (RejectedExecutionException e) {
+                slot.release();
+                queue.offerFirst(jobId);
+                log.warn("자동화 작업 실행 풀 포화 - {} 작업 {} 대기", mall, jobId);
+                return;
+            }
+        }
+    }
+
+    private void run(MallType mall, Long jobId) {
+        try {
+            AutomationJob job = jobRepository.findById(jobId).orElse(null);
+            if (job == null || job.getStatus() != AutomationJobStatus.QUEUED) {
+                return;
+            }
+            job = update(jobId, j -> j.start(Instant.now()));
+            log.info("자동화 작업 시작 - {} {} (작업 {}, 시도 {})", mall, job.getType(), jobId, job.getAttempts());
+
+            String credentials = mallCredentialService.decrypt(job.getUserId(), mall);
+            AtomicReference<String> lastMessage = new AtomicReference<>();
+            Consumer<String> progress = message -> {
+                lastMessage.set(message);
+                update(jobId, j -> j.progress(message));
+            };
+            boolean succeeded = job.getType() == AutomationJobType.CHECKOUT
+                    ? scraperService.executeAutoCheckout(mall.name(), credentials, job.getProductsJson(), progress)
+                    : scraperService.executeAutoCartAddition(mall.name(), credentials, job.getProductsJson(), progress);
+
+            if (succeeded) {
+                String message = job.getType() == AutomationJobType.CHECKOUT ? "결제 요청 완료" : "장바구니 담기 완료";
+                update(jobId, j -> j.succeed(Instant.now(), message));
+            } else {
+                String message = lastMessage.get() != null ? lastMessage.get() : "자동화 실패";
+                update(jobId, j -> j.fail(Instant.now(), message));
+            }
+        } catch (Exception e) {
+            log.error("자동화 작업 실패 - {} 작업 {}: {}", mall, jobId, e.getMessage());
+            try {
+                update(jobId, j -> j.fail(Instant.now(), e.getMessage()));
+            } catch (Exception ignored) {
+                // 재기동 시 RUNNING 상태로 남은 작업으로 처리됨
+            }
+        } finally {
+            slots.get(mall).release();
+            drain(mall);
+        }
+    }
+
+    private AutomationJob update(Long jobId, Consumer<AutomationJob> change) {
+        AutomationJob job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new IllegalStateException("자동화 작업을 찾을 수 없습니다: " + jobId));
+        change.accept(job);
+        AutomationJob saved = jobRepository.save(job);
+        publish(saved);
+        return saved;
+    }
+
+    private void publish(AutomationJob job) {
+        for (Consumer<AutomationJob> listener : listeners.getOrDefault(job.getGroupId(), List.of())) {
+            try {
+                listener.accept(job);
+            } catch (RuntimeException e) {
+                log.debug("자동화 작업 알림 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    public Map<MallType, AutomationStats> getStats() {
+        Map<MallType, AutomationStats> stats = new EnumMap<>(MallType.class);
+        for (MallType mall : MallType.values()) {
+            int limit = limits.get(mall);
+            stats.put(mall, new AutomationStats(limit, limit - slots.get(mall).availablePermits(),
+                    waiting.get(mall).size()));
+        }
+        return stats;
+    }
+
+    /**
+     * @param maxConcurrent 쇼핑몰별 동시 실행 한도
+     * @param running 실행 중(실행 풀에 넘긴) 작업 수
+     * @param waiting 대기열의 작업 수
+     */
+    public record AutomationStats(int maxConcurrent, int running, int waiting) {
+    }
+}
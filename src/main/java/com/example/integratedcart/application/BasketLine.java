@@ -0,0 +1,16 @@
+package com.example.integratedcart.application;
+
+import com.example.integratedcart.domain.product.MallType;
+import com.example.integratedcart.domain.product.Product;
+
+import java.util.Map;
+
+/**
+ * 장바구니의 재료 한 줄: 인분 조정된 필요량, 선정된 상품, 쇼핑몰별 검색 결과.
+ * @param requirement 인분 조정 및 중복 제거가 끝난 재료
+ * @param selected 선정된 상품 (찾지 못하면 null)
+ * @param mallResults 쇼핑몰별 검색 결과
+ */
+public record BasketLine(IngredientRequirement requirement, Product selected,
+                         Map<MallType, MallSearchResult> mallResults) {
+}
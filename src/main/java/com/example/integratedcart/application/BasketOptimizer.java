@@ -0,0 +1,399 @@
+package com.example.integratedcart.application;
+
+import com.example.integratedcart.domain.product.MallType;
+import com.example.integratedcart.domain.product.Product;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 재료별 후보 상품 전체를 보고 배송비와 쇼핑몰 수까지 포함한 총비용이 가장 낮은 장바구니를 구성합니다.
+ *
+ * 목적 함수 = Σ 상품 가격 × 구매 수량 + Σ 쇼핑몰 배송비(무료 배송 기준 미만일 때) + 쇼핑몰 수 × mall-penalty
+ *
+ * 사용할 쇼핑몰 조합(부분집합)마다 분기 한정(branch-and-bound)으로 재료를 쇼핑몰에 배정합니다.
+ * - 하한: 남은 재료의 조합 내 최저 비용 + 쇼핑몰별로 min(배송비, 무료 배송 기준까지 채우는 데 드는 최소 추가 비용)
+ *   (추가 비용은 "최저가 대비 추가 금액 / 상품 금액" 비율 순으로 채우는 분할 배낭 완화로 계산)
+ * - 재료는 조합 내 1, 2순위 비용 차이(regret)가 큰 순서로 배정
+ * 같은 쇼핑몰 안에서는 재료별로 가장 싼 상품만 고려합니다. (기준 금액을 채우려고 더 비싼 상품으로 바꾸는 경우는 제외)
+ * 탐색 노드 수가 max-search-nodes를 넘으면 그때까지 찾은 최선의 해를 반환합니다.
+ */
+@Slf4j
+@Component
+public class BasketOptimizer {
+
+    private static final MallType[] MALLS = MallType.values();
+    private static final int INF = Integer.MAX_VALUE / 4;
+
+    private final QuantityScalingService quantityScalingService;
+    private final int[] shippingFee = new int[MALLS.length];
+    private final int[] freeShippingThreshold = new int[MALLS.length];
+    private final int mallPenalty;
+    private final long maxSearchNodes;
+
+    public BasketOptimizer(QuantityScalingService quantityScalingService, Environment environment,
+                           @Value("${app.basket.mall-penalty:1000}") int mallPenalty,
+                           @Value("${app.basket.max-search-nodes:200000}") long maxSearchNodes) {
+        this.quantityScalingService = quantityScalingService;
+        this.mallPenalty = mallPenalty;
+        this.maxSearchNodes = maxSearchNodes;
+        // 쇼핑몰별 배송 정책: app.basket.shipping.<mall>.fee / free-threshold
+        for (MallType type : MALLS) {
+            String prefix = "app.basket.shipping." + type.name().toLowerCase(Locale.ROOT) + ".";
+            shippingFee[type.ordinal()] = environment.getProperty(prefix + "fee", Integer.class, 3000);
+            freeShippingThreshold[type.ordinal()] = environment.getProperty(prefix + "free-threshold", Integer.class, 0);
+        }
+    }
+
+    /**
+     * @param lines 재료별 쇼핑몰 검색 결과 (필요량은 인분 조정이 끝난 값)
+     */
+    public BasketPlan optimize(List<BasketLine> lines) {
+        long start = System.nanoTime();
+        List<String> unavailable = new ArrayList<>();
+        List<Choice[]> choices = new ArrayList<>();
+        for (BasketLine line : lines) {
+            Choice[] best = bestChoicePerMall(line);
+            if (best == null) {
+                unavailable.add(line.requirement().name());
+            } else {
+                choices.add(best);
+            }
+        }
+        if (choices.isEmpty()) {
+            return new BasketPlan(List.of(), Map.of(), unavailable, 0, 0, 0, true);
+        }
+
+        Search search = new Search(choices);
+        search.run();
+        BasketPlan plan = toPlan(choices, search.bestAssignment, unavailable, search.nodes <= maxSearchNodes);
+        log.debug("장바구니 최적화 - 재료 {}개, 탐색 노드 {}개, {}μs, 합계 {}원{}", choices.size(), search.nodes,
+                (System.nanoTime() - start) / 1000, plan.total(), plan.optimal() ? "" : " (탐색 한도 도달)");
+        return plan;
+    }
+
+    /**
+     * 쇼핑몰별로 이 재료를 가장 싸게 살 수 있는 상품과 수량. 후보가 전혀 없으면 null
+     */
+    private Choice[] bestChoicePerMall(BasketLine line) {
+        Choice[] best = new Choice[MALLS.length];
+        boolean any = false;
+        for (MallSearchResult result : line.mallResults().values()) {
+            for (Product p : result.products()) {
+                if (p.getPrice() == null || p.getPrice() <= 0 || Boolean.FALSE.equals(p.getInStock())) {
+                    continue;
+                }
+                int quantity = purchaseQuantity(line.requirement(), p);
+                long cost = (long) p.getPrice() * quantity;
+                int k = p.getMallType().ordinal();
+                if (cost < INF && (best[k] == null || cost < best[k].cost())) {
+                    best[k] = new Choice(line.requirement(), p, quantity, (int) cost);
+                    any = true;
+                }
+            }
+        }
+        return any ? best : null;
+    }
+
+    /**
+     * 필요량과 상품 단위가 같으면 용량 기준 구매 수량, 단위가 다르면 1개
+     */
+    private int purchaseQuantity(IngredientRequirement requirement, Product product) {
+        if (requirement.unit() == null || product.getUnit() == null || product.getCapacity() == null
+                || product.getCapacity() <= 0 || !requirement.unit().equalsIgnoreCase(product.getUnit())) {
+            return 1;
+        }
+        return Math.max(1, quantityScalingService.calculatePurchaseQuantity(requirement.amount(), product.getCapacity()));
+    }
+
+    private BasketPlan toPlan(List<Choice[]> choices, int[] assignment, List<String> unavailable, boolean optimal) {
+        List<BasketPlan.Item> items = new ArrayList<>(choices.size());
+        int[] subtotal = new int[MALLS.length];
+        for (int i = 0; i < choices.size(); i++) {
+            Choice c = choices.get(i)[assignment[i]];
+            items.add(new BasketPlan.Item(c.requirement(), c.product(), c.quantity(), c.cost()));
+            subtotal[assignment[i]] += c.cost();
+        }
+        Map<MallType, BasketPlan.MallOrder> malls = new EnumMap<>(MallType.class);
+        int itemsTotal = 0;
+        int shippingTotal = 0;
+        for (int k = 0; k < MALLS.length; k++) {
+            boolean used = false;
+            for (int a : assignment) {
+                used |= a == k;
+            }
+            if (!used) {
+                continue;
+            }
+            int fee = fee(k, subtotal[k]);
+            malls.put(MALLS[k], new BasketPlan.MallOrder(subtotal[k], fee, freeShippingThreshold[k]));
+            itemsTotal += subtotal[k];
+            shippingTotal += fee;
+        }
+        return new BasketPlan(items, malls, unavailable, itemsTotal, shippingTotal, itemsTotal + shippingTotal,
+                optimal);
+    }
+
+    private int fee(int mall, int subtotal) {
+        return subtotal >= freeShippingThreshold[mall] ? 0 : shippingFee[mall];
+    }
+
+    private record Choice(IngredientRequirement requirement, Product product, int quantity, int cost) {
+    }
+
+    /**
+     * 한 번의 최적화 탐색 상태
+     */
+    private final class Search {
+
+        private final int n;
+        private final int[][] cost;
+        private int[] bestAssignment;
+        private long bestCost = Long.MAX_VALUE;
+        private long nodes;
+
+        // 현재 탐색 중인 쇼핑몰 조합 기준 값
+        private int[] mallsInMask;
+        private int[] order;
+        private long[] suffixMin;
+        private long[][] suffixCapacity;
+        private int[][] byRatio;
+        private int[] minCost;
+        private int[] subtotal;
+        private int[] itemCount;
+        private int[] assignment;
+        private long fixedCost;
+
+        private Search(List<Choice[]> choices) {
+            this.n = choices.size();
+            this.cost = new int[n][MALLS.length];
+            for (int i = 0; i < n; i++) {
+                for (int k = 0; k < MALLS.length; k++) {
+                    Choice c = choices.get(i)[k];
+                    cost[i][k] = c != null ? c.cost() : INF;
+                }
+            }
+        }
+
+        private void run() {
+            greedyUpperBound();
+            for (int mask = 1; mask < 1 << MALLS.length && nodes <= maxSearchNodes; mask++) {
+                if (prepare(mask)) {
+                    assignment = new int[n];
+                    subtotal = new int[MALLS.length];
+                    itemCount = new int[MALLS.length];
+                    branch(0, 0);
+                }
+            }
+        }
+
+        /**
+         * 재료별 최저가 쇼핑몰 배정을 초기 상한으로 사용
+         */
+        private void greedyUpperBound() {
+            int[] greedy = new int[n];
+            for (int i = 0; i < n; i++) {
+                for (int k = 1; k < MALLS.length; k++) {
+                    if (cost[i][k] < cost[i][greedy[i]]) {
+                        greedy[i] = k;
+                    }
+                }
+            }
+            bestAssignment = greedy;
+            bestCost = evaluate(greedy);
+        }
+
+        private long evaluate(int[] candidate) {
+            int[] totals = new int[MALLS.length];
+            boolean[] used = new boolean[MALLS.length];
+            long total = 0;
+            for (int i = 0; i < n; i++) {
+                totals[candidate[i]] += cost[i][candidate[i]];
+                used[candidate[i]] = true;
+            }
+            for (int k = 0; k < MALLS.length; k++) {
+                if (used[k]) {
+                    total += totals[k] + fee(k, totals[k]) + mallPenalty;
+                }
+            }
+            return total;
+        }
+
+        /**
+         * 조합(mask)의 모든 쇼핑몰을 실제로 사용하는 배정만 탐색하도록 정렬/하한용 값을 준비합니다.
+         * @return 탐색할 가치가 있으면 true
+         */
+        private boolean prepare(int mask) {
+            mallsInMask = new int[Integer.bitCount(mask)];
+            for (int k = 0, j = 0; k < MALLS.length; k++) {
+                if ((mask & 1 << k) != 0) {
+                    mallsInMask[j++] = k;
+                }
+            }
+            fixedCost = (long) mallPenalty * mallsInMask.length;
+
+            // 재료별 조합 내 최저/차순위 비용
+            minCost = new int[n];
+            int[] regret = new int[n];
+            long lowerBound = fixedCost;
+            boolean[] mallUsable = new boolean[MALLS.length];
+            for (int i = 0; i < n; i++) {
+                int first = INF;
+                int second = INF;
+                for (int k : mallsInMask) {
+                    int c = cost[i][k];
+                    if (c < INF) {
+                        mallUsable[k] = true;
+                    }
+                    if (c < first) {
+                        second = first;
+                        first = c;
+                    } else if (c < second) {
+                        second = c;
+                    }
+                }
+                if (first >= INF) {
+                    return false; // 이 조합으로는 살 수 없는 재료가 있음
+                }
+                minCost[i] = first;
+                regret[i] = second >= INF ? INF : second - first;
+                lowerBound += first;
+            }
+            for (int k : mallsInMask) {
+                if (!mallUsable[k]) {
+                    return false;
+                }
+            }
+            if (lowerBound >= bestCost) {
+                return false;
+            }
+
+            Integer[] sorted = new Integer[n];
+            for (int i = 0; i < n; i++) {
+                sorted[i] = i;
+            }
+            Arrays.sort(sorted, Comparator.comparingInt((Integer i) -> regret[i]).reversed());
+            order = new int[n];
+            for (int d = 0; d < n; d++) {
+                order[d] = sorted[d];
+            }
+
+            // depth 이후 재료들의 최저 비용 합, 쇼핑몰별로 담을 수 있는 최대 금액
+            suffixMin = new long[n + 1];
+            suffixCapacity = new long[MALLS.length][n + 1];
+            for (int d = n - 1; d >= 0; d--) {
+                int i = order[d];
+                suffixMin[d] = suffixMin[d + 1] + minCost[i];
+                for (int k : mallsInMask) {
+                    suffixCapacity[k][d] = suffixCapacity[k][d + 1] + (cost[i][k] < INF ? cost[i][k] : 0);
+                }
+            }
+
+            // 쇼핑몰별로 "최저가 대비 추가 금액 / 상품 금액" 비율이 낮은 재료 순서 (depth 기준 인덱스)
+            byRatio = new int[MALLS.length][];
+            for (int k : mallsInMask) {
+                List<Integer> depths = new ArrayList<>();
+                for (int d = 0; d < n; d++) {
+                    if (cost[order[d]][k] < INF) {
+                        depths.add(d);
+                    }
+                }
+                final int mall = k;
+                depths.sort(Comparator.comparingDouble(d ->
+                        (double) (cost[order[d]][mall] - minCost[order[d]]) / cost[order[d]][mall]));
+                byRatio[k] = depths.stream().mapToInt(Integer::intValue).toArray();
+            }
+            return true;
+        }
+
+        private void branch(int depth, long itemsCost) {
+            if (++nodes > maxSearchNodes) {
+                return;
+            }
+            if (depth == n) {
+                long total = itemsCost + fixedCost;
+                for (int k : mallsInMask) {
+                    if (itemCount[k] == 0) {
+                        return; // 조합의 쇼핑몰을 모두 사용하는 배정만 (더 작은 조합에서 따로 탐색)
+                    }
+                    total += fee(k, subtotal[k]);
+                }
+                if (total < bestCost) {
+                    bestCost = total;
+                    bestAssignment = assignment.clone();
+                }
+                return;
+            }
+            long bound = itemsCost + suffixMin[depth] + fixedCost;
+            for (int k : mallsInMask) {
+                if (itemCount[k] == 0 && suffixCapacity[k][depth] == 0) {
+                    return;
+                }
+                bound += shippingLowerBound(k, depth);
+            }
+            if (bound >= bestCost) {
+                return;
+            }
+
+            int i = order[depth];
+            // 싼 쇼핑몰부터 배정
+            int[] malls = mallsInMask.clone();
+            for (int a = 1; a < malls.length; a++) {
+                for (int b = a; b > 0 && cost[i][malls[b]] < cost[i][malls[b - 1]]; b--) {
+                    int t = malls[b];
+                    malls[b] = malls[b - 1];
+                    malls[b - 1] = t;
+                }
+            }
+            for (int k : malls) {
+                int c = cost[i][k];
+                if (c >= INF) {
+                    break;
+                }
+                assignment[i] = k;
+                subtotal[k] += c;
+                itemCount[k]++;
+                branch(depth + 1, itemsCost + c);
+                subtotal[k] -= c;
+                itemCount[k]--;
+            }
+        }
+
+        /**
+         * 쇼핑몰 k의 배송비 하한: 기준 금액을 못 채우면 배송비, 채울 수 있으면 채우는 데 드는 최소 추가 비용과 배송비 중 작은 값
+         */
+        private long shippingLowerBound(int k, int depth) {
+            long deficit = (long) freeShippingThreshold[k] - subtotal[k];
+            if (deficit <= 0 || shippingFee[k] == 0) {
+                return 0;
+            }
+            if (suffixCapacity[k][depth] < deficit) {
+                return shippingFee[k];
+            }
+            double extra = 0;
+            for (int d : byRatio[k]) {
+                if (d < depth) {
+                    continue;
+                }
+                int i = order[d];
+                int c = cost[i][k];
+                double take = Math.min(c, deficit);
+                extra += (double) (c - minCost[i]) * take / c;
+                deficit -= (long) take;
+                if (deficit <= 0 || extra >= shippingFee[k]) {
+                    break;
+                }
+            }
+            return Math.min(shippingFee[k], (long) Math.floor(extra));
+        }
+    }
+}
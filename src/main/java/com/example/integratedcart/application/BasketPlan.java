@@ -0,0 +1,38 @@
+package com.example.integratedcart.application;
+
+import com.example.integratedcart.domain.product.MallType;
+import com.example.integratedcart.domain.product.Product;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 배송비까지 고려해 최적화한 장바구니 구성.
+ * @param items 재료별 선택 상품과 구매 수량
+ * @param malls 주문하는 쇼핑몰별 상품 합계와 배송비
+ * @param unavailable 어느 쇼핑몰에서도 상품을 찾지 못한 재료
+ * @param itemsTotal 상품 금액 합계
+ * @param shippingTotal 배송비 합계
+ * @param total 결제 예상 금액 (상품 + 배송비)
+ * @param optimal 탐색 한도 안에 최적해를 확인했는지 여부 (false면 찾은 해 중 최선)
+ */
+public record BasketPlan(List<Item> items, Map<MallType, MallOrder> malls, List<String> unavailable, int itemsTotal,
+                         int shippingTotal, int total, boolean optimal) {
+
+    /**
+     * @param requirement 재료
+     * @param product 선택된 상품
+     * @param quantity 구매 수량
+     * @param cost 상품 가격 × 수량
+     */
+    public record Item(IngredientRequirement requirement, Product product, int quantity, int cost) {
+    }
+
+    /**
+     * @param itemsTotal 이 쇼핑몰의 상품 금액 합계
+     * @param shippingFee 부과되는 배송비 (무료 배송 기준 이상이면 0)
+     * @param freeShippingThreshold 무료 배송 기준 금액
+     */
+    public record MallOrder(int itemsTotal, int shippingFee, int freeShippingThreshold) {
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.integratedcart.application;
+
+/**
+ * 스트리밍 일괄 검색의 진행 상황을 받습니다.
+ * 메서드는 검색 작업 스레드에서 호출되므로 구현은 스레드 안전해야 합니다.
+ */
+public interface BasketSearchListener {
+
+    /**
+     * 재료 하나의 쇼핑몰 하나에 대한 검색이 끝났을 때 호출됩니다.
+     */
+    void onMallResult(IngredientRequirement requirement, MallSearchResult result);
+
+    /**
+     * 재료 하나의 모든 쇼핑몰 검색이 끝나 최저가가 선정되었을 때 호출됩니다.
+     */
+    void onLine(BasketLine line);
+}
@@ -0,0 +1,13 @@
+package com.example.integratedcart.application;
+
+import java.util.List;
+
+/**
+ * 레시피 전체 재료에 대한 일괄 검색 결과.
+ * @param lines 재료별 결과
+ * @param totalPrice 선정된 상품 가격 합계
+ * @param plan 배송비/쇼핑몰 수까지 고려해 최적화한 장바구니 구성
+ * @param elapsedMs 전체 소요 시간
+ */
+public record BasketSearchResult(List<BasketLine> lines, int totalPrice, BasketPlan plan, long elapsedMs) {
+}
@@ -0,0 +1,201 @@
+package com.example.integratedcart.application;
+
+import com.example.integratedcart.domain.product.MallType;
+import com.example.integratedcart.domain.product.Product;
+import com.example.integratedcart.domain.recipe.Recipe;
+import com.example.integratedcart.domain.recipe.RecipeRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 레시피의 모든 재료를 한 번의 호출로 검색하여 장바구니를 구성합니다.
+ * 인분 수에 맞춰 양을 조정하고, 중복 재료를 합친 뒤, 모든 재료 × 쇼핑몰 검색을
+ * 하나의 전체 시간 예산 안에서 동시에 실행합니다.
+ * 재료별 최저가와 함께 배송비를 고려한 장바구니 구성({@link BasketOptimizer})을 제공합니다.
+ */
+@Slf4j
+@Service
+public class BasketSearchService {
+
+    private final RecipeRepository recipeRepository;
+    private final QuantityScalingService quantityScalingService;
+    private final MallSearchOrchestrator mallSearchOrchestrator;
+    private final CheapestProductSelector cheapestProductSelector;
+    private final BasketOptimizer basketOptimizer;
+    private final ObjectMapper objectMapper;
+    private final Duration budget;
+
+    public BasketSearchService(RecipeRepository recipeRepository,
+                               QuantityScalingService quantityScalingService,
+                               MallSearchOrchestrator mallSearchOrchestrator,
+                               CheapestProductSelector cheapestProductSelector,
+                               BasketOptimizer basketOptimizer,
+                               ObjectMapper objectMapper,
+                               @Value("${app.search.batch-budget-ms:15000}") long budgetMs) {
+        this.recipeRepository = recipeRepository;
+        this.quantityScalingService = quantityScalingService;
+        this.mallSearchOrchestrator = mallSearchOrchestrator;
+        this.cheapestProductSelector = cheapestProductSelector;
+        this.basketOptimizer = basketOptimizer;
+        this.objectMapper = objectMapper;
+        this.budget = Duration.ofMillis(budgetMs);
+    }
+
+    /**
+     * 저장된 레시피의 재료를 목표 인분 수 기준으로 검색합니다.
+     * @param recipeId 레시피 ID
+     * @param targetPortion 목표 인분 수
+     * @param malls 검색할 쇼핑몰
+     */
+    public BasketSearchResult searchRecipe(Long recipeId, int targetPortion, Collection<MallType> malls) {
+        Recipe recipe = findRecipe(recipeId);
+        return search(parseIngredients(recipe.getIngredientsJson()), recipe.getBasePortion(), targetPortion, malls);
+    }
+
+    /**
+     * {@link #searchRecipe(Long, int, Collection)}의 스트리밍 버전.
+     */
+    public CompletableFuture<BasketSearchResult> streamRecipe(Long recipeId, int targetPortion,
+                                                              Collection<MallType> malls,
+                                                              BasketSearchListener listener) {
+        Recipe recipe = findRecipe(recipeId);
+        return stream(parseIngredients(recipe.getIngredientsJson()), recipe.getBasePortion(), targetPortion, malls,
+                listener);
+    }
+
+    /**
+     * 재료 목록을 목표 인분 수 기준으로 검색합니다.
+     * @param ingredients 기준 인분 수 기준의 재료 목록
+     * @param basePortion 재료 목록의 기준 인분 수
+     * @param targetPortion 목표 인분 수
+     * @param malls 검색할 쇼핑몰
+     */
+    public BasketSearchResult search(List<IngredientRequirement> ingredients, int basePortion, int targetPortion,
+                                     Collection<MallType> malls) {
+        long start = System.nanoTime();
+        Collection<IngredientRequirement> requirements = scaleAndMerge(ingredients, basePortion, targetPortion);
+        log.info("일괄 검색 시작 - 재료 {}개 (중복 제거 전 {}개), 쇼핑몰: {}", requirements.size(), ingredients.size(), malls);
+
+        // 1. 모든 재료 × 쇼핑몰 검색을 먼저 제출 (같은 시간 예산 공유)
+        List<MallSearchOrchestrator.PendingSearch> pending = new ArrayList<>(requirements.size());
+        for (IngredientRequirement requirement : requirements) {
+            pending.add(mallSearchOrchestrator.submit(requirement.name(), requirement.amount(), malls, budget));
+        }
+
+        // 2. 결과 수집 및 재료별 최저가 선정
+        List<BasketLine> lines = new ArrayList<>(requirements.size());
+        int i = 0;
+        for (IngredientRequirement requirement : requirements) {
+            lines.add(toLine(requirement, mallSearchOrchestrator.await(pending.get(i++))));
+        }
+        return toResult(lines, start);
+    }
+
+    /**
+     * {@link #search(List, int, int, Collection)}의 스트리밍 버전.
+     * 쇼핑몰 검색이 끝날 때마다, 그리고 재료별 최저가가 정해질 때마다 listener로 알립니다.
+     * 호출 스레드를 막지 않습니다.
+     */
+    public CompletableFuture<BasketSearchResult> stream(List<IngredientRequirement> ingredients, int basePortion,
+                                                        int targetPortion, Collection<MallType> malls,
+                                                        BasketSearchListener listener) {
+        long start = System.nanoTime();
+        Collection<IngredientRequirement> requirements = scaleAndMerge(ingredients, basePortion, targetPortion);
+        log.info("일괄 검색(스트리밍) 시작 - 재료 {}개, 쇼핑몰: {}", requirements.size(), malls);
+
+        List<CompletableFuture<BasketLine>> lineFutures = new ArrayList<>(requirements.size());
+        for (IngredientRequirement requirement : requirements) {
+            lineFutures.add(mallSearchOrchestrator
+                    .stream(requirement.name(), requirement.amount(), malls, budget,
+                            result -> listener.onMallResult(requirement, result))
+                    .thenApply(mallResults -> {
+                        BasketLine line = toLine(requirement, mallResults);
+                        listener.onLine(line);
+                        return line;
+                    }));
+        }
+        return CompletableFuture.allOf(lineFutures.toArray(new CompletableFuture<?>[0]))
+                .thenApply(v -> toResult(lineFutures.stream().map(CompletableFuture::join).toList(), start));
+    }
+
+    private BasketLine toLine(IngredientRequirement requirement, Map<MallType, MallSearchResult> mallResults) {
+        List<Product> candidates = new ArrayList<>();
+        mallResults.values().forEach(r -> candidates.addAll(r.products()));
+        Product selected = cheapestProductSelector.select(candidates, requirement.amount(), requirement.unit()).orElse(null);
+        return new BasketLine(requirement, selected, mallResults);
+    }
+
+    private BasketSearchResult toResult(List<BasketLine> lines, long startNanos) {
+        int totalPrice = 0;
+        for (BasketLine line : lines) {
+            if (line.selected() != null) {
+                totalPrice += line.selected().getPrice();
+            }
+        }
+        BasketPlan plan = basketOptimizer.optimize(lines);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        log.info("일괄 검색 완료 - {}ms, 합계 {}원, 최적 장바구니 {}원 (배송비 {}원, 쇼핑몰 {}곳)", elapsedMs, totalPrice,
+                plan.total(), plan.shippingTotal(), plan.malls().size());
+        return new BasketSearchResult(lines, totalPrice, plan, elapsedMs);
+    }
+
+    private Recipe findRecipe(Long recipeId) {
+        return recipeRepository.findById(recipeId)
+                .orElseThrow(() -> new IllegalArgumentException("레시피를 찾을 수 없습니다: " + recipeId));
+    }
+
+    /**
+     * 인분 수에 맞게 양을 조정하고 기본 단위(g, ml, 개)로 환산한 뒤, 같은 키워드의 재료는 하나로 합칩니다.
+     * (환산 후 단위가 같으면 양을 더함, 예: 양파 1kg + 양파 200g → 1200g)
+     */
+    private Collection<IngredientRequirement> scaleAndMerge(List<IngredientRequirement> ingredients,
+                                                            int basePortion, int targetPortion) {
+        Map<String, IngredientRequirement> merged = new LinkedHashMap<>();
+        for (IngredientRequirement ingredient : ingredients) {
+            if (ingredient.name() == null || ingredient.name().isBlank()) {
+                continue;
+            }
+            double scaled = quantityScalingService.calculateTargetAmount(ingredient.amount(), basePortion, targetPortion);
+            String keyword = ingredient.name().trim().replaceAll("\\s+", " ");
+            IngredientRequirement scaledRequirement = quantityScalingService.toBaseUnit(
+                    new IngredientRequirement(keyword, scaled, ingredient.unit()));
+
+            merged.merge(keyword.toLowerCase(Locale.ROOT), scaledRequirement, (existing, added) -> {
+                if (existing.unit() != null && existing.unit().equals(added.unit())) {
+                    return new IngredientRequirement(existing.name(), existing.amount() + added.amount(), existing.unit());
+                }
+                log.debug("단위가 다른 중복 재료 - 첫 항목 유지: {} ({} / {})", keyword, existing.unit(), added.unit());
+                return existing;
+            });
+        }
+        return merged.values();
+    }
+
+    private List<IngredientRequirement> parseIngredients(String ingredientsJson) {
+        List<IngredientRequirement> ingredients = new ArrayList<>();
+        try {
+            for (JsonNode node : objectMapper.readTree(ingredientsJson)) {
+                ingredients.add(new IngredientRequirement(
+                        node.path("name").asText(),
+                        node.path("amount").asDouble(1),
+                        node.path("unit").asText("")));
+            }
+        } catch (Exception e) {
+            throw new IllegalArgumentException("레시피 재료 정보를 읽을 수 없습니다.", e);
+        }
+        return ingredients;
+    }
+}
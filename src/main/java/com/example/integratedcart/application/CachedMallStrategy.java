@@ -0,0 +1,84 @@
+package com.example.integratedcart.application;
+
+import com.example.integratedcart.domain.product.MallType;
+import com.example.integratedcart.domain.product.Product;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * MallStrategy 앞단에서 키워드 단위로 검색 결과를 캐시하는 데코레이터.
+ * 현재 쇼핑몰 전략은 필요량과 무관하게 키워드로만 검색하므로 키는 (쇼핑몰, 정규화된 키워드)입니다.
+ * 캐시 미스는 처음 요청한 스레드(이미 mallSearchExecutor 작업)가 직접 스크래핑하고 같은 키의 다른 요청은 그 결과를 기다립니다.
+ * 같은 풀에 로딩 작업을 다시 제출해 기다리면 풀이 가득 찼을 때 모든 스레드가 대기열의 로딩을 기다리며 멈출 수 있기 때문입니다.
+ */
+class CachedMallStrategy implements MallStrategy {
+
+    private static final double DEFAULT_TARGET_AMOUNT = 1;
+
+    private final MallStrategy delegate;
+    private final AsyncLoadingCache<String, List<Product>> cache;
+
+    CachedMallStrategy(MallStrategy delegate, SearchResultCache searchResultCache) {
+        this.delegate = delegate;
+        this.cache = searchResultCache.register(delegate.getMallType(), this::load);
+    }
+
+    @Override
+    public MallType getMallType() {
+        return delegate.getMallType();
+    }
+
+    @Override
+    public List<Product> searchProducts(String keyword, double targetAmount, boolean isLowSugar) {
+        if (isLowSugar) {
+            return delegate.searchProducts(keyword, targetAmount, true);
+        }
+        String key = SearchResultCache.normalizeKeyword(keyword);
+        CompletableFuture<List<Product>> claim = new CompletableFuture<>();
+        AtomicBoolean claimed = new AtomicBoolean();
+        CompletableFuture<List<Product>> entry = cache.get(key, (k, executor) -> {
+            claimed.set(true);
+            return claim;
+        });
+        if (claimed.get()) {
+            // 이 스레드가 로딩을 맡음 (null로 완료하면 캐시에 남지 않음)
+            try {
+                claim.complete(load(key));
+            } catch (Throwable e) {
+                claim.completeExceptionally(e);
+            }
+        }
+        List<Product> products;
+        try {
+            products = entry.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+        return products != null ? products : List.of();
+    }
+
+    /**
+     * 미리 검색한 결과로 캐시 항목을 교체합니다. (빈 결과는 저장하지 않음)
+     */
+    void put(String keyword, List<Product> products) {
+        if (!products.isEmpty()) {
+            cache.put(SearchResultCache.normalizeKeyword(keyword),
+                    CompletableFuture.completedFuture(List.copyOf(products)));
+        }
+    }
+
+    /**
+     * null 반환 시 캐시에 저장하지 않음 (빈 결과/일시 장애를 오래 들고 있지 않도록)
+     */
+    private List<Product> load(String keyword) {
+        List<Product> products = delegate.searchProducts(keyword, DEFAULT_TARGET_AMOUNT, false);
+        return products == null || products.isEmpty() ? null : List.copyOf(products);
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.integratedcart.application;
+
+import com.example.integratedcart.domain.product.MallType;
+
+/**
+ * 장바구니에 담을 상품 한 건. 상품 ID 또는 (쇼핑몰, 쇼핑몰 상품 ID) 중 하나로 지정합니다.
+ * @param productId 저장된 상품 ID
+ * @param mallType productId가 없을 때 사용할 쇼핑몰
+ * @param mallProductId productId가 없을 때 사용할 쇼핑몰 고유 상품 ID (검색 결과의 상품은 아직 ID가 없을 수 있음)
+ * @param quantity 담을 수량 (1 이상)
+ */
+public record CartAddition(Long productId, MallType mallType, String mallProductId, int quantity) {
+}
@@ -0,0 +1,216 @@
+package com.example.integratedcart.application;
+
+import com.example.integratedcart.domain.cart.Cart;
+import com.example.integratedcart.domain.cart.CartRepository;
+import com.example.integratedcart.domain.product.MallType;
+import com.example.integratedcart.domain.product.Product;
+import com.example.integratedcart.domain.product.ProductRepository;
+import com.example.integratedcart.domain.user.User;
+import com.example.integratedcart.domain.user.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자별 서버 장바구니.
+ * - 같은 상품을 다시 담으면 항목을 늘리지 않고 수량을 더합니다.
+ * - 장바구니 + 항목 + 상품을 fetch join 쿼리 한 번으로 읽습니다.
+ * - 레시피 장바구니 전체를 한 트랜잭션으로 담거나 뺍니다. (상품 조회는 ID 한 번 + 쇼핑몰별 한 번)
+ * - 여러 탭에서 동시에 수정하면 Cart의 @Version으로 충돌을 감지합니다. 요청에 조회 시점의 version을 보내면
+ *   그 사이 다른 탭에서 바뀐 경우에도 거절합니다. (ObjectOptimisticLockingFailureException → 409)
+ * - 조회 결과는 사용자별로 캐시하고, 수정 트랜잭션이 끝나면(커밋/롤백 모두) 해당 사용자의 캐시를 비웁니다.
+ */
+@Slf4j
+@Service
+public class CartService {
+
+    private final CartRepository cartRepository;
+    private final ProductRepository productRepository;
+    private final UserRepository userRepository;
+    private final Cache<Long, CartView> carts;
+
+    public CartService(CartRepository cartRepository,
+                       ProductRepository productRepository,
+                       UserRepository userRepository,
+                       @Value("${app.cart.cache.max-size:10000}") long maxSize,
+                       @Value("${app.cart.cache.ttl-minutes:30}") long ttlMinutes) {
+        this.cartRepository = cartRepository;
+        this.productRepository = productRepository;
+        this.userRepository = userRepository;
+        this.carts = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(ttlMinutes, TimeUnit.MINUTES)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 사용자의 장바구니를 조회합니다. 장바구니가 없으면 빈 장바구니를 반환합니다.
+     */
+    public CartView getCart(Long userId) {
+        return carts.get(userId, id -> cartRepository.findWithItemsByUserId(id)
+                .map(CartView::from)
+                .orElseGet(CartView::empty));
+    }
+
+    /**
+     * 상품 여러 개를 한 트랜잭션으로 담습니다. 이미 담긴 상품과 요청 안에서 중복된 상품은 수량을 합칩니다.
+     * @param expectedVersion 클라이언트가 마지막으로 본 장바구니 version (null이면 확인하지 않음)
+     * @throws IllegalArgumentException 수량이 1 미만이거나 상품을 찾을 수 없는 경우 (아무것도 담지 않음)
+     */
+    @Transactional
+    public CartView addAll(Long userId, Long expectedVersion, List<CartAddition> additions) {
+        if (additions == null || additions.isEmpty()) {
+            throw new IllegalArgumentException("담을 상품이 없습니다.");
+        }
+        Map<Product, Integer> quantities = resolve(additions);
+        Cart cart = loadForWrite(userId, expectedVersion);
+        cart.addAll(quantities, Instant.now());
+        return save(cart);
+    }
+
+    /**
+     * 담긴 상품 여러 개를 한 트랜잭션으로 뺍니다. 담겨 있지 않은 상품 ID는 무시합니다.
+     */
+    @Transactional
+    public CartView removeAll(Long userId, Long expectedVersion, Collection<Long> productIds) {
+        if (productIds == null || productIds.isEmpty()) {
+            throw new IllegalArgumentException("뺄 상품이 없습니다.");
+        }
+        Cart cart = loadForWrite(userId, expectedVersion);
+        int removed = cart.removeAll(productIds, Instant.now());
+        log.debug("장바구니 상품 제거: userId={}, 요청 {}건, 제거 {}건", userId, productIds.size(), removed);
+        return save(cart);
+    }
+
+    /**
+     * 담긴 상품의 수량을 바꿉니다. 0 이하이면 뺍니다.
+     */
+    @Transactional
+    public CartView changeQuantity(Long userId, Long expectedVersion, Long productId, int quantity) {
+        Cart cart = loadForWrite(userId, expectedVersion);
+        if (!cart.changeQuantity(productId, quantity, Instant.now())) {
+            throw new IllegalArgumentException("장바구니에 없는 상품입니다: " + productId);
+        }
+        return save(cart);
+    }
+
+    public CartCacheStats getStats() {
+        CacheStats stats = carts.stats();
+        return new CartCacheStats(carts.estimatedSize(), stats.hitCount(), stats.missCount(), stats.hitRate());
+    }
+
+    /**
+     * @param size 캐시된 사용자 수
+     * @param hits 캐시에서 바로 반환한 조회 수
+     * @param misses DB에서 읽은 조회 수 (수정 직후 첫 조회 포함)
+     * @param hitRate hits / (hits + misses)
+     */
+    public record CartCacheStats(long size, long hits, long misses, double hitRate) {
+    }
+
+    /**
+     * 요청 상품을 상품 엔티티로 바꾸고 같은 상품끼리 수량을 합칩니다. (요청 순서 유지)
+     */
+    private Map<Product, Integer> resolve(List<CartAddition> additions) {
+        Set<Long> ids = new HashSet<>();
+        Map<MallType, Set<String>> mallProductIds = new EnumMap<>(MallType.class);
+        for (CartAddition addition : additions) {
+            if (addition.quantity() < 1) {
+                throw new IllegalArgumentException("수량은 1 이상이어야 합니다: " + addition.quantity());
+            }
+            if (addition.productId() != null) {
+                ids.add(addition.productId());
+            } else if (addition.mallType() != null && addition.mallProductId() != null) {
+                mallProductIds.computeIfAbsent(addition.mallType(), m -> new HashSet<>()).add(addition.mallProductId());
+            } else {
+                throw new IllegalArgumentException("productId 또는 mallType + mallProductId 중 하나는 필요합니다.");
+            }
+        }
+
+        Map<Long, Product> byId = ids.isEmpty() ? Map.of() : productRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        Map<MallType, Map<String, Product>> byMallProductId = new EnumMap<>(MallType.class);
+        mallProductIds.forEach((mall, keys) -> byMallProductId.put(mall,
+                productRepository.findByMallTypeAndMallProductIdIn(mall, keys).stream()
+                        .collect(Collectors.toMap(Product::getMallProductId, Function.identity(), (a, b) -> a))));
+
+        Map<Product, Integer> quantities = new LinkedHashMap<>();
+        for (CartAddition addition : additions) {
+            Product product = addition.productId() != null
+                    ? byId.get(addition.productId())
+                    : byMallProductId.get(addition.mallType()).get(addition.mallProductId());
+            if (product == null) {
+                throw new IllegalArgumentException("상품을 찾을 수 없습니다: " + (addition.productId() != null
+                        ? addition.productId()
+                        : addition.mallType() + "/" + addition.mallProductId()));
+            }
+            quantities.merge(product, addition.quantity(), Integer::sum);
+        }
+        return quantities;
+    }
+
+    private Cart loadForWrite(Long userId, Long expectedVersion) {
+        invalidateAfterCompletion(userId);
+        Cart cart = cartRepository.findWithItemsByUserId(userId).orElse(null);
+        if (cart == null) {
+            return create(userId, expectedVersion);
+        }
+        if (expectedVersion != null && !expectedVersion.equals(cart.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Cart.class, cart.getId());
+        }
+        return cart;
+    }
+
+    private Cart create(Long userId, Long expectedVersion) {
+        if (expectedVersion != null) {
+            // 클라이언트는 있던 장바구니를 보고 요청했는데 그 사이 사라진 경우
+            throw new ObjectOptimisticLockingFailureException(Cart.class, userId);
+        }
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
+        try {
+            return cartRepository.saveAndFlush(Cart.builder().user(user).now(Instant.now()).build());
+        } catch (DataIntegrityViolationException e) {
+            // 다른 탭이 같은 사용자의 장바구니를 먼저 만든 경우 (user_id unique)
+            throw new ObjectOptimisticLockingFailureException(Cart.class, userId, e);
+        }
+    }
+
+    private CartView save(Cart cart) {
+        // flush 시점에 version을 확인하므로 커밋 전에 충돌을 드러내고, 응답에는 증가한 version을 담습니다.
+        return CartView.from(cartRepository.saveAndFlush(cart));
+    }
+
+    private void invalidateAfterCompletion(Long userId) {
+        carts.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    carts.invalidate(userId);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.integratedcart.application;
+
+import com.example.integratedcart.domain.cart.Cart;
+import com.example.integratedcart.domain.cart.CartItem;
+import com.example.integratedcart.domain.product.Product;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 사용자별 캐시에 보관하는 장바구니 스냅샷 (영속성 컨텍스트와 분리된 불변 값).
+ * @param cartId 장바구니 ID (아직 만들어지지 않았으면 null)
+ * @param version 낙관적 잠금 버전. 다음 수정 요청에 그대로 보내면 그 사이 다른 탭에서 바뀐 경우 409로 거절됩니다.
+ * @param items 담긴 상품 (담은 순서)
+ * @param totalPrice 담긴 상품 가격 합계 (원)
+ */
+public record CartView(Long cartId, Long version, List<Line> items, long totalPrice) {
+
+    public record Line(Product product, int quantity, long subtotal) {
+    }
+
+    public static CartView empty() {
+        return new CartView(null, null, List.of(), 0);
+    }
+
+    /**
+     * 상품까지 fetch join으로 읽은 장바구니에서 만들어야 합니다. (항목마다 상품 지연 로딩이 일어나지 않도록)
+     */
+    public static CartView from(Cart cart) {
+        long total = 0;
+        List<Line> lines = new ArrayList<>(cart.getItems().size());
+        for (CartItem item : cart.getItems()) {
+            Product product = item.getProduct();
+            long subtotal = (long) (product.getPrice() == null ? 0 : product.getPrice()) * item.getQuantity();
+            lines.add(new Line(product, item.getQuantity(), subtotal));
+            total += subtotal;
+        }
+        return new CartView(cart.getId(), cart.getVersion(), List.copyOf(lines), total);
+    }
+}
@@ -0,0 +1,197 @@
+package com.example.integratedcart.application;
+
+import com.example.integratedcart.domain.product.Product;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 필요한 양을 가장 싸게 살 수 있는 상품을 고릅니다.
+ * - 필요한 양의 단위(g, ml, 개)와 같은 단위의 상품이 있으면: 필요한 양을 채우는 구매 금액(가격 × 구매 수량)이 가장 낮은 상품.
+ *   금액이 같으면 남는 양이 적은 상품을 우선합니다.
+ * - 그 외: 가장 많은 상품이 쓰는 단위 안에서 단위 가격(가격 / 용량)이 가장 낮은 상품.
+ *   (g 상품과 개 상품의 단위 가격은 비교할 수 없으므로 섞지 않음) 단위 가격이 같으면 필요한 양에 용량이 더 가까운 상품을 우선합니다.
+ */
+@Component
+public class CheapestProductSelector {
+
+    /**
+     * 단위를 모르는 경우의 선택. (단위 가격 기준)
+     * @param products 후보 상품
+     * @param requiredAmount 필요한 양
+     * @return 최저가 상품 (후보가 없으면 empty)
+     */
+    public Optional<Product> select(Iterable<Product> products, double requiredAmount) {
+        return select(products, requiredAmount, null);
+    }
+
+    /**
+     * @param products 후보 상품
+     * @param requiredAmount 필요한 양 (unit 기준)
+     * @param unit 필요한 양의 단위 (예: "g", "kg", "ml", "개", 모르면 null)
+     * @return 최저가 상품 (후보가 없으면 empty)
+     */
+    public Optional<Product> select(Iterable<Product> products, double requiredAmount, String unit) {
+        String baseUnit = ProductQuantityParser.baseUnit(unit);
+        if (baseUnit != null) {
+            Product cheapest = selectByPurchaseCost(products, ProductQuantityParser.toBaseAmount(requiredAmount, unit),
+                    baseUnit);
+            if (cheapest != null) {
+                return Optional.of(cheapest);
+            }
+        }
+        return Optional.ofNullable(selectByUnitPrice(products, requiredAmount));
+    }
+
+    private Product selectByPurchaseCost(Iterable<Product> products, double requiredAmount, String baseUnit) {
+        Product cheapestProduct = null;
+        long lowestCost = Long.MAX_VALUE;
+        double smallestSurplus = Double.MAX_VALUE;
+
+        for (Product p : products) {
+            if (!baseUnit.equals(p.getUnit())) {
+                continue;
+            }
+            int capacity = Math.max(1, capacityOf(p));
+            long quantity = Math.max(1, (long) Math.ceil(requiredAmount / capacity));
+            long cost = quantity * p.getPrice();
+            double surplus = quantity * capacity - requiredAmount;
+
+            if (cost < lowestCost || (cost == lowestCost && surplus < smallestSurplus)) {
+                lowestCost = cost;
+                smallestSurplus = surplus;
+                cheapestProduct = p;
+            }
+        }
+        return cheapestProduct;
+    }
+
+    private Product selectByUnitPrice(Iterable<Product> products, double requiredAmount) {
+        String unit = mostCommonUnit(products);
+        Product cheapestProduct = null;
+        double lowestUnitPrice = Double.MAX_VALUE;
+        double closestQuantityDiff = Double.MAX_VALUE;
+
+        for (Product p : products) {
+            if (unit != null && !unit.equals(p.getUnit())) {
+                continue;
+            }
+            double unitPrice = (double) p.getPrice() / Math.max(1, capacityOf(p));
+            double quantityDiff = Math.abs(capacityOf(p) - requiredAmount);
+
+            if (unitPrice < lowestUnitPrice || (unitPrice == lowestUnitPrice && quantityDiff < closestQuantityDiff)) {
+                lowestUnitPrice = unitPrice;
+                closestQuantityDiff = quantityDiff;
+                cheapestProduct = p;
+            }
+        }
+        return cheapestProduct;
+    }
+
+    /**
+     * 후보 상품이 가장 많이 쓰는 단위. 모든 상품의 단위가 같거나 비어 있으면 null (전체 비교)
+     */
+    private String mostCommonUnit(Iterable<Product> products) {
+        String first = null;
+        boolean mixed = false;
+        for (Product p : products) {
+            String unit = p.getUnit();
+            if (unit == null) {
+                continue;
+            }
+            if (first == null) {
+                first = unit;
+            } else if (!unit.equals(first)) {
+                mixed = true;
+                break;
+            }
+        }
+        if (!mixed) {
+            return null;
+        }
+        Map<String, Integer> counts = new HashMap<>();
+        for (Product p : products) {
+            if (p.getUnit() != null) {
+                counts.merge(p.getUnit(), 1, Integer::sum);
+            }
+        }
+        String best = null;
+        int bestCount = 0;
+        for (Map.Entry<String, Integer> e : counts.entrySet()) {
+            if (e.getValue() > bestCount) {
+                best = e.getKey();
+                bestCount = e.getValue();
+            }
+        }
+        return best;
+    }
+
+    private static int capacityOf(Product p) {
+        return p.getCapacity() != null ? p.getCapacity() : 1;
+    }
+
+    /**
+     * 결과가 쇼핑몰별로 나눠 도착할 때 현재까지의 최저가를 추적합니다. (스트리밍 검색용)
+     */
+    public Running running(double requiredAmount) {
+        return running(requiredAmount, null);
+    }
+
+    /**
+     * @param unit 필요한 양의 단위 (모르면 null)
+     */
+    public Running running(double requiredAmount, String unit) {
+        return new Running(requiredAmount, unit);
+    }
+
+    public final class Running {
+
+        private final double requiredAmount;
+        private final String unit;
+        private final ReentrantLock lock = new ReentrantLock();
+        private Product current;
+
+        private Running(double requiredAmount, String unit) {
+            this.requiredAmount = requiredAmount;
+            this.unit = unit;
+        }
+
+        /**
+         * 새 후보를 반영합니다.
+         * @return 최저가 상품이 바뀌었으면 새 최저가, 아니면 empty
+         */
+        public Optional<Product> offer(Collection<Product> products) {
+            lock.lock();
+            try {
+                List<Product> candidates = new ArrayList<>(products.size() + 1);
+                if (current != null) {
+                    candidates.add(current);
+                }
+                candidates.addAll(products);
+                Product cheapest = select(candidates, requiredAmount, unit).orElse(null);
+                if (cheapest == null || cheapest == current) {
+                    return Optional.empty();
+                }
+                current = cheapest;
+                return Optional.of(cheapest);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        public Optional<Product> current() {
+            lock.lock();
+            try {
+                return Optional.ofNullable(current);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.integratedcart.application;
+
+import com.example.integratedcart.domain.crawl.CrawlKeyword;
+import com.example.integratedcart.domain.crawl.CrawlKeywordRepository;
+import com.example.integratedcart.domain.product.MallType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 백그라운드 가격 갱신 대기열 (crawl_keywords 테이블).
+ * 우선순위 = 감쇠된 인기도 × 오래된 정도(마지막 갱신 후 경과 시간 / refresh-after, 최대 max-staleness-factor배)
+ * 대기열 크기는 메트릭 scrape마다 COUNT(*)를 하지 않도록 처음 한 번만 세고, 이후에는 추가/삭제가 커밋될 때 메모리에서 갱신합니다.
+ */
+@Slf4j
+@Service
+public class CrawlQueueService {
+
+    private final CrawlKeywordRepository crawlKeywordRepository;
+    private final Duration halfLife;
+    private final Duration refreshAfter;
+    private final Duration failureBackoff;
+    private final Duration retention;
+    private final double minPopularity;
+    private final double maxStalenessFactor;
+    private final int candidatePoolSize;
+    // 대기열 크기 (-1: 아직 세지 않음)
+    private final AtomicLong queuedKeywords = new AtomicLong(-1);
+
+    public CrawlQueueService(CrawlKeywordRepository crawlKeywordRepository,
+                             @Value("${app.crawl.popularity-half-life-hours:24}") long halfLifeHours,
+                             @Value("${app.crawl.refresh-after-minutes:40}") long refreshAfterMinutes,
+                             @Value("${app.crawl.failure-backoff-minutes:10}") long failureBackoffMinutes,
+                             @Value("${app.crawl.retention-days:14}") long retentionDays,
+                             @Value("${app.crawl.min-popularity:2}") double minPopularity,
+                             @Value("${app.crawl.max-staleness-factor:3}") double maxStalenessFactor,
+                             @Value("${app.crawl.candidate-pool-size:500}") int candidatePoolSize) {
+        this.crawlKeywordRepository = crawlKeywordRepository;
+        this.halfLife = Duration.ofHours(halfLifeHours);
+        this.refreshAfter = Duration.ofMinutes(refreshAfterMinutes);
+        this.failureBackoff = Duration.ofMinutes(failureBackoffMinutes);
+        this.retention = Duration.ofDays(retentionDays);
+        this.minPopularity = minPopularity;
+        this.maxStalenessFactor = maxStalenessFactor;
+        this.candidatePoolSize = candidatePoolSize;
+    }
+
+    /**
+     * 집계된 검색 요청 수를 대기열에 반영합니다.
+     */
+    @Transactional
+    public void addRequests(Map<KeywordPopularityTracker.MallKeyword, Long> counts) {
+        Instant now = Instant.now();
+        long[] added = {0};
+        counts.forEach((key, count) -> crawlKeywordRepository.findByMallTypeAndKeyword(key.mallType(), key.keyword())
+                .orElseGet(() -> {
+                    added[0]++;
+                    return crawlKeywordRepository.save(CrawlKeyword.builder()
+                            .mallType(key.mallType())
+                            .keyword(key.keyword())
+                            .now(now)
+                            .build());
+                })
+                .addRequests(count, now, halfLife));
+        adjustSizeAfterCommit(added[0]);
+    }
+
+    /**
+     * 이번 주기에 갱신할 키워드를 우선순위 순으로 반환합니다.
+     * @param budget 최대 개수
+     * @param maxPerMall 쇼핑몰 하나에 배정할 최대 개수
+     */
+    @Transactional(readOnly = true)
+    public List<CrawlKeyword> nextBatch(int budget, int maxPerMall) {
+        Instant now = Instant.now();
+        List<Prioritized> due = new ArrayList<>();
+        for (CrawlKeyword k : crawlKeywordRepository.findByOrderByPopularityDesc(PageRequest.of(0, candidatePoolSize))) {
+            double popularity = k.decayedPopularity(now, halfLife);
+            if (popularity < minPopularity) {
+                continue;
+            }
+            // 연속 실패한 키워드는 실패 횟수만큼 길게 쉼
+            if (k.getLastFailedAt() != null && k.getConsecutiveFailures() > 0
+                    && k.getLastFailedAt().plus(failureBackoff.multipliedBy(k.getConsecutiveFailures())).isAfter(now)) {
+                continue;
+            }
+            double staleness = k.getLastRefreshedAt() == null ? maxStalenessFactor
+                    : Math.min(maxStalenessFactor,
+                    (double) Duration.between(k.getLastRefreshedAt(), now).toMillis() / refreshAfter.toMillis());
+            if (staleness < 1) {
+                continue;
+            }
+            due.add(new Prioritized(k, popularity * staleness));
+        }
+        due.sort(Comparator.comparingDouble(Prioritized::priority).reversed());
+
+        Map<MallType, Integer> perMall = new EnumMap<>(MallType.class);
+        List<CrawlKeyword> batch = new ArrayList<>(Math.min(budget, due.size()));
+        for (Prioritized p : due) {
+            if (batch.size() >= budget) {
+                break;
+            }
+            if (perMall.merge(p.keyword().getMallType(), 1, Integer::sum) <= maxPerMall) {
+                batch.add(p.keyword());
+            }
+        }
+        return batch;
+    }
+
+    @Transactional
+    public void markRefreshed(Long id, int resultCount) {
+        crawlKeywordRepository.findById(id).ifPresent(k -> k.markRefreshed(Instant.now(), resultCount));
+    }
+
+    @Transactional
+    public void markFailed(Long id) {
+        crawlKeywordRepository.findById(id).ifPresent(k -> k.markFailed(Instant.now()));
+    }
+
+    /**
+     * retention 기간 동안 요청되지 않은 키워드를 삭제합니다.
+     */
+    @Transactional
+    public int pruneInactive() {
+        int removed = crawlKeywordRepository.deleteInactiveSince(Instant.now().minus(retention));
+        adjustSizeAfterCommit(-removed);
+        return removed;
+    }
+
+    /**
+     * 대기열의 키워드 수. 처음 호출할 때만 DB에서 셉니다.
+     */
+    public long size() {
+        long size = queuedKeywords.get();
+        if (size < 0) {
+            size = crawlKeywordRepository.count();
+            if (!queuedKeywords.compareAndSet(-1, size)) {
+                size = queuedKeywords.get();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * 커밋된 경우에만 대기열 크기에 반영합니다. (아직 세지 않았으면 처음 셀 때 포함됨)
+     */
+    private void adjustSizeAfterCommit(long delta) {
+        if (delta == 0) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            adjustSize(delta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                adjustSize(delta);
+            }
+        });
+    }
+
+    private void adjustSize(long delta) {
+        queuedKeywords.getAndUpdate(size -> size < 0 ? size : Math.max(0, size + delta));
+    }
+
+    private record Prioritized(CrawlKeyword keyword, double priority) {
+    }
+}
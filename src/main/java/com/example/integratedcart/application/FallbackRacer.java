@@ -0,0 +1,89 @@
+package com.example.integratedcart.application;
+
+import com.example.integratedcart.domain.product.Product;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 여러 대체 검색 경로(예: Google Shopping 프록시 → 네이버 쇼핑 프록시)를 동시에 실행하고
+ * 가장 먼저 도착한 비어 있지 않은 결과를 채택합니다.
+ */
+@Slf4j
+@Component
+public class FallbackRacer {
+
+    private final ExecutorService executor;
+
+    public FallbackRacer(@Qualifier("scrapeTaskExecutor") ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * @param label 로그용 이름
+     * @param sources 경쟁시킬 검색 경로
+     * @return 먼저 도착한 비어 있지 않은 결과, 모두 비어 있으면 빈 리스트
+     * @throws RuntimeException 모든 경로가 예외로 실패한 경우 마지막 예외 (회로 차단기가 장애로 집계하도록)
+     */
+    public List<Product> firstNonEmpty(String label, List<Supplier<List<Product>>> sources) {
+        CompletableFuture<List<Product>> winner = new CompletableFuture<>();
+        AtomicInteger remaining = new AtomicInteger(sources.size());
+        AtomicInteger failed = new AtomicInteger();
+        AtomicReference<RuntimeException> lastError = new AtomicReference<>();
+        List<Future<?>> running = new ArrayList<>(sources.size());
+
+        for (Supplier<List<Product>> source : sources) {
+            Runnable attempt = () -> {
+                try {
+                    List<Product> products = source.get();
+                    if (!products.isEmpty()) {
+                        winner.complete(products);
+                    }
+                } catch (RuntimeException e) {
+                    log.debug("{} 대체 경로 실패: {}", label, e.getMessage());
+                    failed.incrementAndGet();
+                    lastError.set(e);
+                } finally {
+                    if (remaining.decrementAndGet() == 0) {
+                        if (failed.get() == sources.size()) {
+                            winner.completeExceptionally(lastError.get());
+                        } else {
+                            winner.complete(List.of());
+                        }
+                    }
+                }
+            };
+            try {
+                running.add(executor.submit(attempt));
+            } catch (RejectedExecutionException e) {
+                // 풀이 가득 찬 경우 호출 스레드에서 순차 실행
+                attempt.run();
+            }
+        }
+
+        try {
+            return winner.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return List.of();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            return List.of();
+        } finally {
+            running.forEach(f -> f.cancel(true));
+        }
+    }
+}
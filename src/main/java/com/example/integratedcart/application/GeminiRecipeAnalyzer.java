@@ -0,0 +1,208 @@
+package com.example.integratedcart.application;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.genai.Client;
+import com.google.genai.types.GenerateContentResponse;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 공유 Gemini Client로 레시피 재료를 분석합니다.
+ * 음식명 분석은 짧은 시간(window) 동안 모아 한 번의 프롬프트로 요청하는 마이크로 배치를 지원합니다.
+ * 실제 Gemini 호출은 요청 스레드가 아닌 recipeAnalysisExecutor에서 실행되며,
+ * 호출마다 "gemini.generate" observation(model, kind=single|batch, outcome 태그)으로 기록됩니다.
+ */
+@Slf4j
+@Component
+public class GeminiRecipeAnalyzer {
+
+    private static final String SINGLE_PROMPT =
+            "당신은 전문 요리사입니다. 다음 입력값(음식명 또는 페이지 내용)을 분석하여 필요한 재료 리스트를 JSON 형식으로 응답하세요.\n" +
+            "응답 형식: { \"name\": \"음식명\", \"ingredients\": [ { \"name\": \"재료명\", \"amount\": 수량(숫자), \"unit\": \"단위\" } ], \"basePortion\": 기준인분(숫자) }\n" +
+            "입력값: %s";
+
+    private static final String BATCH_PROMPT =
+            "당신은 전문 요리사입니다. 다음 음식명 각각에 대해 필요한 재료 리스트를 JSON 배열로 응답하세요.\n" +
+            "배열의 각 원소 형식: { \"input\": \"입력된 음식명 그대로\", \"name\": \"음식명\", \"ingredients\": [ { \"name\": \"재료명\", \"amount\": 수량(숫자), \"unit\": \"단위\" } ], \"basePortion\": 기준인분(숫자) }\n" +
+            "음식명 목록:\n%s";
+
+    private final Client client;
+    private final ObjectMapper objectMapper;
+    private final ExecutorService executor;
+    private final long batchWindowMs;
+    private final int batchMaxSize;
+    private final ObservationRegistry observationRegistry;
+    // 배치 대기열 flush 예약 전용 (실제 호출은 executor에서 실행)
+    private final ScheduledExecutorService flushScheduler;
+
+    // 모델명 → 모이는 중인 음식명 요청
+    private final Map<String, List<PendingDish>> pending = new HashMap<>();
+    private final ReentrantLock pendingLock = new ReentrantLock();
+
+    public GeminiRecipeAnalyzer(Client geminiClient, ObjectMapper objectMapper,
+                                @Qualifier("recipeAnalysisExecutor") ExecutorService executor,
+                                @Qualifier("recipeBatchScheduler") ScheduledExecutorService flushScheduler,
+                                @Value("${google.ai.batch.window-ms:50}") long batchWindowMs,
+                                @Value("${google.ai.batch.max-size:8}") int batchMaxSize,
+                                ObservationRegistry observationRegistry) {
+        this.client = geminiClient;
+        this.objectMapper = objectMapper;
+        this.executor = executor;
+        this.flushScheduler = flushScheduler;
+        this.batchWindowMs = batchWindowMs;
+        this.batchMaxSize = batchMaxSize;
+        this.observationRegistry = observationRegistry;
+    }
+
+    /**
+     * 음식명 또는 페이지 내용을 단독 프롬프트로 분석합니다.
+     * @return { name, ingredients, basePortion } 형태의 응답
+     */
+    public CompletableFuture<JsonNode> analyze(String content, String modelName) {
+        try {
+            return CompletableFuture.supplyAsync(() -> requestSingle(content, modelName), executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(new IllegalStateException("레시피 분석 요청이 많아 처리할 수 없습니다.", e));
+        }
+    }
+
+    /**
+     * 음식명을 분석합니다. 배치 window 안에 들어온 같은 모델의 요청은 한 번의 프롬프트로 묶입니다.
+     */
+    public CompletableFuture<JsonNode> analyzeDish(String dishName, String modelName) {
+        if (batchMaxSize <= 1 || batchWindowMs <= 0) {
+            return analyze(dishName, modelName);
+        }
+        PendingDish dish = new PendingDish(dishName, new CompletableFuture<>());
+        List<PendingDish> ready = null;
+        pendingLock.lock();
+        try {
+            List<PendingDish> queue = pending.computeIfAbsent(modelName, m -> new ArrayList<>());
+            queue.add(dish);
+            if (queue.size() >= batchMaxSize) {
+                ready = pending.remove(modelName);
+            } else if (queue.size() == 1) {
+                flushScheduler.schedule(() -> flush(modelName), batchWindowMs, TimeUnit.MILLISECONDS);
+            }
+        } finally {
+            pendingLock.unlock();
+        }
+        if (ready != null) {
+            dispatch(modelName, ready);
+        }
+        return dish.result();
+    }
+
+    private void flush(String modelName) {
+        List<PendingDish> batch;
+        pendingLock.lock();
+        try {
+            batch = pending.remove(modelName);
+        } finally {
+            pendingLock.unlock();
+        }
+        if (batch != null) {
+            dispatch(modelName, batch);
+        }
+    }
+
+    private void dispatch(String modelName, List<PendingDish> batch) {
+        try {
+            executor.execute(() -> runBatch(modelName, batch));
+        } catch (RejectedExecutionException e) {
+            IllegalStateException error = new IllegalStateException("레시피 분석 요청이 많아 처리할 수 없습니다.", e);
+            batch.forEach(d -> d.result().completeExceptionally(error));
+        }
+    }
+
+    private void runBatch(String modelName, List<PendingDish> batch) {
+        if (batch.size() == 1) {
+            completeSingle(batch.get(0), modelName);
+            return;
+        }
+        log.info("음식명 {}건 배치 분석 (모델: {})", batch.size(), modelName);
+        Map<String, JsonNode> byInput = new HashMap<>();
+        try {
+            StringBuilder names = new StringBuilder();
+            for (PendingDish dish : batch) {
+                names.append("- ").append(dish.dishName()).append('\n');
+            }
+            JsonNode root = parseJson(generate(modelName, String.format(BATCH_PROMPT, names), "batch"));
+            for (JsonNode node : root) {
+                byInput.putIfAbsent(node.path("input").asText(node.path("name").asText()), node);
+            }
+        } catch (Exception e) {
+            log.warn("배치 분석 실패 - 개별 요청으로 재시도: {}", e.getMessage());
+        }
+        // 응답에서 찾지 못한 음식명은 단독 프롬프트로 재요청
+        for (PendingDish dish : batch) {
+            JsonNode node = byInput.get(dish.dishName());
+            if (node != null && node.path("ingredients").isArray()) {
+                dish.result().complete(node);
+            } else {
+                completeSingle(dish, modelName);
+            }
+        }
+    }
+
+    private void completeSingle(PendingDish dish, String modelName) {
+        try {
+            dish.result().complete(requestSingle(dish.dishName(), modelName));
+        } catch (RuntimeException e) {
+            dish.result().completeExceptionally(e);
+        }
+    }
+
+    private JsonNode requestSingle(String content, String modelName) {
+        try {
+            return parseJson(generate(modelName, String.format(SINGLE_PROMPT, content), "single"));
+        } catch (Exception e) {
+            log.error("Gemini 레시피 분석 실패 (모델: {})", modelName, e);
+            throw new RuntimeException("모델 분석 중 오류가 발생했습니다: " + e.getMessage(), e);
+        }
+    }
+
+    private String generate(String modelName, String prompt, String kind) {
+        Observation observation = Observation.createNotStarted("gemini.generate", observationRegistry)
+                .contextualName("gemini " + kind)
+                .lowCardinalityKeyValue("model", modelName)
+                .lowCardinalityKeyValue("kind", kind);
+        return PipelineObservations.observe(observation, () -> {
+            GenerateContentResponse response = client.models.generateContent(modelName, prompt, null);
+            return response.text();
+        }, text -> text == null || text.isBlank() ? "empty" : "success");
+    }
+
+    private JsonNode parseJson(String text) throws Exception {
+        return objectMapper.readTree(extractJson(text));
+    }
+
+    /**
+     * 모델 응답에서 ```json 코드 블록을 벗겨 JSON 본문만 반환합니다.
+     */
+    static String extractJson(String text) {
+        if (text.contains("```json")) {
+            return text.substring(text.indexOf("```json") + 7, text.lastIndexOf("```"));
+        }
+        return text;
+    }
+
+    private record PendingDish(String dishName, CompletableFuture<JsonNode> result) {
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.integratedcart.application;
+
+import com.example.integratedcart.domain.product.Product;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.microsoft.playwright.Page;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Google Shopping(tbm=shop) 검색 결과 페이지. 쇼핑몰 필터(쿠팡, B마트 등)와 함께 검색합니다.
+ */
+@Slf4j
+@Component
+class GoogleShoppingSource implements ShoppingPageSource {
+
+    private static final String ITEM_SELECTOR = "div.sh-dgr__grid-result, div.sh-np__click-target";
+    private static final PageExtractionEngine.CardSpec CARD_SPEC = new PageExtractionEngine.CardSpec(ITEM_SELECTOR,
+            Map.of("text", PageExtractionEngine.Field.text(),
+                    "name", PageExtractionEngine.Field.text("h3"),
+                    "url", PageExtractionEngine.Field.attribute("href", "a")),
+            40);
+    private static final Pattern PRICE_PATTERN = Pattern.compile("([0-9,]+)원");
+
+    private final ProductRelevanceScorer relevanceScorer;
+    private final PageExtractionEngine extractionEngine;
+    private final String baseUrl;
+
+    GoogleShoppingSource(ProductRelevanceScorer relevanceScorer, PageExtractionEngine extractionEngine,
+                         @Value("${app.scrape.base-url.google-shopping:https://www.google.com}") String baseUrl) {
+        this.relevanceScorer = relevanceScorer;
+        this.extractionEngine = extractionEngine;
+        this.baseUrl = baseUrl;
+    }
+
+    @Override
+    public String name() {
+        return "google-shopping";
+    }
+
+    @Override
+    public String searchUrl(String keyword, String mallFilter) {
+        String query = mallFilter + " " + keyword;
+        return baseUrl + "/search?q=" + URLEncoder.encode(query, StandardCharsets.UTF_8) + "&tbm=shop";
+    }
+
+    @Override
+    public List<Product> fromDocument(Document document, String keyword, String mallFilter) {
+        Elements items = document.select(ITEM_SELECTOR);
+        if (items.isEmpty()) {
+            // 동의 페이지/자바스크립트 필요 페이지 등
+            return null;
+        }
+        List<Product> products = new ArrayList<>();
+        for (Element item : items) {
+            if (products.size() >= ScrapedProducts.MAX_PRODUCTS_PER_SEARCH)
+                break;
+            Element title = item.selectFirst("h3");
+            Element link = item.selectFirst("a");
+            if (title == null)
+                continue;
+            accept(products, item.text(), title.text(), link != null ? link.attr("href") : null, keyword, mallFilter);
+        }
+        return products;
+    }
+
+    @Override
+    public List<Product> fromPage(Page page, String keyword, String mallFilter) {
+        List<Product> products = new ArrayList<>();
+        for (JsonNode card : extractionEngine.extractCards(page, name(), CARD_SPEC)) {
+            if (products.size() >= ScrapedProducts.MAX_PRODUCTS_PER_SEARCH)
+                break;
+            String name = card.path("name").asText("");
+            if (name.isEmpty())
+                continue;
+            accept(products, card.path("text").asText(""), name, card.path("url").asText(null), keyword, mallFilter);
+        }
+        return products;
+    }
+
+    private void accept(List<Product> products, String cardText, String name, String productUrl, String keyword,
+                        String mallFilter) {
+        if (mallFilter != null && !cardText.contains(mallFilter))
+            return;
+        if (!relevanceScorer.isRelevant(name, keyword))
+            return;
+        if (productUrl != null && productUrl.startsWith("/url?q=")) {
+            productUrl = URLDecoder.decode(productUrl.substring(7).split("&")[0], StandardCharsets.UTF_8);
+        }
+        Matcher m = PRICE_PATTERN.matcher(cardText);
+        if (m.find()) {
+            int price = Integer.parseInt(m.group(1).replaceAll(",", ""));
+            ScrapedProducts.addUnique(products,
+                    ScrapedProducts.create(ScrapedProducts.mallTypeFor(mallFilter), name, price, productUrl));
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.integratedcart.application;
+
+import com.example.integratedcart.domain.product.MallType;
+import com.example.integratedcart.domain.product.Product;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+
+/**
+ * 로컬 가격 인덱스를 먼저 조회하고, 신선한 데이터가 없을 때만 실제 스크래핑 후 결과를 인덱스에 저장하는 데코레이터.
+ * 스크래핑 결과는 저장 전에 {@link ProductIdentityResolver}로 중복 상품을 합칩니다.
+ */
+@Slf4j
+class IndexedMallStrategy implements MallStrategy {
+
+    private final MallStrategy delegate;
+    private final ProductIndexService productIndexService;
+    private final ProductIdentityResolver productIdentityResolver;
+
+    IndexedMallStrategy(MallStrategy delegate, ProductIndexService productIndexService,
+                        ProductIdentityResolver productIdentityResolver) {
+        this.delegate = delegate;
+        this.productIndexService = productIndexService;
+        this.productIdentityResolver = productIdentityResolver;
+    }
+
+    @Override
+    public MallType getMallType() {
+        return delegate.getMallType();
+    }
+
+    @Override
+    public List<Product> searchProducts(String keyword, double targetAmount, boolean isLowSugar) {
+        try {
+            List<Product> indexed = productIndexService.findFresh(getMallType(), keyword);
+            if (!indexed.isEmpty()) {
+                log.debug("상품 인덱스 적중 - {} '{}' {}건", getMallType(), keyword, indexed.size());
+                return indexed;
+            }
+        } catch (Exception e) {
+            log.warn("상품 인덱스 조회 실패 - 스크래핑으로 진행: {}", e.getMessage());
+        }
+
+        return scrapeAndIndex(keyword, targetAmount, isLowSugar);
+    }
+
+    /**
+     * 인덱스를 건너뛰고 실제 스크래핑한 결과를 인덱스에 저장합니다.
+     */
+    List<Product> scrapeAndIndex(String keyword, double targetAmount, boolean isLowSugar) {
+        List<Product> scraped = productIdentityResolver.resolve(getMallType(),
+                delegate.searchProducts(keyword, targetAmount, isLowSugar));
+        try {
+            return productIndexService.upsertAll(getMallType(), scraped);
+        } catch (Exception e) {
+            log.warn("상품 인덱스 저장 실패 - 스크래핑 결과 그대로 반환: {}", e.getMessage());
+            return scraped;
+        }
+    }
+}
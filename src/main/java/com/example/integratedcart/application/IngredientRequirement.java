@@ -0,0 +1,10 @@
+package com.example.integratedcart.application;
+
+/**
+ * 검색할 재료 하나와 필요한 양.
+ * @param name 재료명 (검색 키워드)
+ * @param amount 필요한 양
+ * @param unit 단위 (예: "g", "ml", "개")
+ */
+public record IngredientRequirement(String name, double amount, String unit) {
+}
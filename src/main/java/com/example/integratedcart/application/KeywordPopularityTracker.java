@@ -0,0 +1,72 @@
+package com.example.integratedcart.application;
+
+import com.example.integratedcart.domain.product.MallType;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 사용자 검색 요청의 키워드를 쇼핑몰별로 집계합니다.
+ * 요청 경로에서는 메모리 카운터만 올리고, 주기적으로 {@link CrawlQueueService}에 반영합니다.
+ */
+@Slf4j
+@Component
+public class KeywordPopularityTracker {
+
+    private final CrawlQueueService crawlQueueService;
+    private final ConcurrentMap<MallKeyword, LongAdder> pending = new ConcurrentHashMap<>();
+
+    public KeywordPopularityTracker(CrawlQueueService crawlQueueService) {
+        this.crawlQueueService = crawlQueueService;
+    }
+
+    /**
+     * @param keyword 사용자가 검색한 재료명
+     * @param malls 검색한 쇼핑몰
+     */
+    public void record(String keyword, Collection<MallType> malls) {
+        if (keyword == null || keyword.isBlank()) {
+            return;
+        }
+        String normalized = SearchResultCache.normalizeKeyword(keyword);
+        for (MallType mall : malls) {
+            pending.computeIfAbsent(new MallKeyword(mall, normalized), k -> new LongAdder()).increment();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.crawl.flush-interval-ms:30000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Map<MallKeyword, Long> counts = new HashMap<>();
+        for (MallKeyword key : pending.keySet()) {
+            LongAdder adder = pending.remove(key);
+            if (adder != null) {
+                counts.put(key, adder.sum());
+            }
+        }
+        try {
+            crawlQueueService.addRequests(counts);
+            log.debug("검색 키워드 인기도 반영 - {}건", counts.size());
+        } catch (Exception e) {
+            log.warn("검색 키워드 인기도 반영 실패 ({}건 유실): {}", counts.size(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    public record MallKeyword(MallType mallType, String keyword) {
+    }
+}
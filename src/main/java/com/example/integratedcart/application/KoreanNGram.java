@@ -0,0 +1,90 @@
+package com.example.integratedcart.application;
+
+import java.util.Arrays;
+
+/**
+ * 한글 상품명/재료명용 문자 bigram 토크나이저.
+ * 한글은 띄어쓰기가 일정하지 않으므로("돼지고기" / "돼지 앞다리살") 공백과 기호를 제거한 뒤
+ * 연속된 두 글자를 하나의 토큰(int 코드)으로 사용합니다.
+ */
+public final class KoreanNGram {
+
+    private static final int[] EMPTY = new int[0];
+
+    private KoreanNGram() {
+    }
+
+    /**
+     * 소문자화하고 공백·기호·대괄호 안의 쇼핑몰 표기("[쿠팡] ")를 제거합니다.
+     */
+    public static String normalize(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        int depth = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '[') {
+                depth++;
+            } else if (c == ']') {
+                depth = Math.max(0, depth - 1);
+            } else if (depth == 0 && Character.isLetterOrDigit(c)) {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 정규화된 문자열의 중복 없는 bigram 코드 (한 글자면 그 글자 하나).
+     * 코드 = (앞 글자 &lt;&lt; 16) | 뒷 글자
+     */
+    public static int[] bigrams(String normalized) {
+        int length = normalized.length();
+        if (length == 0) {
+            return EMPTY;
+        }
+        if (length == 1) {
+            return new int[] { normalized.charAt(0) };
+        }
+        int[] grams = new int[length - 1];
+        for (int i = 0; i < length - 1; i++) {
+            grams[i] = (normalized.charAt(i) << 16) | normalized.charAt(i + 1);
+        }
+        Arrays.sort(grams);
+        int unique = 1;
+        for (int i = 1; i < grams.length; i++) {
+            if (grams[i] != grams[unique - 1]) {
+                grams[unique++] = grams[i];
+            }
+        }
+        return unique == grams.length ? grams : Arrays.copyOf(grams, unique);
+    }
+
+    /**
+     * 정규화된 문자열의 중복 없는 글자 코드 (한 글자 키워드 조회용).
+     * 글자/숫자만 남긴 문자열이므로 bigram 코드(앞 글자가 0이 아님)와 겹치지 않습니다.
+     */
+    public static int[] unigrams(String normalized) {
+        return normalized.chars().distinct().sorted().toArray();
+    }
+
+    /**
+     * 정렬된 두 bigram 배열의 공통 원소 수.
+     */
+    public static int overlap(int[] sortedA, int[] sortedB) {
+        int i = 0;
+        int j = 0;
+        int hits = 0;
+        while (i < sortedA.length && j < sortedB.length) {
+            if (sortedA[i] == sortedB[j]) {
+                hits++;
+                i++;
+                j++;
+            } else if (sortedA[i] < sortedB[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return hits;
+    }
+}
@@ -0,0 +1,194 @@
+package com.example.integratedcart.application;
+
+import com.example.integratedcart.domain.product.MallType;
+import com.example.integratedcart.domain.product.Product;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 마켓컬리 검색 API(normal-search) 응답에서 관련 상품을 추출합니다.
+ * 응답 전체를 JsonNode 트리로 만들지 않고 JsonParser로 토큰을 따라가며,
+ * PRODUCT_LIST 이외의 섹션과 필요 없는 필드는 건너뛰고 관련 상품을 limit개 찾으면 읽기를 멈춥니다.
+ * HTTP 호출과 분리되어 있어 저장된 응답(fixture)으로 벤치마크할 수 있습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class KurlySearchParser {
+
+    private static final String PRODUCT_LIST = "PRODUCT_LIST";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ProductRelevanceScorer relevanceScorer;
+
+    /**
+     * @param response 검색 API 응답 본문
+     * @param keyword 검색 키워드 (관련도 필터링용)
+     * @param limit 최대 상품 수
+     */
+    public List<Product> parse(String response, String keyword, int limit) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(response)) {
+            return parse(parser, keyword, limit);
+        }
+    }
+
+    /**
+     * 응답 본문 스트림을 직접 읽습니다. limit개를 찾으면 나머지 본문은 읽지 않습니다.
+     */
+    public List<Product> parse(InputStream response, String keyword, int limit) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(response)) {
+            return parse(parser, keyword, limit);
+        }
+    }
+
+    private List<Product> parse(JsonParser parser, String keyword, int limit) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return new ArrayList<>();
+        }
+        // { "data": { "listSections": [ { "view": { "sectionCode" }, "data": { "items": [...] } } ] } }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            if (parser.nextToken() == JsonToken.START_OBJECT && "data".equals(field)) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String dataField = parser.currentName();
+                    if (parser.nextToken() == JsonToken.START_ARRAY && "listSections".equals(dataField)) {
+                        while (parser.nextToken() == JsonToken.START_OBJECT) {
+                            List<Product> products = readSection(parser, keyword, limit);
+                            if (products != null) {
+                                return products;
+                            }
+                        }
+                        return new ArrayList<>();
+                    }
+                    parser.skipChildren();
+                }
+                return new ArrayList<>();
+            }
+            parser.skipChildren();
+        }
+        return new ArrayList<>();
+    }
+
+    /**
+     * 섹션 하나를 읽습니다. PRODUCT_LIST 섹션이면 추출한 상품을, 아니면 null을 반환합니다.
+     * 보통 view가 data보다 먼저 오지만, data가 먼저 오면 해당 섹션의 data만 트리로 보관했다가 판정합니다.
+     */
+    private List<Product> readSection(JsonParser parser, String keyword, int limit) throws IOException {
+        String sectionCode = null;
+        JsonNode pendingData = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("view".equals(field) && value == JsonToken.START_OBJECT) {
+                sectionCode = readSectionCode(parser);
+            } else if ("data".equals(field) && value == JsonToken.START_OBJECT) {
+                if (sectionCode == null) {
+                    pendingData = objectMapper.readTree(parser);
+                } else if (PRODUCT_LIST.equals(sectionCode)) {
+                    return readItems(parser, keyword, limit);
+                } else {
+                    parser.skipChildren();
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        if (!PRODUCT_LIST.equals(sectionCode)) {
+            return null;
+        }
+        if (pendingData == null) {
+            return new ArrayList<>();
+        }
+        try (JsonParser buffered = objectMapper.treeAsTokens(pendingData)) {
+            buffered.nextToken();
+            return readItems(buffered, keyword, limit);
+        }
+    }
+
+    private String readSectionCode(JsonParser parser) throws IOException {
+        String sectionCode = "";
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            if (parser.nextToken().isScalarValue() && "sectionCode".equals(field)) {
+                sectionCode = parser.getText();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return sectionCode;
+    }
+
+    /**
+     * 섹션 data 객체(START_OBJECT 위치)에서 items 배열을 읽습니다.
+     */
+    private List<Product> readItems(JsonParser parser, String keyword, int limit) throws IOException {
+        List<Product> products = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            if (parser.nextToken() == JsonToken.START_ARRAY && "items".equals(field)) {
+                while (products.size() < limit && parser.nextToken() == JsonToken.START_OBJECT) {
+                    Product product = readItem(parser, keyword);
+                    if (product != null) {
+                        products.add(product);
+                    }
+                }
+                return products;
+            }
+            parser.skipChildren();
+        }
+        return products;
+    }
+
+    /**
+     * 상품 항목 하나를 읽어 관련 상품이면 Product로 반환합니다.
+     */
+    private Product readItem(JsonParser parser, String keyword) throws IOException {
+        String name = "";
+        String productNo = "";
+        int discountedPrice = 0;
+        int salesPrice = 0;
+        boolean soldOut = false;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (!value.isScalarValue()) {
+                parser.skipChildren();
+                continue;
+            }
+            switch (field) {
+                case "name" -> name = parser.getValueAsString("");
+                case "no" -> productNo = parser.getValueAsString("");
+                case "discountedPrice" -> discountedPrice = parser.getValueAsInt();
+                case "salesPrice" -> salesPrice = parser.getValueAsInt();
+                case "isSoldOut" -> soldOut = parser.getValueAsBoolean();
+                default -> {
+                }
+            }
+        }
+
+        // 공통 관련도 점수로 필터링 (건전지 등 오진 방지)
+        if (!relevanceScorer.isRelevant(name, keyword)) {
+            return null;
+        }
+        ProductQuantityParser.ProductQuantity quantity = ProductQuantityParser.parse(name);
+        return Product.builder()
+                .mallProductId(productNo)
+                .name(name)
+                .price(discountedPrice != 0 ? discountedPrice : salesPrice)
+                .mallType(MallType.KURLY)
+                .inStock(!soldOut)
+                .unit(quantity.unit())
+                .capacity(quantity.capacity())
+                .sugarPer100g(0.0)
+                .productUrl("https://www.kurly.com/goods/" + productNo)
+                .build();
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.integratedcart.application;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 실패율 기반 회로 차단기.
+ * 최근 window-size번의 호출 중 실패 비율이 임계값을 넘으면 open-seconds 동안 호출을 막고(OPEN),
+ * 이후 half-open-probes번의 시험 호출(HALF_OPEN)이 모두 성공하면 다시 닫습니다(CLOSED).
+ * 시험 호출 중 하나라도 실패하면 다시 OPEN으로 돌아갑니다.
+ */
+@Slf4j
+class MallCircuitBreaker {
+
+    enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openNanos;
+    private final int halfOpenProbes;
+    // 상태 전환 로그도 잠금 안에서 남기므로 synchronized 대신 사용 (가상 스레드 모드에서 캐리어 고정 방지)
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // 최근 호출 결과 (true = 실패) 원형 버퍼
+    private final boolean[] outcomes;
+    private int recorded;
+    private int next;
+    private int failures;
+
+    private State state = State.CLOSED;
+    private long openedAtNanos;
+    private int probesStarted;
+    private int probesSucceeded;
+    private long rejected;
+
+    MallCircuitBreaker(String name, int windowSize, int minimumCalls, double failureRateThreshold, long openMs,
+                       int halfOpenProbes) {
+        this.name = name;
+        this.outcomes = new boolean[Math.max(1, windowSize)];
+        this.minimumCalls = Math.max(1, Math.min(minimumCalls, outcomes.length));
+        this.failureRateThreshold = failureRateThreshold;
+        this.openNanos = openMs * 1_000_000L;
+        this.halfOpenProbes = Math.max(1, halfOpenProbes);
+    }
+
+    /**
+     * 호출 가능 여부. true를 받은 호출은 반드시 onSuccess/onFailure 중 하나로 결과를 알려야 합니다.
+     */
+    boolean tryAcquire() {
+        lock.lock();
+        try {
+            if (state == State.OPEN) {
+                if (System.nanoTime() - openedAtNanos < openNanos) {
+                    rejected++;
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                probesStarted = 0;
+                probesSucceeded = 0;
+                log.info("{} 회로 차단기 HALF_OPEN - 시험 호출 {}회", name, halfOpenProbes);
+            }
+            if (state == State.HALF_OPEN) {
+                if (probesStarted >= halfOpenProbes) {
+                    rejected++;
+                    return false;
+                }
+                probesStarted++;
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void onSuccess() {
+        lock.lock();
+        try {
+            if (state == State.HALF_OPEN) {
+                if (++probesSucceeded >= halfOpenProbes) {
+                    state = State.CLOSED;
+                    resetWindow();
+                    log.info("{} 회로 차단기 CLOSED - 복구 확인", name);
+                }
+                return;
+            }
+            record(false);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void onFailure() {
+        lock.lock();
+        try {
+            if (state == State.HALF_OPEN) {
+                open();
+                return;
+            }
+            if (state == State.OPEN) {
+                return;
+            }
+            record(true);
+            if (recorded >= minimumCalls && (double) failures / recorded >= failureRateThreshold) {
+                open();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 결과를 알 수 없게 끝난 호출(시험 호출이 거절로 끝난 경우 등)의 자리를 돌려줍니다.
+     */
+    void onIgnored() {
+        lock.lock();
+        try {
+            if (state == State.HALF_OPEN && probesStarted > probesSucceeded) {
+                probesStarted--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    State state() {
+        lock.lock();
+        try {
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    double failureRate() {
+        lock.lock();
+        try {
+            return recorded == 0 ? 0 : (double) failures / recorded;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long rejected() {
+        lock.lock();
+        try {
+            return rejected;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAtNanos = System.nanoTime();
+        log.warn("{} 회로 차단기 OPEN - 실패율 {}%, {}초 동안 호출 차단", name,
+                Math.round(failureRate() * 100), openNanos / 1_000_000_000L);
+        resetWindow();
+    }
+
+    private void record(boolean failed) {
+        if (recorded == outcomes.length) {
+            if (outcomes[next]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+        outcomes[next] = failed;
+        if (failed) {
+            failures++;
+        }
+        next = (next + 1) % outcomes.length;
+    }
+
+    private void resetWindow() {
+        recorded = 0;
+        next = 0;
+        failures = 0;
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.integratedcart.application;
+
+import com.example.integratedcart.domain.product.MallType;
+import com.example.integratedcart.domain.user.User;
+import com.example.integratedcart.domain.user.UserRepository;
+import com.example.integratedcart.infrastructure.AES256Util;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+/**
+ * 사용자의 외부 쇼핑몰 계정 정보(AES-256 암호화 저장)를 복호화하여 제공합니다.
+ * 복호화된 값은 DB에 저장하지 않고 자동화 작업 실행 시점에만 조회합니다.
+ * - 여러 쇼핑몰을 한 번에 결제/담기할 때 같은 사용자를 반복해서 읽고 복호화하지 않도록, 복호화한 값을
+ *   (사용자, 쇼핑몰)별로 짧은 시간(app.security.credential-cache.ttl-seconds) 동안만 메모리에 보관합니다.
+ * - 이전 형식이거나 교체 전 키로 암호화된 값은 읽을 때 현재 키로 다시 암호화해 저장합니다.
+ */
+@Slf4j
+@Service
+public class MallCredentialService {
+
+    private final UserRepository userRepository;
+    private final AES256Util aes256Util;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache<CredentialKey, String> decrypted;
+
+    public MallCredentialService(UserRepository userRepository,
+                                 AES256Util aes256Util,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${app.security.credential-cache.max-size:1000}") long maxSize,
+                                 @Value("${app.security.credential-cache.ttl-seconds:120}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.aes256Util = aes256Util;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.decrypted = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    /**
+     * @throws IllegalArgumentException 사용자가 없는 경우
+     */
+    @Transactional(readOnly = true)
+    public void requireUser(Long userId) {
+        if (userId == null || !userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
+        }
+    }
+
+    /**
+     * @return 복호화된 계정 정보. 저장된 정보가 없거나 복호화에 실패하면 빈 문자열 (브라우저에서 직접 로그인)
+     * @throws IllegalArgumentException 사용자가 없는 경우
+     */
+    public String decrypt(Long userId, MallType type) {
+        CredentialKey key = new CredentialKey(userId, type);
+        String cached = decrypted.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        String credentials = transactionTemplate.execute(status -> load(userId, type));
+        // 복호화 실패는 캐시하지 않음 (키 설정을 고친 뒤 바로 다시 시도할 수 있도록)
+        if (credentials != null) {
+            decrypted.put(key, credentials);
+        }
+        return credentials == null ? "" : credentials;
+    }
+
+    /**
+     * @return 복호화된 계정 정보 (저장된 정보가 없으면 빈 문자열), 복호화에 실패하면 null
+     */
+    private String load(Long userId, MallType type) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        String encryptedCreds = credentialsOf(user, type);
+        if (encryptedCreds == null || encryptedCreds.isEmpty()) {
+            return "";
+        }
+        String credentials;
+        try {
+            credentials = aes256Util.decrypt(encryptedCreds);
+        } catch (Exception e) {
+            log.error("쇼핑몰 {} 자격증명 복호화 실패", type, e);
+            return null;
+        }
+        if (aes256Util.needsReencryption(encryptedCreds)) {
+            try {
+                updateCredentials(user, type, aes256Util.encrypt(credentials));
+                log.info("쇼핑몰 {} 자격증명을 현재 키로 다시 암호화 (사용자 {})", type, userId);
+            } catch (Exception e) {
+                log.warn("쇼핑몰 {} 자격증명 재암호화 실패 (다음 조회 때 재시도): {}", type, e.getMessage());
+            }
+        }
+        return credentials;
+    }
+
+    private String credentialsOf(User user, MallType type) {
+        return switch (type) {
+            case COUPANG -> user.getCoupangCredentials();
+            case KURLY -> user.getKurlyCredentials();
+            case BMART -> user.getBmartCredentials();
+            default -> null;
+        };
+    }
+
+    private void updateCredentials(User user, MallType type, String encrypted) {
+        switch (type) {
+            case COUPANG -> user.updateCredentials(encrypted, null, null);
+            case KURLY -> user.updateCredentials(null, encrypted, null);
+            case BMART -> user.updateCredentials(null, null, encrypted);
+            default -> {
+            }
+        }
+    }
+
+    record CredentialKey(Long userId, MallType mallType) {
+    }
+}
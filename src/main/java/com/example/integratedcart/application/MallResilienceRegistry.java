@@ -0,0 +1,87 @@
+package com.example.integratedcart.application;
+
+import com.example.integratedcart.domain.product.MallType;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 쇼핑몰별 회로 차단기와 동시 검색 한도를 보관합니다.
+ * 설정은 app.resilience.circuit-breaker.* / app.resilience.concurrency.* 이며,
+ * 쇼핑몰별로 app.resilience.concurrency.latency-target-ms.&lt;mall&gt; 처럼 재정의할 수 있습니다.
+ */
+@Component
+public class MallResilienceRegistry {
+
+    private final Map<MallType, MallCircuitBreaker> breakers = new EnumMap<>(MallType.class);
+    private final Map<MallType, AdaptiveConcurrencyLimit> limits = new EnumMap<>(MallType.class);
+
+    public MallResilienceRegistry(Environment environment) {
+        for (MallType type : MallType.values()) {
+            String mall = type.name().toLowerCase(Locale.ROOT);
+            breakers.put(type, new MallCircuitBreaker(type.name(),
+                    setting(environment, "circuit-breaker.window-size", mall, Integer.class, 20),
+                    setting(environment, "circuit-breaker.minimum-calls", mall, Integer.class, 5),
+                    setting(environment, "circuit-breaker.failure-rate-threshold", mall, Double.class, 0.5),
+                    setting(environment, "circuit-breaker.open-seconds", mall, Long.class, 30L) * 1000,
+                    setting(environment, "circuit-breaker.half-open-probes", mall, Integer.class, 2)));
+            limits.put(type, new AdaptiveConcurrencyLimit(type.name(),
+                    setting(environment, "concurrency.initial-limit", mall, Integer.class, 4),
+                    setting(environment, "concurrency.min-limit", mall, Integer.class, 1),
+                    setting(environment, "concurrency.max-limit", mall, Integer.class, 16),
+                    setting(environment, "concurrency.latency-target-ms", mall, Long.class, 4000L),
+                    setting(environment, "concurrency.backoff-ratio", mall, Double.class, 0.7)));
+        }
+    }
+
+    MallCircuitBreaker circuitBreaker(MallType type) {
+        return breakers.get(type);
+    }
+
+    AdaptiveConcurrencyLimit concurrencyLimit(MallType type) {
+        return limits.get(type);
+    }
+
+    /**
+     * 쇼핑몰 → 회로 차단기/동시 검색 한도 상태 (모니터링용)
+     */
+    public Map<MallType, ResilienceStats> getStats() {
+        Map<MallType, ResilienceStats> stats = new EnumMap<>(MallType.class);
+        for (MallType type : MallType.values()) {
+            stats.put(type, getStats(type));
+        }
+        return stats;
+    }
+
+    /**
+     * 쇼핑몰 하나의 회로 차단기/동시 검색 한도 상태 (메트릭용 - 다른 쇼핑몰은 읽지 않음)
+     */
+    public ResilienceStats getStats(MallType type) {
+        MallCircuitBreaker breaker = breakers.get(type);
+        AdaptiveConcurrencyLimit limit = limits.get(type);
+        return new ResilienceStats(breaker.state().name(), breaker.failureRate(), breaker.rejected(),
+                limit.limit(), limit.inFlight(), limit.rejected());
+    }
+
+    /**
+     * app.resilience.&lt;key&gt;.&lt;mall&gt; → app.resilience.&lt;key&gt;.default → app.resilience.&lt;key&gt; → 기본값
+     */
+    private static <T> T setting(Environment environment, String key, String mall, Class<T> type, T defaultValue) {
+        String prefix = "app.resilience." + key;
+        T value = environment.getProperty(prefix + "." + mall, type);
+        if (value == null) {
+            value = environment.getProperty(prefix + ".default", type);
+        }
+        if (value == null) {
+            value = environment.getProperty(prefix, type, defaultValue);
+        }
+        return value;
+    }
+
+    public record ResilienceStats(String circuitState, double failureRate, long circuitRejected,
+                                  int concurrencyLimit, int inFlight, long concurrencyRejected) {
+    }
+}
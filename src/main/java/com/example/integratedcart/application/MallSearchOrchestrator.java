@@ -0,0 +1,289 @@
+package com.example.integratedcart.application;
+
+import com.example.integratedcart.domain.product.MallType;
+import com.example.integratedcart.domain.product.Product;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 여러 쇼핑몰의 MallStrategy를 동시에 실행하는 팬아웃 검색 오케스트레이터.
+ * 쇼핑몰마다 마감 시간(deadline)이 있으며, 시간 안에 끝나지 않은 쇼핑몰은 TIMEOUT으로 표시하고
+ * 나머지 결과만으로 응답합니다.
+ */
+@Slf4j
+@Service
+public class MallSearchOrchestrator {
+
+    private final MallStrategyFactory mallStrategyFactory;
+    private final ExecutorService executor;
+    private final Map<MallType, Long> deadlineMs = new EnumMap<>(MallType.class);
+    // 스트리밍 검색의 쇼핑몰별 마감 시간 처리 전용 (대기 스레드 없이 TIMEOUT 전달)
+    private final ScheduledThreadPoolExecutor deadlineScheduler;
+
+    public MallSearchOrchestrator(MallStrategyFactory mallStrategyFactory,
+                                  @Qualifier("mallSearchExecutor") ExecutorService executor,
+                                  Environment environment,
+                                  @Value("${app.search.deadline-ms.default:8000}") long defaultDeadlineMs) {
+        this.mallStrategyFactory = mallStrategyFactory;
+        this.executor = executor;
+        this.deadlineScheduler = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread t = new Thread(r, "mall-search-deadline");
+            t.setDaemon(true);
+            return t;
+        });
+        this.deadlineScheduler.setRemoveOnCancelPolicy(true);
+        // 쇼핑몰별 마감 시간: app.search.deadline-ms.<mall> (예: app.search.deadline-ms.coupang=12000)
+        for (MallType type : MallType.values()) {
+            deadlineMs.put(type, environment.getProperty(
+                    "app.search.deadline-ms." + type.name().toLowerCase(), Long.class, defaultDeadlineMs));
+        }
+    }
+
+    /**
+     * 지정된 쇼핑몰들을 동시에 검색하고 쇼핑몰별 마감 시간까지 기다립니다.
+     * @param keyword 재료명
+     * @param requiredAmount 필요한 양
+     * @param malls 검색할 쇼핑몰
+     * @return 쇼핑몰별 검색 결과 (시간 초과/실패 포함)
+     */
+    public Map<MallType, MallSearchResult> search(String keyword, double requiredAmount, Collection<MallType> malls) {
+        return await(submit(keyword, requiredAmount, malls, null));
+    }
+
+    /**
+     * 검색 작업을 executor에 제출만 하고 즉시 반환합니다.
+     * 여러 재료를 한 번에 제출한 뒤 {@link #await(PendingSearch)}로 모으는 배치 검색에 사용합니다.
+     * @param budget 전체 시간 예산 (null이면 쇼핑몰별 마감 시간만 적용)
+     */
+    public PendingSearch submit(String keyword, double requiredAmount, Collection<MallType> malls, Duration budget) {
+        return submit(keyword, requiredAmount, malls, budget, null);
+    }
+
+    /**
+     * 쇼핑몰별 검색이 끝나는 즉시 onResult로 결과를 전달합니다. (SSE 스트리밍 검색용)
+     * 호출 스레드를 막지 않으며, 마감 시간이 지난 쇼핑몰은 TIMEOUT으로 전달됩니다.
+     * onResult는 검색 작업 스레드 또는 마감 시간 스케줄러 스레드에서 호출됩니다.
+     * @param budget 전체 시간 예산 (null이면 쇼핑몰별 마감 시간만 적용)
+     * @return 모든 쇼핑몰의 결과가 전달된 후 완료되는 future
+     */
+    public CompletableFuture<Map<MallType, MallSearchResult>> stream(String keyword, double requiredAmount,
+                                                                     Collection<MallType> malls, Duration budget,
+                                                                     Consumer<MallSearchResult> onResult) {
+        StreamingSearch streaming = new StreamingSearch(keyword, malls.size(), onResult);
+        if (malls.isEmpty()) {
+            streaming.all.complete(new EnumMap<>(MallType.class));
+            return streaming.all;
+        }
+        PendingSearch pending = submit(keyword, requiredAmount, malls, budget, task -> {
+            if (task.claim()) {
+                task.cancelDeadline();
+                streaming.publish(awaitTask(keyword, task));
+            }
+        });
+        for (MallSearchTask task : pending.tasks()) {
+            if (task.isDone()) {
+                continue;
+            }
+            long remaining = Math.max(0, task.deadlineNanos - System.nanoTime());
+            task.deadline = deadlineScheduler.schedule(() -> {
+                if (task.claim()) {
+                    task.cancel(true);
+                    streaming.publish(timedOut(keyword, task));
+                }
+            }, remaining, TimeUnit.NANOSECONDS);
+        }
+        return streaming.all;
+    }
+
+    private PendingSearch submit(String keyword, double requiredAmount, Collection<MallType> malls, Duration budget,
+                                 Consumer<MallSearchTask> onDone) {
+        long now = System.nanoTime();
+        List<MallSearchTask> tasks = new ArrayList<>(malls.size());
+        for (MallType type : malls) {
+            long deadline = now + TimeUnit.MILLISECONDS.toNanos(deadlineMs.get(type));
+            if (budget != null) {
+                deadline = Math.min(deadline, now + budget.toNanos());
+            }
+            MallSearchTask task = new MallSearchTask(type,
+                    () -> mallStrategyFactory.getStrategy(type).searchProducts(keyword, requiredAmount, false),
+                    now, deadline, onDone);
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException e) {
+                log.warn("쇼핑몰 {} 검색 작업 거절 (executor 포화)", type);
+                task.cancel(false);
+            }
+            tasks.add(task);
+        }
+        return new PendingSearch(keyword, tasks);
+    }
+
+    /**
+     * 제출된 검색이 끝나거나 각 쇼핑몰의 마감 시간이 지날 때까지 기다립니다.
+     */
+    public Map<MallType, MallSearchResult> await(PendingSearch pending) {
+        Map<MallType, MallSearchResult> results = new EnumMap<>(MallType.class);
+        for (MallSearchTask task : pending.tasks()) {
+            results.put(task.mallType, awaitTask(pending.keyword(), task));
+        }
+        return results;
+    }
+
+    private MallSearchResult awaitTask(String keyword, MallSearchTask task) {
+        MallType type = task.mallType;
+        try {
+            long remaining = Math.max(0, task.deadlineNanos - System.nanoTime());
+            List<Product> products = task.get(remaining, TimeUnit.NANOSECONDS);
+            return MallSearchResult.completed(type, products, task.elapsedMs());
+        } catch (TimeoutException e) {
+            task.cancel(true);
+            return timedOut(keyword, task);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof MallUnavailableException) {
+                log.debug("쇼핑몰 {} 검색 보류: {}", type, cause.getMessage());
+                return MallSearchResult.failed(type, MallSearchStatus.REJECTED, task.elapsedMs(), cause.getMessage());
+            }
+            log.error("쇼핑몰 {} 검색 실패: {}", type, cause.getMessage());
+            return MallSearchResult.failed(type, MallSearchStatus.FAILED, task.elapsedMs(), cause.getMessage());
+        } catch (CancellationException e) {
+            return MallSearchResult.failed(type, MallSearchStatus.FAILED, task.elapsedMs(), "검색 작업이 실행되지 않았습니다.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            task.cancel(true);
+            return MallSearchResult.failed(type, MallSearchStatus.FAILED, task.elapsedMs(), "검색 대기 중 인터럽트");
+        }
+    }
+
+    private MallSearchResult timedOut(String keyword, MallSearchTask task) {
+        log.warn("쇼핑몰 {} 검색 시간 초과 ({}ms), 키워드: {}", task.mallType, task.elapsedMs(), keyword);
+        return MallSearchResult.failed(task.mallType, MallSearchStatus.TIMEOUT, task.elapsedMs(), "검색 시간 초과");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        deadlineScheduler.shutdownNow();
+    }
+
+    /**
+     * 스트리밍 검색 하나의 진행 상태. 쇼핑몰별 결과를 모아 모두 도착하면 future를 완료합니다.
+     */
+    private static final class StreamingSearch {
+
+        private final String keyword;
+        private final Consumer<MallSearchResult> onResult;
+        private final Map<MallType, MallSearchResult> results = new EnumMap<>(MallType.class);
+        private final ReentrantLock lock = new ReentrantLock();
+        private final AtomicInteger remaining;
+        private final CompletableFuture<Map<MallType, MallSearchResult>> all = new CompletableFuture<>();
+
+        private StreamingSearch(String keyword, int mallCount, Consumer<MallSearchResult> onResult) {
+            this.keyword = keyword;
+            this.onResult = onResult;
+            this.remaining = new AtomicInteger(mallCount);
+        }
+
+        private void publish(MallSearchResult result) {
+            try {
+                onResult.accept(result);
+            } catch (RuntimeException e) {
+                log.warn("검색 결과 전달 실패 - 쇼핑몰: {}, 키워드: {}, 원인: {}", result.mallType(), keyword, e.getMessage());
+            }
+            Map<MallType, MallSearchResult> snapshot = null;
+            lock.lock();
+            try {
+                results.put(result.mallType(), result);
+                if (remaining.decrementAndGet() == 0) {
+                    snapshot = new EnumMap<>(results);
+                }
+            } finally {
+                lock.unlock();
+            }
+            // 완료 콜백(요약 SSE 전송 등)은 잠금 밖에서 실행
+            if (snapshot != null) {
+                all.complete(snapshot);
+            }
+        }
+    }
+
+    /**
+     * 제출된 쇼핑몰별 검색 작업 묶음.
+     */
+    public record PendingSearch(String keyword, List<MallSearchTask> tasks) {
+    }
+
+    /**
+     * 쇼핑몰 하나에 대한 검색 작업. 마감 시간이 지나면 cancel(true)로 중단됩니다.
+     */
+    public static final class MallSearchTask extends FutureTask<List<Product>> {
+
+        private final MallType mallType;
+        private final long startNanos;
+        private final long deadlineNanos;
+        private final Consumer<MallSearchTask> onDone;
+        // 스트리밍 검색에서 결과를 한 번만 전달하기 위한 표시 (완료 콜백과 마감 시간 스케줄러가 경쟁)
+        private final AtomicBoolean reported = new AtomicBoolean();
+        private volatile ScheduledFuture<?> deadline;
+
+        private MallSearchTask(MallType mallType, Callable<List<Product>> search, long startNanos, long deadlineNanos,
+                               Consumer<MallSearchTask> onDone) {
+            super(search);
+            this.mallType = mallType;
+            this.startNanos = startNanos;
+            this.deadlineNanos = deadlineNanos;
+            this.onDone = onDone;
+        }
+
+        @Override
+        protected void done() {
+            if (onDone != null) {
+                onDone.accept(this);
+            }
+        }
+
+        private boolean claim() {
+            return reported.compareAndSet(false, true);
+        }
+
+        private void cancelDeadline() {
+            ScheduledFuture<?> scheduled = deadline;
+            if (scheduled != null) {
+                scheduled.cancel(false);
+            }
+        }
+
+        public MallType getMallType() {
+            return mallType;
+        }
+
+        private long elapsedMs() {
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        }
+    }
+}
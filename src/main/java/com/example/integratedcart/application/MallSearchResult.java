@@ -0,0 +1,27 @@
+package com.example.integratedcart.application;
+
+import com.example.integratedcart.domain.product.MallType;
+import com.example.integratedcart.domain.product.Product;
+
+import java.util.List;
+
+/**
+ * 쇼핑몰 하나의 검색 결과와 상태(성공/빈 결과/시간 초과/실패/검색 보류).
+ * @param mallType 쇼핑몰 타입
+ * @param status 검색 상태
+ * @param products 검색된 상품 (시간 초과/실패/검색 보류 시 빈 리스트)
+ * @param elapsedMs 소요 시간
+ * @param error 실패 사유 (성공 시 null)
+ */
+public record MallSearchResult(MallType mallType, MallSearchStatus status, List<Product> products, long elapsedMs,
+                               String error) {
+
+    public static MallSearchResult completed(MallType mallType, List<Product> products, long elapsedMs) {
+        return new MallSearchResult(mallType, products.isEmpty() ? MallSearchStatus.EMPTY : MallSearchStatus.SUCCESS,
+                products, elapsedMs, null);
+    }
+
+    public static MallSearchResult failed(MallType mallType, MallSearchStatus status, long elapsedMs, String error) {
+        return new MallSearchResult(mallType, status, List.of(), elapsedMs, error);
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.integratedcart.application;
+
+/**
+ * 쇼핑몰 하나에 대한 검색 결과 상태.
+ * REJECTED는 회로 차단기/동시 검색 한도/요청 한도 때문에 검색을 실행하지 않은 경우입니다.
+ */
+public enum MallSearchStatus {
+    SUCCESS, EMPTY, TIMEOUT, FAILED, REJECTED
+}
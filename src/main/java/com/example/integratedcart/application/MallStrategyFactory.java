@@ -1,12 +1,14 @@
 package com.example.integratedcart.application;
 
 import com.example.integratedcart.domain.product.MallType;
+import com.example.integratedcart.domain.product.Product;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
 import org.springframework.stereotype.Component;
 
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 /**
  * 쇼핑몰 타입에 맞는 전략(Strategy) 객체를 제공하는 팩토리.
@@ -15,10 +17,26 @@ import java.util.stream.Collectors;
 public class MallStrategyFactory {
 
     private final Map<MallType, MallStrategy> strategies;
+    private final Map<MallType, CachedMallStrategy> cachedStrategies;
+    private final Map<MallType, IndexedMallStrategy> indexedStrategies;
 
-    public MallStrategyFactory(List<MallStrategy> strategyList) {
-        this.strategies = strategyList.stream()
-                .collect(Collectors.toMap(MallStrategy::getMallType, Function.identity()));
+    public MallStrategyFactory(List<MallStrategy> strategyList, SearchResultCache searchResultCache,
+                               ProductIndexService productIndexService,
+                               ProductIdentityResolver productIdentityResolver,
+                               MallResilienceRegistry resilienceRegistry,
+                               ObservationRegistry observationRegistry, MeterRegistry meterRegistry) {
+        // 메트릭/트레이싱 → 키워드 캐시 → 로컬 가격 인덱스(중복 상품 병합) → 회로 차단기/동시 검색 한도 → 실제 스크래핑 순으로 감싸서 제공
+        this.strategies = new EnumMap<>(MallType.class);
+        this.cachedStrategies = new EnumMap<>(MallType.class);
+        this.indexedStrategies = new EnumMap<>(MallType.class);
+        for (MallStrategy strategy : strategyList) {
+            MallStrategy resilient = new ResilientMallStrategy(strategy, resilienceRegistry);
+            IndexedMallStrategy indexed = new IndexedMallStrategy(resilient, productIndexService, productIdentityResolver);
+            indexedStrategies.put(strategy.getMallType(), indexed);
+            CachedMallStrategy cached = new CachedMallStrategy(indexed, searchResultCache);
+            cachedStrategies.put(strategy.getMallType(), cached);
+            strategies.put(strategy.getMallType(), new ObservedMallStrategy(cached, observationRegistry, meterRegistry));
+        }
     }
 
     /**
@@ -34,4 +52,16 @@ public class MallStrategyFactory {
         }
         return strategy;
     }
+
+    /**
+     * 캐시/인덱스의 신선도와 무관하게 실제로 다시 검색하여 인덱스와 키워드 캐시를 갱신합니다. (백그라운드 가격 갱신용)
+     * 회로 차단기/동시 검색 한도는 사용자 검색과 똑같이 적용됩니다.
+     * @return 갱신된 상품
+     */
+    public List<Product> refresh(MallType type, String keyword) {
+        getStrategy(type);
+        List<Product> products = indexedStrategies.get(type).scrapeAndIndex(keyword, 1, false);
+        cachedStrategies.get(type).put(keyword, products);
+        return products;
+    }
 }
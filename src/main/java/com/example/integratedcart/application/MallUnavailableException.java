@@ -0,0 +1,22 @@
+package com.example.integratedcart.application;
+
+import com.example.integratedcart.domain.product.MallType;
+
+/**
+ * 회로 차단기가 열려 있거나 동시 검색 한도가 찼거나 요청 한도를 넘어 쇼핑몰 검색을 실행하지 않았을 때 발생합니다.
+ */
+public class MallUnavailableException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final MallType mallType;
+
+    public MallUnavailableException(MallType mallType, String reason) {
+        super(mallType + " 검색 보류: " + reason);
+        this.mallType = mallType;
+    }
+
+    public MallType getMallType() {
+        return mallType;
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.integratedcart.application;
+
+import com.example.integratedcart.domain.product.Product;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microsoft.playwright.Page;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 네이버 쇼핑 검색 결과 페이지.
+ * HTTP 단계에서는 Next.js가 내려주는 __NEXT_DATA__ JSON을 먼저 읽고, 없으면 HTML 상품 카드를 파싱합니다.
+ */
+@Slf4j
+@Component
+class NaverShoppingSource implements ShoppingPageSource {
+
+    private static final String ITEM_SELECTOR =
+            "div[class*='product_item'], li[class*='product_item'], div[class*='adProduct_item'], div[class*='basicList_item']";
+    private static final String MALL_SELECTOR =
+            "a[class*='product_mall'], span[class*='product_mall'], span[class*='mall_name']";
+    private static final String LINK_SELECTOR =
+            "a[class*='product_link'], a[class*='adProduct_link'], a[class*='basicList_link']";
+    private static final String PRICE_SELECTOR = "span[class*='price_num'], em[class*='price_num']";
+    // 네이버 쇼핑의 다양한 레이아웃 대응 (더 범용적인 선택자 사용)
+    private static final PageExtractionEngine.CardSpec CARD_SPEC = new PageExtractionEngine.CardSpec(ITEM_SELECTOR,
+            Map.of("name", PageExtractionEngine.Field.text(LINK_SELECTOR),
+                    "url", PageExtractionEngine.Field.attribute("href", LINK_SELECTOR),
+                    "mall", PageExtractionEngine.Field.text(MALL_SELECTOR),
+                    "price", PageExtractionEngine.Field.text(PRICE_SELECTOR, "span[class*='price']")),
+            40);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ProductRelevanceScorer relevanceScorer;
+    private final PageExtractionEngine extractionEngine;
+    private final String baseUrl;
+
+    NaverShoppingSource(ProductRelevanceScorer relevanceScorer, PageExtractionEngine extractionEngine,
+                        @Value("${app.scrape.base-url.naver-shopping:https://search.shopping.naver.com}") String baseUrl) {
+        this.relevanceScorer = relevanceScorer;
+        this.extractionEngine = extractionEngine;
+        this.baseUrl = baseUrl;
+    }
+
+    @Override
+    public String name() {
+        return "naver-shopping";
+    }
+
+    @Override
+    public String searchUrl(String keyword, String mallFilter) {
+        String query = (mallFilter != null ? mallFilter + " " : "") + keyword;
+        return baseUrl + "/search/all?query=" + URLEncoder.encode(query, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public List<Product> fromDocument(Document document, String keyword, String mallFilter) {
+        Element nextData = document.selectFirst("script#__NEXT_DATA__");
+        if (nextData != null) {
+            try {
+                JsonNode list = objectMapper.readTree(nextData.data())
+                        .path("props").path("pageProps").path("initialState").path("products").path("list");
+                if (list.isArray()) {
+                    return fromNextData(list, keyword, mallFilter);
+                }
+            } catch (Exception e) {
+                log.debug("네이버 __NEXT_DATA__ 파싱 실패 - HTML 파싱으로 전환: {}", e.getMessage());
+            }
+        }
+
+        Elements items = document.select(ITEM_SELECTOR);
+        if (items.isEmpty()) {
+            return null;
+        }
+        List<Product> products = new ArrayList<>();
+        for (Element item : items) {
+            if (products.size() >= ScrapedProducts.MAX_PRODUCTS_PER_SEARCH)
+                break;
+            Element link = item.selectFirst(LINK_SELECTOR);
+            if (link == null)
+                continue;
+            Element mall = item.selectFirst(MALL_SELECTOR);
+            Element price = item.selectFirst(PRICE_SELECTOR);
+            if (price == null)
+                price = item.selectFirst("span[class*='price']");
+            accept(products, link.text(), price != null ? price.text() : null, link.attr("href"),
+                    mall != null ? mall.text() : "", keyword, mallFilter);
+        }
+        return products;
+    }
+
+    List<Product> fromNextData(JsonNode list, String keyword, String mallFilter) {
+        List<Product> products = new ArrayList<>();
+        for (JsonNode entry : list) {
+            if (products.size() >= ScrapedProducts.MAX_PRODUCTS_PER_SEARCH)
+                break;
+            JsonNode item = entry.has("item") ? entry.path("item") : entry;
+            String name = item.path("productTitle").asText(item.path("productName").asText(""));
+            String price = item.path("price").asText(item.path("lowPrice").asText(""));
+            String url = item.path("crUrl").asText(item.path("mallProductUrl").asText(""));
+            accept(products, name, price, url, item.path("mallName").asText(""), keyword, mallFilter);
+        }
+        return products;
+    }
+
+    @Override
+    public List<Product> fromPage(Page page, String keyword, String mallFilter) {
+        List<Product> products = new ArrayList<>();
+        for (JsonNode card : extractionEngine.extractCards(page, name(), CARD_SPEC)) {
+            if (products.size() >= ScrapedProducts.MAX_PRODUCTS_PER_SEARCH)
+                break;
+            accept(products, card.path("name").asText(""), card.path("price").asText(null),
+                    card.path("url").asText(null), card.path("mall").asText(""), keyword, mallFilter);
+        }
+        return products;
+    }
+
+    /**
+     * 쇼핑몰 필터와 관련도를 통과한 상품만 추가합니다.
+     * 필터 없이 검색한 경우 상품명 앞에 판매 쇼핑몰 이름을 붙입니다.
+     */
+    private void accept(List<Product> products, String name, String priceText, String productUrl, String mallName,
+                        String keyword, String mallFilter) {
+        mallName = mallName == null ? "" : mallName.trim();
+        if (mallFilter != null && !mallName.contains(mallFilter) && !mallFilter.contains(mallName))
+            return;
+        if (name == null || name.isBlank() || !relevanceScorer.isRelevant(name, keyword))
+            return;
+        int price = ScrapedProducts.parsePrice(priceText);
+        if (price < 0)
+            return;
+        if (productUrl != null && !productUrl.isEmpty() && !productUrl.startsWith("http")) {
+            productUrl = baseUrl + productUrl;
+        }
+        ScrapedProducts.addUnique(products, ScrapedProducts.create(ScrapedProducts.mallTypeFor(mallFilter),
+                (mallFilter == null && !mallName.isEmpty() ? "[" + mallName + "] " : "") + name.trim(),
+                price, productUrl));
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.integratedcart.application;
+
+import com.example.integratedcart.domain.product.MallType;
+import com.example.integratedcart.domain.product.Product;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 쇼핑몰 검색 한 번을 "mall.search" observation(타이머 + span)으로 기록하는 가장 바깥 데코레이터.
+ * 캐시/인덱스 적중도 포함한 사용자 체감 시간이며, 결과 수는 "mall.search.results" 분포로 기록합니다.
+ * (결과 없음 비율 = outcome=empty 횟수 / 전체 횟수)
+ */
+class ObservedMallStrategy implements MallStrategy {
+
+    private final MallStrategy delegate;
+    private final ObservationRegistry observationRegistry;
+    private final String mall;
+    private final DistributionSummary resultCount;
+
+    ObservedMallStrategy(MallStrategy delegate, ObservationRegistry observationRegistry, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.observationRegistry = observationRegistry;
+        this.mall = delegate.getMallType().name().toLowerCase(Locale.ROOT);
+        this.resultCount = DistributionSummary.builder("mall.search.results")
+                .description("쇼핑몰 검색 한 번의 결과 상품 수")
+                .tag("mall", mall)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @Override
+    public MallType getMallType() {
+        return delegate.getMallType();
+    }
+
+    @Override
+    public List<Product> searchProducts(String keyword, double targetAmount, boolean isLowSugar) {
+        Observation observation = Observation.createNotStarted("mall.search", observationRegistry)
+                .contextualName("mall-search " + mall)
+                .lowCardinalityKeyValue("mall", mall)
+                .highCardinalityKeyValue("keyword", keyword);
+        List<Product> products = PipelineObservations.observe(observation,
+                () -> delegate.searchProducts(keyword, targetAmount, isLowSugar), PipelineObservations::outcomeOf);
+        resultCount.record(products.size());
+        return products;
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.integratedcart.application;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.TimeoutError;
+import com.microsoft.playwright.options.LoadState;
+import com.microsoft.playwright.options.WaitForSelectorState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 브라우저로 연 검색 페이지에서 상품 카드를 추출합니다.
+ * 고정 시간 대기 대신 상품 카드 선택자가 나타날 때까지(없으면 network idle까지) 기다리고,
+ * 카드별 locator 호출 대신 한 번의 evaluate로 모든 카드의 필드를 JSON으로 가져옵니다.
+ */
+@Slf4j
+@Component
+public class PageExtractionEngine {
+
+    private static final String EXTRACT_SCRIPT = """
+            ({ item, fields, max }) => {
+              const cards = [];
+              for (const el of document.querySelectorAll(item)) {
+                if (cards.length >= max) break;
+                const card = {};
+                for (const [key, field] of Object.entries(fields)) {
+                  let target = field.selectors.length === 0 ? el : null;
+                  for (const selector of field.selectors) {
+                    target = el.querySelector(selector);
+                    if (target) break;
+                  }
+                  card[key] = !target ? null
+                      : field.attribute ? target.getAttribute(field.attribute) : target.innerText;
+                }
+                cards.push(card);
+              }
+              return JSON.stringify(cards);
+            }
+            """;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Environment environment;
+    private final long defaultReadyTimeoutMs;
+    private final long networkIdleTimeoutMs;
+
+    public PageExtractionEngine(Environment environment,
+                                @Value("${app.scrape.ready-timeout-ms.default:8000}") long defaultReadyTimeoutMs,
+                                @Value("${app.scrape.network-idle-timeout-ms:3000}") long networkIdleTimeoutMs) {
+        this.environment = environment;
+        this.defaultReadyTimeoutMs = defaultReadyTimeoutMs;
+        this.networkIdleTimeoutMs = networkIdleTimeoutMs;
+    }
+
+    /**
+     * 상품 카드가 준비될 때까지 기다린 뒤 모든 카드를 한 번에 추출합니다.
+     * @param source 검색 페이지 이름 (대기 시간 설정: app.scrape.ready-timeout-ms.&lt;source&gt;)
+     * @return 카드별 필드 값 (필드를 찾지 못하면 null)
+     */
+    public List<JsonNode> extractCards(Page page, String source, CardSpec spec) {
+        awaitReady(page, source, spec.itemSelector());
+        Map<String, Object> fields = new LinkedHashMap<>();
+        spec.fields().forEach((key, field) -> fields.put(key, Map.of(
+                "selectors", field.selectors(),
+                "attribute", field.attribute() != null ? field.attribute() : "")));
+
+        Object json = page.evaluate(EXTRACT_SCRIPT,
+                Map.of("item", spec.itemSelector(), "fields", fields, "max", spec.maxCards()));
+        List<JsonNode> cards = new ArrayList<>();
+        try {
+            objectMapper.readTree(String.valueOf(json)).forEach(cards::add);
+        } catch (Exception e) {
+            log.warn("{} 상품 카드 결과 파싱 실패: {}", source, e.getMessage());
+        }
+        return cards;
+    }
+
+    /**
+     * 상품 카드 선택자가 DOM에 붙을 때까지 기다립니다.
+     * 시간 안에 나타나지 않으면(검색 결과 없음 등) 네트워크가 잠잠해질 때까지만 짧게 더 기다립니다.
+     */
+    private void awaitReady(Page page, String source, String itemSelector) {
+        long timeoutMs = environment.getProperty("app.scrape.ready-timeout-ms." + source, Long.class,
+                defaultReadyTimeoutMs);
+        try {
+            page.waitForSelector(itemSelector, new Page.WaitForSelectorOptions()
+                    .setState(WaitForSelectorState.ATTACHED)
+                    .setTimeout(timeoutMs));
+        } catch (TimeoutError e) {
+            log.debug("{} 상품 카드 대기 시간 초과 ({}ms) - network idle 대기", source, timeoutMs);
+            try {
+                page.waitForLoadState(LoadState.NETWORKIDLE,
+                        new Page.WaitForLoadStateOptions().setTimeout(networkIdleTimeoutMs));
+            } catch (TimeoutError ignored) {
+                // 추출은 현재 DOM 상태로 진행
+            }
+        }
+    }
+
+    /**
+     * 추출할 상품 카드 정의.
+     * @param itemSelector 카드 요소 선택자
+     * @param fields 필드명 → 추출 방법 (카드 결과는 필드명으로 읽으므로 순서는 상관없음)
+     * @param maxCards 최대 카드 수
+     */
+    public record CardSpec(String itemSelector, Map<String, Field> fields, int maxCards) {
+    }
+
+    /**
+     * 카드 안의 필드 하나.
+     * @param selectors 카드 기준 선택자 후보 (앞에서부터 처음 찾은 요소 사용, 비어 있으면 카드 자체)
+     * @param attribute 읽을 속성 (null이면 innerText)
+     */
+    public record Field(List<String> selectors, String attribute) {
+
+        public static Field text(String... selectors) {
+            return new Field(List.of(selectors), null);
+        }
+
+        public static Field attribute(String attribute, String... selectors) {
+            return new Field(List.of(selectors), attribute);
+        }
+    }
+}
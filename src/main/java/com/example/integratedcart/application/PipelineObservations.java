@@ -0,0 +1,62 @@
+package com.example.integratedcart.application;
+
+import com.example.integratedcart.domain.product.Product;
+import com.example.integratedcart.infrastructure.RateLimitExceededException;
+import io.micrometer.observation.Observation;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 검색 파이프라인 구간을 Micrometer Observation으로 감싸는 공통 로직.
+ * Observation 하나가 타이머(메트릭)와 span(트레이싱)을 함께 만들며, 결과에 따라 outcome 태그를 붙입니다.
+ * outcome: success(결과 있음) / empty(결과 없음) / unrecognized(페이지 구조 인식 실패) / rejected(회로 차단·요청 한도) / error
+ */
+final class PipelineObservations {
+
+    static final String OUTCOME = "outcome";
+
+    private PipelineObservations() {
+    }
+
+    @FunctionalInterface
+    interface Call<T, E extends Exception> {
+        T call() throws E;
+    }
+
+    /**
+     * observation을 시작하고 call의 결과(또는 예외)로 outcome을 정한 뒤 종료합니다.
+     */
+    static <T, E extends Exception> T observe(Observation observation, Call<T, E> call,
+                                              Function<T, String> outcome) throws E {
+        observation.start();
+        try {
+            T result = observation.scopedChecked(call::call);
+            observation.lowCardinalityKeyValue(OUTCOME, outcome.apply(result));
+            return result;
+        } catch (Exception e) {
+            observation.lowCardinalityKeyValue(OUTCOME, outcomeOf(e));
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+
+    /**
+     * 상품 목록 결과용: null이면 unrecognized, 비어 있으면 empty
+     */
+    static String outcomeOf(List<Product> products) {
+        if (products == null) {
+            return "unrecognized";
+        }
+        return products.isEmpty() ? "empty" : "success";
+    }
+
+    static String outcomeOf(Throwable error) {
+        if (error instanceof MallUnavailableException || error instanceof RateLimitExceededException) {
+            return "rejected";
+        }
+        return "error";
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.integratedcart.application;
+
+import com.example.integratedcart.domain.crawl.CrawlKeyword;
+import com.example.integratedcart.domain.product.Product;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 자주 검색되는 키워드의 가격을 백그라운드에서 미리 갱신하여 사용자 검색이 캐시/인덱스에서 응답되도록 합니다.
+ * 주기마다 {@link CrawlQueueService}에서 우선순위가 높은 키워드를 budget-per-cycle개까지 꺼내
+ * 0~jitter-ms 사이의 임의 지연을 두고 crawlExecutor에서 실행합니다.
+ * 이전 주기의 갱신이 남아 있으면 이번 주기는 건너뜁니다.
+ */
+@Slf4j
+@Component
+public class PriceRefreshScheduler {
+
+    private final CrawlQueueService crawlQueueService;
+    private final MallStrategyFactory mallStrategyFactory;
+    private final ScheduledExecutorService crawlExecutor;
+    private final boolean enabled;
+    private final int budgetPerCycle;
+    private final int maxPerMall;
+    private final long jitterMs;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong cycles = new AtomicLong();
+    private final AtomicLong refreshed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    public PriceRefreshScheduler(CrawlQueueService crawlQueueService, MallStrategyFactory mallStrategyFactory,
+                                 @Qualifier("crawlExecutor") ScheduledExecutorService crawlExecutor,
+                                 @Value("${app.crawl.enabled:true}") boolean enabled,
+                                 @Value("${app.crawl.budget-per-cycle:20}") int budgetPerCycle,
+                                 @Value("${app.crawl.max-per-mall:8}") int maxPerMall,
+                                 @Value("${app.crawl.jitter-ms:20000}") long jitterMs) {
+        this.crawlQueueService = crawlQueueService;
+        this.mallStrategyFactory = mallStrategyFactory;
+        this.crawlExecutor = crawlExecutor;
+        this.enabled = enabled;
+        this.budgetPerCycle = budgetPerCycle;
+        this.maxPerMall = maxPerMall;
+        this.jitterMs = jitterMs;
+    }
+
+    @Scheduled(fixedDelayString = "${app.crawl.interval-ms:60000}", initialDelayString = "${app.crawl.initial-delay-ms:60000}")
+    public void refreshPopular() {
+        if (!enabled) {
+            return;
+        }
+        if (inFlight.get() > 0) {
+            log.debug("이전 가격 갱신 {}건 진행 중 - 이번 주기 건너뜀", inFlight.get());
+            return;
+        }
+        List<CrawlKeyword> batch = crawlQueueService.nextBatch(budgetPerCycle, maxPerMall);
+        cycles.incrementAndGet();
+        if (batch.isEmpty()) {
+            return;
+        }
+        log.info("인기 키워드 가격 갱신 시작 - {}건", batch.size());
+        for (CrawlKeyword keyword : batch) {
+            long delayMs = jitterMs > 0 ? ThreadLocalRandom.current().nextLong(jitterMs) : 0;
+            inFlight.incrementAndGet();
+            try {
+                crawlExecutor.schedule(() -> refresh(keyword), delayMs, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                inFlight.decrementAndGet();
+                log.warn("가격 갱신 작업 거절 - {} '{}'", keyword.getMallType(), keyword.getKeyword());
+            }
+        }
+    }
+
+    /**
+     * 매일 새벽 오래 요청되지 않은 키워드를 대기열에서 정리합니다.
+     */
+    @Scheduled(cron = "${app.crawl.prune-cron:0 30 4 * * *}")
+    public void pruneInactive() {
+        int removed = crawlQueueService.pruneInactive();
+        if (removed > 0) {
+            log.info("가격 갱신 대기열 정리 - {}건 삭제", removed);
+        }
+    }
+
+    private void refresh(CrawlKeyword keyword) {
+        try {
+            List<Product> products = mallStrategyFactory.refresh(keyword.getMallType(), keyword.getKeyword());
+            crawlQueueService.markRefreshed(keyword.getId(), products.size());
+            refreshed.incrementAndGet();
+        } catch (MallUnavailableException e) {
+            // 회로 차단기/요청 한도로 보류된 경우는 키워드 실패로 기록하지 않음 (다음 주기에 다시 후보가 됨)
+            rejected.incrementAndGet();
+            log.debug("가격 갱신 보류 - {} '{}': {}", keyword.getMallType(), keyword.getKeyword(), e.getMessage());
+        } catch (Exception e) {
+            failed.incrementAndGet();
+            log.warn("가격 갱신 실패 - {} '{}': {}", keyword.getMallType(), keyword.getKeyword(), e.getMessage());
+            try {
+                crawlQueueService.markFailed(keyword.getId());
+            } catch (Exception ignored) {
+                // 다음 주기에 다시 시도
+            }
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    public CrawlStats getStats() {
+        return new CrawlStats(enabled, crawlQueueService.size(), cycles.get(), inFlight.get(), refreshed.get(),
+                failed.get(), rejected.get());
+    }
+
+    public record CrawlStats(boolean enabled, long queuedKeywords, long cycles, int inFlight, long refreshed,
+                             long failed, long rejected) {
+    }
+}
@@ -0,0 +1,190 @@
+package com.example.integratedcart.application;
+
+import com.example.integratedcart.domain.product.MallType;
+import com.example.integratedcart.domain.product.Product;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 여러 경로(Google/네이버 프록시 등)로 들어온 같은 상품을 하나로 합칩니다.
+ * - 지문(fingerprint): 쇼핑몰 + 정규화된 상품명(소문자, 문자/숫자만) + 용량 + 단위
+ * - 쇼핑몰 고유 ID(nvMid, 상품번호 등)가 같으면 상품명 표기가 달라도 같은 상품
+ * - 합칠 때는 더 최근에 확인된 가격을 유지하고, 고유 ID가 있는 쪽의 ID/URL을 사용
+ * 고유 ID가 확인된 지문은 canonical 캐시에 기억해 두었다가, 다음에 같은 상품이 상품명 기반 ID("name:")로
+ * 들어오면 고유 ID로 바꿔 DB에 중복 행이 생기지 않게 합니다.
+ */
+@Slf4j
+@Component
+public class ProductIdentityResolver {
+
+    private static final String NAME_ID_PREFIX = "name:";
+
+    private final Cache<Fingerprint, String> canonicalIds;
+    private final AtomicLong resolved = new AtomicLong();
+    private final AtomicLong merged = new AtomicLong();
+    private final AtomicLong remapped = new AtomicLong();
+
+    public ProductIdentityResolver(@Value("${app.product-identity.max-size:50000}") long maxSize,
+                                   @Value("${app.product-identity.ttl-hours:168}") long ttlHours) {
+        this.canonicalIds = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(Duration.ofHours(ttlHours))
+                .build();
+    }
+
+    /**
+     * 한 쇼핑몰의 검색 결과에서 중복 상품을 합치고 고유 ID를 정합니다. 순서는 처음 등장한 위치를 따릅니다.
+     * @param mallType 쇼핑몰
+     * @param products 스크래핑된 상품 (다른 쇼핑몰 상품은 합치지 않음)
+     * @return 중복이 제거된 상품
+     */
+    public List<Product> resolve(MallType mallType, List<Product> products) {
+        if (products.isEmpty()) {
+            return products;
+        }
+        Map<Fingerprint, Product> byFingerprint = new LinkedHashMap<>();
+        Map<String, Fingerprint> fingerprintByNativeId = new HashMap<>();
+        for (Product p : products) {
+            Fingerprint fingerprint = fingerprint(mallType, p);
+            // 고유 ID가 같은 상품이 이미 있으면 그 지문으로 합침 (상품명이 잘리거나 표기가 다른 경우)
+            String nativeId = nativeId(p);
+            if (nativeId != null) {
+                Fingerprint known = fingerprintByNativeId.putIfAbsent(nativeId, fingerprint);
+                if (known != null) {
+                    fingerprint = known;
+                }
+            }
+            Product existing = byFingerprint.get(fingerprint);
+            if (existing == null) {
+                byFingerprint.put(fingerprint, p);
+            } else {
+                byFingerprint.put(fingerprint, merge(existing, p));
+                merged.incrementAndGet();
+            }
+        }
+
+        List<Product> result = new ArrayList<>(byFingerprint.size());
+        for (Map.Entry<Fingerprint, Product> e : byFingerprint.entrySet()) {
+            result.add(canonicalize(e.getKey(), e.getValue()));
+        }
+        resolved.addAndGet(products.size());
+        if (result.size() < products.size()) {
+            log.debug("중복 상품 병합 - {} {}건 → {}건", mallType, products.size(), result.size());
+        }
+        return result;
+    }
+
+    /**
+     * 고유 ID가 있으면 canonical 캐시에 기억하고, 상품명 기반 ID면 기억된 고유 ID로 바꿉니다.
+     */
+    private Product canonicalize(Fingerprint fingerprint, Product product) {
+        String nativeId = nativeId(product);
+        if (nativeId != null) {
+            canonicalIds.put(fingerprint, nativeId);
+            return product;
+        }
+        String canonicalId = canonicalIds.getIfPresent(fingerprint);
+        if (canonicalId == null || canonicalId.equals(product.getMallProductId())) {
+            return product;
+        }
+        remapped.incrementAndGet();
+        return copy(product, product, canonicalId, product.getProductUrl());
+    }
+
+    /**
+     * 두 상품 중 더 최근에 확인된(같으면 재고 있는, 그래도 같으면 먼저 들어온) 쪽의 가격/재고를 사용하고,
+     * ID와 URL은 고유 ID가 있는 쪽을 우선합니다.
+     */
+    private Product merge(Product existing, Product added) {
+        Product fresher = isFresher(added, existing) ? added : existing;
+        Product identity = nativeId(existing) != null || nativeId(added) == null ? existing : added;
+        if (fresher == identity) {
+            return fresher;
+        }
+        return copy(fresher, identity, identity.getMallProductId(), identity.getProductUrl());
+    }
+
+    private boolean isFresher(Product candidate, Product current) {
+        Instant a = candidate.getLastSeenAt();
+        Instant b = current.getLastSeenAt();
+        // 방금 스크래핑한 상품은 아직 last_seen_at이 없으므로 DB에서 읽은 상품보다 최신
+        if (a == null || b == null) {
+            return a == null && b != null;
+        }
+        if (!a.equals(b)) {
+            return a.isAfter(b);
+        }
+        return Boolean.TRUE.equals(candidate.getInStock()) && !Boolean.TRUE.equals(current.getInStock());
+    }
+
+    private static Product copy(Product values, Product identity, String mallProductId, String productUrl) {
+        return Product.builder()
+                .id(identity.getId())
+                .name(values.getName())
+                .price(values.getPrice())
+                .mallType(values.getMallType())
+                .sugarPer100g(values.getSugarPer100g())
+                .unit(values.getUnit())
+                .capacity(values.getCapacity())
+                .inStock(values.getInStock())
+                .productUrl(productUrl != null ? productUrl : values.getProductUrl())
+                .mallProductId(mallProductId)
+                .lastSeenAt(values.getLastSeenAt())
+                .build();
+    }
+
+    private static String nativeId(Product product) {
+        String id = product.getMallProductId();
+        return id == null || id.startsWith(NAME_ID_PREFIX) ? null : id;
+    }
+
+    static Fingerprint fingerprint(MallType mallType, Product product) {
+        return new Fingerprint(mallType, normalizeName(product.getName()),
+                product.getCapacity() != null ? product.getCapacity() : 1, product.getUnit());
+    }
+
+    /**
+     * 소문자로 바꾸고 문자/숫자만 남깁니다. (예: "[KF365] 감자 1kg" → "kf365감자1kg")
+     */
+    static String normalizeName(String name) {
+        if (name == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    public IdentityStats getStats() {
+        return new IdentityStats(resolved.get(), merged.get(), remapped.get(), canonicalIds.estimatedSize());
+    }
+
+    record Fingerprint(MallType mallType, String name, int capacity, String unit) {
+    }
+
+    /**
+     * @param resolved 처리한 상품 수
+     * @param merged 같은 검색 결과 안에서 합쳐진 중복 상품 수
+     * @param remapped 상품명 기반 ID를 기억된 고유 ID로 바꾼 수
+     * @param canonicalIds 기억하고 있는 지문 → 고유 ID 수
+     */
+    public record IdentityStats(long resolved, long merged, long remapped, long canonicalIds) {
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.integratedcart.application;
+
+import com.example.integratedcart.domain.product.MallType;
+import com.example.integratedcart.domain.product.Product;
+import com.example.integratedcart.domain.product.ProductRepository;
+import com.example.integratedcart.infrastructure.ProductBatchWriter;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 스크래핑된 상품 가격을 products 테이블에 누적하는 로컬 가격 인덱스.
+ * 쓰기: 쇼핑몰 고유 ID 기준 upsert (JDBC batch)
+ * 읽기: 충분히 최근(max-age 이내)에 확인된 상품이 있으면 스크래핑 없이 인덱스에서 응답
+ *       (상품명 조회는 {@link ProductNameIndex} bigram 역색인 사용)
+ * upsert는 JPA를 거치지 않으므로, 갱신된 상품은 2차 캐시("products" 영역)에서 직접 제거합니다.
+ */
+@Slf4j
+@Service
+public class ProductIndexService {
+
+    private final ProductRepository productRepository;
+    private final ProductBatchWriter productBatchWriter;
+    private final ProductNameIndex productNameIndex;
+    private final Cache secondLevelCache;
+    private final Duration maxAge;
+    private final int lookupLimit;
+
+    public ProductIndexService(ProductRepository productRepository,
+                               ProductBatchWriter productBatchWriter,
+                               ProductNameIndex productNameIndex,
+                               EntityManagerFactory entityManagerFactory,
+                               @Value("${app.product-index.max-age-minutes:60}") long maxAgeMinutes,
+                               @Value("${app.product-index.lookup-limit:5}") int lookupLimit) {
+        this.productRepository = productRepository;
+        this.productBatchWriter = productBatchWriter;
+        this.productNameIndex = productNameIndex;
+        this.secondLevelCache = entityManagerFactory.getCache();
+        this.maxAge = Duration.ofMinutes(maxAgeMinutes);
+        this.lookupLimit = lookupLimit;
+    }
+
+    /**
+     * 인덱스에서 최근 확인된 상품을 최저가 순으로 조회합니다.
+     * @return 신선한 상품 목록 (없으면 빈 리스트 - 호출자가 스크래핑해야 함)
+     */
+    @Transactional(readOnly = true)
+    public List<Product> findFresh(MallType mallType, String keyword) {
+        Instant freshSince = Instant.now().minus(maxAge);
+        if (!productNameIndex.isReady()) {
+            // 색인 적재 전에는 DB LIKE 조회로 대체
+            return productRepository.findFreshByMallTypeAndName(mallType, keyword.trim(), freshSince,
+                    PageRequest.of(0, lookupLimit));
+        }
+        List<Long> ids = productNameIndex.search(mallType, keyword, freshSince, lookupLimit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Product> byId = productRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+
+    /**
+     * 스크래핑 결과를 upsert하고, DB에 저장된(안정적인 ID가 부여된) 상품을 원래 순서대로 반환합니다.
+     * 저장에 실패하면 스크래핑 결과를 그대로 반환합니다.
+     */
+    @Transactional
+    public List<Product> upsertAll(MallType mallType, List<Product> scraped) {
+        if (scraped.isEmpty()) {
+            return scraped;
+        }
+        // 같은 상품이 여러 번 포함된 경우 마지막 값 사용
+        Map<String, Product> byNativeId = new LinkedHashMap<>();
+        for (Product p : scraped) {
+            if (p.getMallProductId() != null) {
+                byNativeId.put(p.getMallProductId(), p);
+            }
+        }
+        if (byNativeId.isEmpty()) {
+            return scraped;
+        }
+
+        productBatchWriter.upsert(byNativeId.values(), Instant.now());
+        Map<String, Product> persisted = productRepository
+                .findByMallTypeAndMallProductIdIn(mallType, byNativeId.keySet()).stream()
+                .collect(Collectors.toMap(Product::getMallProductId, Function.identity(), (a, b) -> a));
+
+        List<Product> result = new ArrayList<>(byNativeId.size());
+        for (String nativeId : byNativeId.keySet()) {
+            result.add(persisted.getOrDefault(nativeId, byNativeId.get(nativeId)));
+        }
+        evictAfterCompletion(persisted.values().stream().map(Product::getId).toList());
+        productNameIndex.index(result);
+        log.debug("상품 인덱스 upsert - {} {}건", mallType, result.size());
+        return result;
+    }
+
+    /**
+     * 갱신된 상품을 2차 캐시에서 지금 한 번, 트랜잭션이 끝난 뒤 한 번 더 제거합니다.
+     * (커밋 전에 다른 트랜잭션이 이전 값을 다시 캐시에 넣는 경우까지 지움. 2차 캐시가 꺼져 있으면 아무 일도 하지 않음)
+     */
+    private void evictAfterCompletion(Collection<Long> ids) {
+        ids.forEach(id -> secondLevelCache.evict(Product.class, id));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    ids.forEach(id -> secondLevelCache.evict(Product.class, id));
+                }
+            });
+        }
+    }
+}
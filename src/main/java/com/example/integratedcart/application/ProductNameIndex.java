@@ -0,0 +1,230 @@
+package com.example.integratedcart.application;
+
+import com.example.integratedcart.domain.product.MallType;
+import com.example.integratedcart.domain.product.Product;
+import com.example.integratedcart.domain.product.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 상품명에 대한 프로세스 내 bigram 역색인(inverted index).
+ * LIKE '%키워드%' 전체 스캔 대신 (쇼핑몰, bigram)별 posting list에서 후보를 찾고,
+ * {@link ProductRelevanceScorer} 점수 순으로 정렬합니다.
+ * - 한 글자 키워드("파", "무", "쌀")를 위해 글자 하나짜리 posting도 함께 둡니다.
+ * - 후보는 기준 점수에 닿을 수 있는 상품만 모읍니다. (가장 짧은 posting list부터, 아래 {@link #search} 참고)
+ * 상품 upsert 시 증분 갱신되며, 기동 시 products 테이블에서 productIndexExecutor로 적재됩니다.
+ */
+@Slf4j
+@Component
+public class ProductNameIndex {
+
+    private static final Set<Long> NONE = Set.of();
+
+    private final ProductRepository productRepository;
+    private final ProductRelevanceScorer relevanceScorer;
+    private final ExecutorService loader;
+    private final int warmUpPageSize;
+
+    // (쇼핑몰, bigram 또는 글자) → 상품 ID
+    private final Map<Long, Set<Long>> postings = new ConcurrentHashMap<>();
+    // (쇼핑몰, 정규화된 상품명) → 상품 ID (키워드의 일부인 짧은 상품명 조회용)
+    private final Map<NameKey, Set<Long>> byName = new ConcurrentHashMap<>();
+    private final Map<Long, IndexedProduct> documents = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+
+    public ProductNameIndex(ProductRepository productRepository, ProductRelevanceScorer relevanceScorer,
+                            @Qualifier("productIndexExecutor") ExecutorService loader,
+                            @Value("${app.product-index.warm-up-page-size:1000}") int warmUpPageSize) {
+        this.productRepository = productRepository;
+        this.relevanceScorer = relevanceScorer;
+        this.loader = loader;
+        this.warmUpPageSize = warmUpPageSize;
+    }
+
+    /**
+     * 기동 완료 후 기존 상품을 페이지 단위로 읽어 색인합니다. 적재가 끝나기 전까지는 {@link #isReady()}가 false입니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            loader.execute(this::load);
+        } catch (RejectedExecutionException e) {
+            log.error("상품명 색인 적재 작업 거절 - DB LIKE 조회로 동작합니다.", e);
+        }
+    }
+
+    private void load() {
+        try {
+            long start = System.currentTimeMillis();
+            Page<Product> page;
+            int pageNumber = 0;
+            do {
+                page = productRepository.findAll(PageRequest.of(pageNumber++, warmUpPageSize, Sort.by("id")));
+                index(page.getContent());
+            } while (page.hasNext());
+            ready = true;
+            log.info("상품명 색인 적재 완료 - {}건, {}ms", documents.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("상품명 색인 적재 실패 - DB LIKE 조회로 동작합니다.", e);
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 상품을 색인하거나 갱신합니다. (ID가 없는 상품은 무시)
+     */
+    public void index(Collection<Product> products) {
+        for (Product p : products) {
+            if (p.getId() == null) {
+                continue;
+            }
+            String normalizedName = KoreanNGram.normalize(p.getName());
+            IndexedProduct doc = new IndexedProduct(p.getId(), p.getMallType(), normalizedName,
+                    terms(normalizedName), p.getPrice(), Boolean.TRUE.equals(p.getInStock()),
+                    p.getLastSeenAt() != null ? p.getLastSeenAt().toEpochMilli() : 0);
+            IndexedProduct previous = documents.put(doc.id(), doc);
+            if (previous != null && (previous.mallType() != doc.mallType()
+                    || !previous.normalizedName().equals(normalizedName))) {
+                for (int term : previous.terms()) {
+                    postings.getOrDefault(postingKey(previous.mallType(), term), NONE).remove(doc.id());
+                }
+                byName.getOrDefault(new NameKey(previous.mallType(), previous.normalizedName()), NONE)
+                        .remove(doc.id());
+            }
+            for (int term : doc.terms()) {
+                postings.computeIfAbsent(postingKey(doc.mallType(), term), k -> ConcurrentHashMap.newKeySet())
+                        .add(doc.id());
+            }
+            byName.computeIfAbsent(new NameKey(doc.mallType(), normalizedName), k -> ConcurrentHashMap.newKeySet())
+                    .add(doc.id());
+        }
+    }
+
+    /**
+     * 키워드와 관련된 상품 ID를 관련도 내림차순(같으면 가격 오름차순)으로 반환합니다.
+     * 점수를 계산할 후보는 기준 점수에 닿을 수 있는 상품으로 한정합니다.
+     * - bigram 일치율: 키워드 bigram n개 중 최소 m개가 같아야 하므로, 가장 짧은 posting list n - m + 1개 중
+     *   적어도 하나에는 들어 있음 (키워드를 그대로 포함하는 상품도 여기에 해당)
+     * - 모든 토큰 포함: 각 토큰(어간)의 bigram을 모두 가져야 하므로, 그중 가장 짧은 posting list 하나
+     * - 키워드의 일부인 짧은 상품명: 키워드의 부분 문자열과 상품명이 같은 상품
+     * @param mallType 쇼핑몰
+     * @param keyword 검색 키워드
+     * @param freshSince 이 시각 이후 확인된 상품만
+     * @param limit 최대 개수
+     */
+    public List<Long> search(MallType mallType, String keyword, Instant freshSince, int limit) {
+        String normalizedKeyword = KoreanNGram.normalize(keyword);
+        int[] grams = KoreanNGram.bigrams(normalizedKeyword);
+        if (grams.length == 0) {
+            return List.of();
+        }
+
+        // 1. 후보 수집
+        Set<Long> candidateIds = new HashSet<>();
+        List<Set<Long>> lists = new ArrayList<>(grams.length);
+        for (int gram : grams) {
+            lists.add(postings(mallType, gram));
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+        int prefix = grams.length - relevanceScorer.minimumOverlap(grams.length) + 1;
+        for (int i = 0; i < prefix; i++) {
+            candidateIds.addAll(lists.get(i));
+        }
+
+        Set<Long> rarestStemList = null;
+        for (String stem : relevanceScorer.requiredStems(keyword)) {
+            for (int gram : KoreanNGram.bigrams(stem)) {
+                Set<Long> ids = postings(mallType, gram);
+                if (rarestStemList == null || ids.size() < rarestStemList.size()) {
+                    rarestStemList = ids;
+                }
+            }
+        }
+        if (rarestStemList != null) {
+            candidateIds.addAll(rarestStemList);
+        }
+
+        for (int start = 0; start < normalizedKeyword.length() - 1; start++) {
+            for (int end = start + 2; end <= normalizedKeyword.length(); end++) {
+                candidateIds.addAll(byName.getOrDefault(
+                        new NameKey(mallType, normalizedKeyword.substring(start, end)), NONE));
+            }
+        }
+
+        // 2. 재고 있고 신선한 상품만 공통 관련도 점수로 필터링 및 정렬
+        long freshSinceMs = freshSince.toEpochMilli();
+        List<ScoredProduct> scored = new ArrayList<>();
+        for (Long id : candidateIds) {
+            IndexedProduct doc = documents.get(id);
+            if (doc == null || doc.mallType() != mallType || !doc.inStock() || doc.lastSeenMs() < freshSinceMs) {
+                continue;
+            }
+            double score = relevanceScorer.score(doc.normalizedName(), keyword, normalizedKeyword);
+            if (score >= ProductRelevanceScorer.RELEVANCE_THRESHOLD) {
+                scored.add(new ScoredProduct(doc, score));
+            }
+        }
+        scored.sort(Comparator.comparingDouble(ScoredProduct::score).reversed()
+                .thenComparingInt(s -> s.doc().price()));
+        return scored.stream().limit(limit).map(s -> s.doc().id()).toList();
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    private Set<Long> postings(MallType mallType, int term) {
+        return postings.getOrDefault(postingKey(mallType, term), NONE);
+    }
+
+    /**
+     * 상품명의 bigram과 글자 코드. (두 코드는 겹치지 않음 - {@link KoreanNGram#unigrams})
+     */
+    private static int[] terms(String normalizedName) {
+        if (normalizedName.length() < 2) {
+            return KoreanNGram.unigrams(normalizedName);
+        }
+        int[] bigrams = KoreanNGram.bigrams(normalizedName);
+        int[] unigrams = KoreanNGram.unigrams(normalizedName);
+        int[] terms = new int[bigrams.length + unigrams.length];
+        System.arraycopy(bigrams, 0, terms, 0, bigrams.length);
+        System.arraycopy(unigrams, 0, terms, bigrams.length, unigrams.length);
+        return terms;
+    }
+
+    private static long postingKey(MallType mallType, int term) {
+        return ((long) mallType.ordinal() << 32) | (term & 0xFFFFFFFFL);
+    }
+
+    private record IndexedProduct(long id, MallType mallType, String normalizedName, int[] terms, int price,
+                                  boolean inStock, long lastSeenMs) {
+    }
+
+    private record NameKey(MallType mallType, String normalizedName) {
+    }
+
+    private record ScoredProduct(IndexedProduct doc, double score) {
+    }
+}
@@ -0,0 +1,301 @@
+package com.example.integratedcart.application;
+
+/**
+ * 상품명에서 용량/수량을 추출하여 기본 단위(g, ml, 개)로 정규화합니다.
+ * 예: "500g" → 500g, "1.5kg x 2팩" → 3000g, "1L*6입" → 6000ml, "10구" → 10개, "5개입 x 3봉" → 15개
+ *
+ * 규칙
+ * - 무게/부피가 있으면 무게/부피를 용량으로 사용하고, 바로 뒤에 오는 수량("x 2팩", "*6입", " 3개")을 곱합니다.
+ *   수량이 앞에 오는 경우("5개입 1.2kg")는 무게가 전체 용량이므로 곱하지 않습니다.
+ * - "총 1kg"처럼 '총'이 붙은 무게/부피가 있으면 그 값을 그대로 사용합니다.
+ * - 무게/부피가 없으면 수량을 용량으로 사용합니다. (곱셈 표기는 곱하고, 그 외에는 가장 큰 수량)
+ * - 아무것도 찾지 못하면 1개
+ * 정규식/부분 문자열 없이 한 번의 문자 단위 스캔으로 처리합니다.
+ */
+final class ProductQuantityParser {
+
+    static final String GRAM = "g";
+    static final String MILLILITER = "ml";
+    static final String PIECE = "개";
+
+    private static final ProductQuantity ONE_PIECE = new ProductQuantity(1, PIECE);
+
+    private static final int MASS = 0;
+    private static final int VOLUME = 1;
+    private static final int COUNT = 2;
+
+    /**
+     * 단위 표기 → (종류, 기본 단위 배율). 같은 접두어를 가진 표기는 긴 것을 먼저 둡니다. (예: "kg" → "g", "개입" → "개")
+     */
+    private static final UnitToken[] UNITS = {
+            new UnitToken("kg", MASS, 1000), new UnitToken("킬로그램", MASS, 1000), new UnitToken("킬로", MASS, 1000),
+            new UnitToken("그램", MASS, 1), new UnitToken("g", MASS, 1),
+            new UnitToken("ml", VOLUME, 1), new UnitToken("밀리리터", VOLUME, 1), new UnitToken("cc", VOLUME, 1),
+            new UnitToken("리터", VOLUME, 1000), new UnitToken("l", VOLUME, 1000), new UnitToken("ℓ", VOLUME, 1000),
+            new UnitToken("개입", COUNT, 1), new UnitToken("개", COUNT, 1), new UnitToken("입", COUNT, 1),
+            new UnitToken("구", COUNT, 1), new UnitToken("알", COUNT, 1), new UnitToken("봉지", COUNT, 1),
+            new UnitToken("봉", COUNT, 1), new UnitToken("팩", COUNT, 1), new UnitToken("병", COUNT, 1),
+            new UnitToken("캔", COUNT, 1), new UnitToken("마리", COUNT, 1), new UnitToken("송이", COUNT, 1),
+            new UnitToken("포기", COUNT, 1), new UnitToken("장", COUNT, 1), new UnitToken("포", COUNT, 1),
+            new UnitToken("롤", COUNT, 1), new UnitToken("통", COUNT, 1), new UnitToken("단", COUNT, 1),
+            new UnitToken("줄", COUNT, 1), new UnitToken("ea", COUNT, 1), new UnitToken("pcs", COUNT, 1),
+            new UnitToken("p", COUNT, 1),
+    };
+
+    private static final int MAX_TOKENS = 8;
+
+    private ProductQuantityParser() {
+    }
+
+    /**
+     * @param title 상품명
+     * @return 기본 단위로 정규화된 용량 (찾지 못하면 1개)
+     */
+    static ProductQuantity parse(CharSequence title) {
+        if (title == null) {
+            return ONE_PIECE;
+        }
+        // 토큰: 값, 종류, 시작/끝 위치, 곱셈 표기 여부, '총' 여부 (배열로 보관하여 객체 할당을 피함)
+        double[] values = new double[MAX_TOKENS];
+        int[] kinds = new int[MAX_TOKENS];
+        int[] starts = new int[MAX_TOKENS];
+        int[] ends = new int[MAX_TOKENS];
+        boolean[] multipliers = new boolean[MAX_TOKENS];
+        boolean[] totals = new boolean[MAX_TOKENS];
+        int count = 0;
+
+        int length = title.length();
+        int i = 0;
+        while (i < length && count < MAX_TOKENS) {
+            char c = title.charAt(i);
+            boolean multiplier = false;
+            int numberStart = i;
+            if (isMultiplySign(c) && (c != 'x' && c != 'X' || i == 0 || !isAsciiLetter(title.charAt(i - 1)))) {
+                int j = skipSpaces(title, i + 1);
+                if (j < length && isDigit(title.charAt(j))) {
+                    multiplier = true;
+                    numberStart = j;
+                } else {
+                    i++;
+                    continue;
+                }
+            } else if (!isDigit(c) || (i > 0 && (isAsciiLetter(title.charAt(i - 1)) || isDigit(title.charAt(i - 1))))) {
+                i++;
+                continue;
+            }
+
+            // 숫자 (소수점, 천 단위 쉼표 허용)
+            double value = 0;
+            int j = numberStart;
+            while (j < length) {
+                char d = title.charAt(j);
+                if (isDigit(d)) {
+                    value = value * 10 + (d - '0');
+                    j++;
+                } else if (d == ',' && isThousands(title, j)) {
+                    j++;
+                } else {
+                    break;
+                }
+            }
+            if (j + 1 < length && title.charAt(j) == '.' && isDigit(title.charAt(j + 1))) {
+                double scale = 0.1;
+                j++;
+                while (j < length && isDigit(title.charAt(j))) {
+                    value += (title.charAt(j) - '0') * scale;
+                    scale /= 10;
+                    j++;
+                }
+            }
+
+            int unitStart = skipSpaces(title, j);
+            UnitToken unit = matchUnit(title, unitStart);
+            if (unit == null && !multiplier) {
+                i = j;
+                continue;
+            }
+            if (unit != null && unit.kind() != COUNT && multiplier) {
+                // "x 500g" 같은 표기는 곱셈이 아니라 용량
+                multiplier = false;
+            }
+            values[count] = value * (unit != null ? unit.factor() : 1);
+            kinds[count] = unit != null ? unit.kind() : COUNT;
+            starts[count] = i;
+            ends[count] = unit != null ? unitStart + unit.text().length() : j;
+            multipliers[count] = multiplier;
+            totals[count] = precededByTotal(title, i);
+            count++;
+            i = ends[count - 1];
+        }
+
+        return combine(title, values, kinds, starts, ends, multipliers, totals, count);
+    }
+
+    /**
+     * 레시피 재료 단위를 기본 단위로 바꿨을 때의 이름. 알 수 없는 단위(큰술, 컵 등)면 null
+     */
+    static String baseUnit(String unit) {
+        UnitToken token = exactUnit(unit);
+        if (token == null) {
+            return null;
+        }
+        return switch (token.kind()) {
+            case MASS -> GRAM;
+            case VOLUME -> MILLILITER;
+            default -> PIECE;
+        };
+    }
+
+    /**
+     * 레시피 재료 양을 기본 단위 기준으로 환산합니다. (예: 1.5, "kg" → 1500) 알 수 없는 단위면 그대로
+     */
+    static double toBaseAmount(double amount, String unit) {
+        UnitToken token = exactUnit(unit);
+        return token == null ? amount : amount * token.factor();
+    }
+
+    private static ProductQuantity combine(CharSequence title, double[] values, int[] kinds, int[] starts, int[] ends,
+                                           boolean[] multipliers, boolean[] totals, int count) {
+        int measure = -1;
+        for (int t = 0; t < count; t++) {
+            if (kinds[t] != COUNT && !multipliers[t]) {
+                if (totals[t]) {
+                    return quantity(values[t], kinds[t]);
+                }
+                if (measure < 0) {
+                    measure = t;
+                }
+            }
+        }
+        if (measure >= 0) {
+            double value = values[measure];
+            int next = measure + 1;
+            if (next < count && kinds[next] == COUNT
+                    && (multipliers[next] || onlySeparators(title, ends[measure], starts[next]))) {
+                value *= values[next];
+            }
+            return quantity(value, kinds[measure]);
+        }
+
+        double best = 0;
+        for (int t = 0; t < count; t++) {
+            if (kinds[t] != COUNT) {
+                continue;
+            }
+            double value = values[t];
+            if (t + 1 < count && multipliers[t + 1] && kinds[t + 1] == COUNT) {
+                value *= values[t + 1];
+            }
+            best = Math.max(best, value);
+        }
+        return best >= 1 ? quantity(best, COUNT) : ONE_PIECE;
+    }
+
+    private static ProductQuantity quantity(double value, int kind) {
+        int capacity = (int) Math.max(1, Math.min(Integer.MAX_VALUE, Math.round(value)));
+        return new ProductQuantity(capacity, kind == MASS ? GRAM : kind == VOLUME ? MILLILITER : PIECE);
+    }
+
+    private static UnitToken matchUnit(CharSequence title, int at) {
+        if (at >= title.length()) {
+            return null;
+        }
+        for (UnitToken unit : UNITS) {
+            String text = unit.text();
+            int end = at + text.length();
+            if (end > title.length() || !regionMatchesIgnoreCase(title, at, text)) {
+                continue;
+            }
+            // 영문 단위 뒤에 영문이 이어지면 단어의 일부 (예: "5gb", "3pack"은 제외)
+            if (isAsciiLetter(text.charAt(text.length() - 1)) && end < title.length()
+                    && isAsciiLetter(title.charAt(end))) {
+                continue;
+            }
+            return unit;
+        }
+        return null;
+    }
+
+    private static UnitToken exactUnit(String unit) {
+        if (unit == null) {
+            return null;
+        }
+        String trimmed = unit.trim();
+        for (UnitToken token : UNITS) {
+            if (token.text().equalsIgnoreCase(trimmed)) {
+                return token;
+            }
+        }
+        return null;
+    }
+
+    private static boolean regionMatchesIgnoreCase(CharSequence title, int at, String text) {
+        for (int k = 0; k < text.length(); k++) {
+            char a = title.charAt(at + k);
+            char b = text.charAt(k);
+            if (a != b && Character.toLowerCase(a) != b) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean precededByTotal(CharSequence title, int at) {
+        int k = at - 1;
+        while (k >= 0 && title.charAt(k) == ' ') {
+            k--;
+        }
+        return k >= 0 && title.charAt(k) == '총';
+    }
+
+    private static boolean onlySeparators(CharSequence title, int from, int to) {
+        for (int k = from; k < to; k++) {
+            char c = title.charAt(k);
+            if (c != ' ' && c != ',' && c != '/' && c != '(') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isThousands(CharSequence title, int comma) {
+        if (comma + 3 >= title.length()) {
+            return false;
+        }
+        for (int k = comma + 1; k <= comma + 3; k++) {
+            if (!isDigit(title.charAt(k))) {
+                return false;
+            }
+        }
+        return comma + 4 >= title.length() || !isDigit(title.charAt(comma + 4));
+    }
+
+    private static int skipSpaces(CharSequence title, int from) {
+        while (from < title.length() && title.charAt(from) == ' ') {
+            from++;
+        }
+        return from;
+    }
+
+    private static boolean isMultiplySign(char c) {
+        return c == 'x' || c == 'X' || c == '*' || c == '×';
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    /**
+     * @param capacity 기본 단위 기준 용량 (1 이상)
+     * @param unit "g", "ml", "개" 중 하나
+     */
+    record ProductQuantity(int capacity, String unit) {
+    }
+
+    private record UnitToken(String text, int kind, int factor) {
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.integratedcart.application;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 모든 쇼핑몰 검색 결과에 공통으로 적용하는 상품명-키워드 관련도 점수 (0.0 ~ 1.0).
+ * - 상품명이 키워드를 그대로 포함: 1.0
+ * - 키워드의 모든 토큰 포함 ("고기" 접미사는 생략 허용, 돼지고기 ↔ 돼지 앞다리살): 0.9
+ * - 상품명이 키워드의 일부인 짧은 이름: 0.7
+ * - 그 외: bigram 일치율 × 0.8
+ * 키워드에 없는 부속품 단어(건전지, 필터 등)가 상품명에 있으면 0입니다.
+ */
+@Component
+public class ProductRelevanceScorer {
+
+    public static final double RELEVANCE_THRESHOLD = 0.5;
+
+    private static final String[] FORBIDDEN = { "건전지", "필터", "공병", "박스", "케이스", "전지", "배터리", "가이드", "설명서" };
+    private static final String MEAT_SUFFIX = "고기";
+
+    public boolean isRelevant(String name, String keyword) {
+        return score(name, keyword) >= RELEVANCE_THRESHOLD;
+    }
+
+    public double score(String name, String keyword) {
+        return score(KoreanNGram.normalize(name), keyword, KoreanNGram.normalize(keyword));
+    }
+
+    /**
+     * 이미 정규화된 상품명으로 점수를 계산합니다. (인덱스 조회 시 재정규화 방지)
+     */
+    double score(String normalizedName, String keyword, String normalizedKeyword) {
+        if (normalizedKeyword.isEmpty() || normalizedName.isEmpty()) {
+            return 0;
+        }
+        if (normalizedKeyword.length() == 1) {
+            return normalizedName.indexOf(normalizedKeyword.charAt(0)) >= 0 ? 1 : 0;
+        }
+        for (String f : FORBIDDEN) {
+            if (normalizedName.contains(f) && !normalizedKeyword.contains(f)) {
+                return 0;
+            }
+        }
+        if (normalizedName.contains(normalizedKeyword)) {
+            return 1;
+        }
+        if (allTokensMatch(normalizedName, keyword)) {
+            return 0.9;
+        }
+        double score = 0;
+        if (normalizedName.length() >= 2 && normalizedKeyword.contains(normalizedName)) {
+            score = 0.7;
+        }
+        int[] keywordGrams = KoreanNGram.bigrams(normalizedKeyword);
+        int hits = KoreanNGram.overlap(keywordGrams, KoreanNGram.bigrams(normalizedName));
+        return Math.max(score, 0.8 * hits / keywordGrams.length);
+    }
+
+    /**
+     * bigram 일치율만으로 기준 점수(RELEVANCE_THRESHOLD)에 닿으려면 필요한 최소 공통 bigram 수.
+     * @param gramCount 키워드의 bigram 수
+     */
+    int minimumOverlap(int gramCount) {
+        for (int hits = 1; hits < gramCount; hits++) {
+            if (0.8 * hits / gramCount >= RELEVANCE_THRESHOLD) {
+                return hits;
+            }
+        }
+        return gramCount;
+    }
+
+    /**
+     * "모든 토큰 포함"(0.9)으로 인정받으려면 상품명에 있어야 하는 정규화된 토큰 ("고기" 접미사 제외).
+     */
+    List<String> requiredStems(String keyword) {
+        List<String> stems = new ArrayList<>();
+        for (String token : keyword.trim().split("\\s+")) {
+            String normalizedToken = KoreanNGram.normalize(token);
+            if (normalizedToken.isEmpty()) {
+                continue;
+            }
+            stems.add(normalizedToken.endsWith(MEAT_SUFFIX) && normalizedToken.length() > MEAT_SUFFIX.length()
+                    ? normalizedToken.substring(0, normalizedToken.length() - MEAT_SUFFIX.length())
+                    : normalizedToken);
+        }
+        return stems;
+    }
+
+    private boolean allTokensMatch(String normalizedName, String keyword) {
+        for (String stem : requiredStems(keyword)) {
+            if (!normalizedName.contains(stem)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -36,7 +36,22 @@ public class QuantityScalingService {
         }
         
         int quantity = (int) Math.ceil(requiredAmount / productCapacity);
-        log.info("필요 양: {}, 용량: {}, 구매 수량: {}", requiredAmount, productCapacity, quantity);
+        log.debug("필요 양: {}, 용량: {}, 구매 수량: {}", requiredAmount, productCapacity, quantity);
         return quantity;
     }
+
+    /**
+     * 재료의 양을 상품 용량과 같은 기본 단위(g, ml, 개)로 환산합니다. (예: 1.5kg → 1500g, 1L → 1000ml)
+     * 큰술, 컵처럼 환산할 수 없는 단위는 그대로 둡니다.
+     * @param requirement 재료
+     * @return 기본 단위로 환산된 재료
+     */
+    public IngredientRequirement toBaseUnit(IngredientRequirement requirement) {
+        String baseUnit = ProductQuantityParser.baseUnit(requirement.unit());
+        if (baseUnit == null) {
+            return requirement;
+        }
+        return new IngredientRequirement(requirement.name(),
+                ProductQuantityParser.toBaseAmount(requirement.amount(), requirement.unit()), baseUnit);
+    }
 }
@@ -0,0 +1,49 @@
+package com.example.integratedcart.application;
+
+import com.example.integratedcart.domain.recipe.Recipe;
+
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 제출된 레시피 분석 작업.
+ */
+public record RecipeAnalysisJob(String id, String input, Instant submittedAt, CompletableFuture<Recipe> result) {
+
+    public enum Status {
+        PENDING, COMPLETED, FAILED
+    }
+
+    public Status status() {
+        if (!result.isDone()) {
+            return Status.PENDING;
+        }
+        return result.isCompletedExceptionally() ? Status.FAILED : Status.COMPLETED;
+    }
+
+    /**
+     * 완료된 경우 레시피, 아니면 null.
+     */
+    public Recipe recipe() {
+        return status() == Status.COMPLETED ? result.join() : null;
+    }
+
+    /**
+     * 실패한 경우 오류 메시지, 아니면 null.
+     */
+    public String error() {
+        if (status() != Status.FAILED) {
+            return null;
+        }
+        try {
+            result.join();
+            return null;
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            return cause.getMessage();
+        } catch (RuntimeException e) {
+            return e.getMessage();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.integratedcart.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 레시피 분석 비동기 작업 관리. 제출 즉시 작업 ID를 반환하고, 클라이언트는 ID로 결과를 조회합니다.
+ * 완료된 작업은 일정 시간 후 만료됩니다.
+ */
+@Slf4j
+@Service
+public class RecipeAnalysisJobService {
+
+    private final RecipeService recipeService;
+    private final Cache<String, RecipeAnalysisJob> jobs;
+
+    public RecipeAnalysisJobService(RecipeService recipeService,
+                                    @Value("${app.recipe.jobs.ttl-minutes:30}") long ttlMinutes,
+                                    @Value("${app.recipe.jobs.max-size:10000}") long maxSize) {
+        this.recipeService = recipeService;
+        this.jobs = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    /**
+     * 분석 작업을 제출합니다.
+     * @param input 음식명 또는 URL
+     * @param modelName Gemini 모델명
+     */
+    public RecipeAnalysisJob submit(String input, String modelName) {
+        String jobId = UUID.randomUUID().toString();
+        RecipeAnalysisJob job = new RecipeAnalysisJob(jobId, input, Instant.now(),
+                recipeService.extractAndSaveRecipeAsync(input, modelName));
+        jobs.put(jobId, job);
+        log.info("레시피 분석 작업 제출 - {}: {}", jobId, input);
+        return job;
+    }
+
+    public Optional<RecipeAnalysisJob> find(String jobId) {
+        return Optional.ofNullable(jobs.getIfPresent(jobId));
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.integratedcart.application;
+
+import com.example.integratedcart.domain.recipe.Recipe;
+import com.example.integratedcart.domain.recipe.RecipeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * normalized_name 컬럼이 추가되기 전에 저장된 레시피(ddl-auto가 NULL로 채움)에 음식명 정규화 키를 채웁니다.
+ * 키가 없으면 {@link RecipeService}가 저장된 레시피를 찾지 못해 Gemini를 다시 호출하고 같은 음식을 또 저장합니다.
+ * 정규화 키가 같은 레시피가 여러 개면 ID가 가장 작은 것만 채우고 나머지는 그대로 둡니다. (유니크 제약)
+ * 웹 서버가 요청을 받기 전에 한 번 실행하며, 채울 행이 없으면 조회 한 번으로 끝납니다.
+ */
+@Slf4j
+@Component
+public class RecipeNameKeyBackfill implements SmartInitializingSingleton {
+
+    private final RecipeRepository recipeRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public RecipeNameKeyBackfill(RecipeRepository recipeRepository, PlatformTransactionManager transactionManager) {
+        this.recipeRepository = recipeRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        transactionTemplate.executeWithoutResult(status -> backfill());
+    }
+
+    private void backfill() {
+        List<Recipe> missing = recipeRepository.findWithoutNormalizedName();
+        if (missing.isEmpty()) {
+            return;
+        }
+        Set<String> taken = new HashSet<>(recipeRepository.findAllNormalizedNames());
+        int filled = 0;
+        for (Recipe recipe : missing) {
+            String normalizedName = KoreanNGram.normalize(recipe.getName());
+            if (normalizedName.isEmpty() || !taken.add(normalizedName)) {
+                log.warn("레시피 정규화 키 채우기 건너뜀 (빈 이름 또는 중복) - id {} '{}'", recipe.getId(), recipe.getName());
+                continue;
+            }
+            filled += recipeRepository.setNormalizedName(recipe.getId(), normalizedName);
+        }
+        log.info("레시피 정규화 키 채우기 - {}/{}건", filled, missing.size());
+    }
+}
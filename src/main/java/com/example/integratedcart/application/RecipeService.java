@@ -2,100 +2,219 @@ package com.example.integratedcart.application;
 
 import com.example.integratedcart.domain.recipe.Recipe;
 import com.example.integratedcart.domain.recipe.RecipeRepository;
+import com.example.integratedcart.infrastructure.BrowserPool;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.genai.Client;
-import com.google.genai.types.GenerateContentResponse;
-import com.microsoft.playwright.Browser;
-import com.microsoft.playwright.BrowserType;
-import com.microsoft.playwright.Page;
-import com.microsoft.playwright.Playwright;
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
+import java.net.URI;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class RecipeService {
 
+    private static final Pattern YOUTUBE_VIDEO_ID = Pattern.compile(
+            "(?:youtube\\.com/(?:watch\\?(?:.*&)?v=|shorts/|embed/|live/)|youtu\\.be/)([A-Za-z0-9_-]{11})");
+
     private final RecipeRepository recipeRepository;
     private final ObjectMapper objectMapper;
+    private final BrowserPool browserPool;
+    private final GeminiRecipeAnalyzer geminiRecipeAnalyzer;
+    private final ExecutorService analysisExecutor;
+    private final ObservationRegistry observationRegistry;
+
+    // 조회 키("name:..." / "url:...") → 레시피. 저장소 앞단의 LRU
+    private final Cache<String, Recipe> recipeCache;
+    // 같은 키에 대한 동시 요청이 Gemini를 한 번만 호출하도록 진행 중인 분석을 공유
+    private final ConcurrentMap<String, CompletableFuture<Recipe>> inFlight = new ConcurrentHashMap<>();
 
-    @Value("${google.ai.api-key}")
-    private String apiKey;
+    public RecipeService(RecipeRepository recipeRepository, ObjectMapper objectMapper, BrowserPool browserPool,
+                         GeminiRecipeAnalyzer geminiRecipeAnalyzer,
+                         @Qualifier("recipeAnalysisExecutor") ExecutorService analysisExecutor,
+                         @Value("${app.recipe.cache.max-size:1000}") long cacheMaxSize,
+                         ObservationRegistry observationRegistry) {
+        this.recipeRepository = recipeRepository;
+        this.objectMapper = objectMapper;
+        this.browserPool = browserPool;
+        this.geminiRecipeAnalyzer = geminiRecipeAnalyzer;
+        this.analysisExecutor = analysisExecutor;
+        this.observationRegistry = observationRegistry;
+        this.recipeCache = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .build();
+    }
 
     /**
-     * 신형 Google Gen AI SDK (google-genai)를 사용하여 레시피를 분석합니다.
+     * 공유 Gemini Client({@link GeminiRecipeAnalyzer})로 레시피를 분석합니다.
+     * 음식명은 정규화된 이름으로, URL은 정규화된 URL로 캐시/저장소를 먼저 조회합니다.
      */
     public Recipe extractAndSaveRecipe(String input, String modelName) {
+        try {
+            return extractAndSaveRecipeAsync(input, modelName).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * {@link #extractAndSaveRecipe(String, String)}의 비동기 버전. Gemini 응답을 기다리는 동안 호출 스레드를 점유하지 않습니다.
+     * 같은 키에 대한 동시 요청은 진행 중인 분석 결과를 공유합니다.
+     */
+    public CompletableFuture<Recipe> extractAndSaveRecipeAsync(String input, String modelName) {
         String cleanedInput = input.trim();
-        log.info("레시피 분석 시작 (모델: {}): {}", modelName, cleanedInput);
+        boolean isUrl = cleanedInput.startsWith("http");
+        String sourceUrl = isUrl ? canonicalizeUrl(cleanedInput) : null;
+        String normalizedName = isUrl ? null : KoreanNGram.normalize(cleanedInput);
+        String key = isUrl ? "url:" + sourceUrl : "name:" + normalizedName;
 
-        if (!cleanedInput.startsWith("http")) {
-            Optional<Recipe> cached = recipeRepository.findAll().stream()
-                    .filter(r -> r.getName().equals(cleanedInput))
-                    .findFirst();
-            if (cached.isPresent()) {
-                log.info("캐시된 레시피 반환: {}", cleanedInput);
-                return cached.get();
-            }
+        Recipe cached = recipeCache.getIfPresent(key);
+        if (cached != null) {
+            log.info("캐시된 레시피 반환: {}", cleanedInput);
+            return CompletableFuture.completedFuture(cached);
         }
 
-        String contentToAnalyze = cleanedInput;
-        if (cleanedInput.startsWith("http")) {
-            contentToAnalyze = fetchPageContent(cleanedInput);
+        CompletableFuture<Recipe> mine = new CompletableFuture<>();
+        CompletableFuture<Recipe> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            log.info("동일 레시피 분석 진행 중 - 결과 공유: {}", key);
+            return existing;
         }
+        mine.whenComplete((recipe, error) -> inFlight.remove(key, mine));
 
         try {
-            // 신형 SDK 사용 패턴 (Client 클래스 활용)
-            Client client = Client.builder()
-                    .apiKey(apiKey)
-                    .build();
-            
-            String prompt = String.format(
-                "당신은 전문 요리사입니다. 다음 입력값(음식명 또는 페이지 내용)을 분석하여 필요한 재료 리스트를 JSON 형식으로 응답하세요.\n" +
-                "응답 형식: { \"name\": \"음식명\", \"ingredients\": [ { \"name\": \"재료명\", \"amount\": 수량(숫자), \"unit\": \"단위\" } ], \"basePortion\": 기준인분(숫자) }\n" +
-                "입력값: %s", contentToAnalyze
-            );
-
-            GenerateContentResponse response = client.models.generateContent(modelName, prompt, null);
-            String jsonResponse = response.text();
-            
-            if (jsonResponse.contains("```json")) {
-                jsonResponse = jsonResponse.substring(jsonResponse.indexOf("```json") + 7, jsonResponse.lastIndexOf("```"));
-            }
+            Optional<Recipe> stored = isUrl
+                    ? recipeRepository.findBySourceUrl(sourceUrl)
+                    : recipeRepository.findByNormalizedName(normalizedName);
+            CompletableFuture<Recipe> loaded = stored.isPresent()
+                    ? CompletableFuture.completedFuture(stored.get())
+                    : analyzeAndSave(cleanedInput, isUrl, modelName, normalizedName, sourceUrl);
+            loaded.whenComplete((recipe, error) -> {
+                if (error != null) {
+                    mine.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause() : error);
+                    return;
+                }
+                recipeCache.put(key, recipe);
+                mine.complete(recipe);
+            });
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+        }
+        return mine;
+    }
+
+    private CompletableFuture<Recipe> analyzeAndSave(String cleanedInput, boolean isUrl, String modelName,
+                                                     String normalizedName, String sourceUrl) {
+        log.info("레시피 분석 시작 (모델: {}): {}", modelName, cleanedInput);
+        // 페이지 수집 + Gemini 호출 + 저장 전체를 "recipe.analyze"로 기록 (Gemini 호출 자체는 gemini.generate)
+        Observation observation = Observation.createNotStarted("recipe.analyze", observationRegistry)
+                .lowCardinalityKeyValue("source", isUrl ? "url" : "dish")
+                .lowCardinalityKeyValue("model", modelName)
+                .start();
+        try {
+            CompletableFuture<JsonNode> analysis = observation.scoped(() -> isUrl
+                    ? CompletableFuture.supplyAsync(() -> fetchPageContent(cleanedInput), analysisExecutor)
+                            .thenCompose(content -> geminiRecipeAnalyzer.analyze(content, modelName))
+                    : geminiRecipeAnalyzer.analyzeDish(cleanedInput, modelName));
+            return analysis.thenApply(root -> save(toRecipe(root, cleanedInput, normalizedName, sourceUrl)))
+                    .whenComplete((recipe, error) -> {
+                        if (error != null) {
+                            observation.lowCardinalityKeyValue(PipelineObservations.OUTCOME, "error");
+                            observation.error(error);
+                        } else {
+                            observation.lowCardinalityKeyValue(PipelineObservations.OUTCOME, "success");
+                        }
+                        observation.stop();
+                    });
+        } catch (RuntimeException e) {
+            // executor 포화 등으로 분석을 시작하지 못한 경우
+            observation.lowCardinalityKeyValue(PipelineObservations.OUTCOME, PipelineObservations.outcomeOf(e));
+            observation.error(e);
+            observation.stop();
+            throw e;
+        }
+    }
 
-            JsonNode root = objectMapper.readTree(jsonResponse);
-            String recipeName = root.path("name").asText(cleanedInput.startsWith("http") ? "분석된 요리" : cleanedInput);
+    private Recipe toRecipe(JsonNode root, String cleanedInput, String normalizedName, String sourceUrl) {
+        try {
+            String recipeName = root.path("name").asText(sourceUrl != null ? "분석된 요리" : cleanedInput);
             String ingredientsJson = objectMapper.writeValueAsString(root.path("ingredients"));
             int basePortion = root.path("basePortion").asInt(1);
 
-            Recipe recipe = Recipe.builder()
+            return Recipe.builder()
                     .name(recipeName)
                     .ingredientsJson(ingredientsJson)
                     .basePortion(basePortion)
+                    .normalizedName(normalizedName)
+                    .sourceUrl(sourceUrl)
                     .build();
+        } catch (Exception e) {
+            throw new RuntimeException("모델 응답을 레시피로 변환할 수 없습니다: " + e.getMessage(), e);
+        }
+    }
 
+    /**
+     * 저장 시 다른 인스턴스가 같은 키를 먼저 저장했다면(유니크 제약 위반) 그 레시피를 사용합니다.
+     */
+    private Recipe save(Recipe recipe) {
+        try {
             return recipeRepository.save(recipe);
+        } catch (DataIntegrityViolationException e) {
+            Optional<Recipe> existing = recipe.getSourceUrl() != null
+                    ? recipeRepository.findBySourceUrl(recipe.getSourceUrl())
+                    : recipeRepository.findByNormalizedName(recipe.getNormalizedName());
+            return existing.orElseThrow(() -> e);
+        }
+    }
 
+    /**
+     * 같은 영상/페이지가 항상 같은 키를 갖도록 URL을 정규화합니다.
+     * YouTube는 영상 ID 기준(https://www.youtube.com/watch?v=ID), 그 외는 fragment와 끝의 '/'를 제거합니다.
+     */
+    static String canonicalizeUrl(String url) {
+        Matcher youtube = YOUTUBE_VIDEO_ID.matcher(url);
+        if (youtube.find()) {
+            return "https://www.youtube.com/watch?v=" + youtube.group(1);
+        }
+        try {
+            URI uri = URI.create(url);
+            String host = uri.getHost() != null ? uri.getHost().toLowerCase(Locale.ROOT) : "";
+            String path = uri.getRawPath() != null ? uri.getRawPath().replaceAll("/+$", "") : "";
+            String query = uri.getRawQuery() != null ? "?" + uri.getRawQuery() : "";
+            return uri.getScheme().toLowerCase(Locale.ROOT) + "://" + host
+                    + (uri.getPort() != -1 ? ":" + uri.getPort() : "") + path + query;
         } catch (Exception e) {
-            log.error("신형 SDK AI 분석 실패", e);
-            throw new RuntimeException("모델 분석 중 오류가 발생했습니다: " + e.getMessage(), e);
+            return url;
         }
     }
 
     private String fetchPageContent(String url) {
-        try (Playwright playwright = Playwright.create()) {
-            Browser browser = playwright.chromium().launch(new BrowserType.LaunchOptions().setHeadless(true));
-            Page page = browser.newPage();
-            page.navigate(url);
-            String content = page.title() + " " + page.innerText("body").substring(0, Math.min(2000, page.innerText("body").length()));
-            browser.close();
-            return content;
+        try {
+            return browserPool.withPage(page -> {
+                page.navigate(url);
+                String body = page.innerText("body");
+                return page.title() + " " + body.substring(0, Math.min(2000, body.length()));
+            });
         } catch (Exception e) {
             log.warn("페이지 텍스트 추출 실패: {}", url);
             return url;
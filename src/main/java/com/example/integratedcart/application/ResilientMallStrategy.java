@@ -0,0 +1,67 @@
+package com.example.integratedcart.application;
+
+import com.example.integratedcart.domain.product.MallType;
+import com.example.integratedcart.domain.product.Product;
+import com.example.integratedcart.infrastructure.RateLimitExceededException;
+
+import java.util.List;
+
+/**
+ * 실제 스크래핑 앞단에서 쇼핑몰별 회로 차단기와 동시 검색 한도를 적용하는 데코레이터.
+ * 차단 중이거나 한도가 찬 쇼핑몰은 브라우저/HTTP 호출 없이 즉시 {@link MallUnavailableException}으로 끝납니다.
+ * 호스트 요청 한도 초과는 쇼핑몰 장애가 아니므로 회로 차단기 실패로 집계하지 않습니다.
+ */
+class ResilientMallStrategy implements MallStrategy {
+
+    private final MallStrategy delegate;
+    private final MallCircuitBreaker circuitBreaker;
+    private final AdaptiveConcurrencyLimit concurrencyLimit;
+
+    ResilientMallStrategy(MallStrategy delegate, MallResilienceRegistry registry) {
+        this.delegate = delegate;
+        this.circuitBreaker = registry.circuitBreaker(delegate.getMallType());
+        this.concurrencyLimit = registry.concurrencyLimit(delegate.getMallType());
+    }
+
+    @Override
+    public MallType getMallType() {
+        return delegate.getMallType();
+    }
+
+    @Override
+    public List<Product> searchProducts(String keyword, double targetAmount, boolean isLowSugar) {
+        if (!circuitBreaker.tryAcquire()) {
+            throw new MallUnavailableException(getMallType(), "회로 차단기 열림");
+        }
+        if (!concurrencyLimit.tryAcquire()) {
+            circuitBreaker.onIgnored();
+            throw new MallUnavailableException(getMallType(), "동시 검색 한도 초과");
+        }
+
+        long start = System.currentTimeMillis();
+        try {
+            List<Product> products = delegate.searchProducts(keyword, targetAmount, isLowSugar);
+            circuitBreaker.onSuccess();
+            concurrencyLimit.release(System.currentTimeMillis() - start, false);
+            return products;
+        } catch (RuntimeException e) {
+            if (isRateLimited(e)) {
+                circuitBreaker.onIgnored();
+                concurrencyLimit.releaseUnused();
+                throw new MallUnavailableException(getMallType(), "요청 한도 초과");
+            }
+            circuitBreaker.onFailure();
+            concurrencyLimit.release(System.currentTimeMillis() - start, true);
+            throw e;
+        }
+    }
+
+    private static boolean isRateLimited(Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            if (t instanceof RateLimitExceededException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.integratedcart.application;
+
+/**
+ * 검색 페이지를 가져오는 방식. 가벼운 방식부터 시도합니다.
+ */
+public enum ScrapeTier {
+    /** 일반 HTTP 요청 + 페이지에 포함된 JSON(__NEXT_DATA__ 등) 또는 Jsoup HTML 파싱 */
+    HTTP,
+    /** Playwright 헤드리스 브라우저 렌더링 */
+    BROWSER
+}
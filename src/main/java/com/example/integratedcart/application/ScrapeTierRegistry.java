@@ -0,0 +1,95 @@
+package com.example.integratedcart.application;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 검색 페이지별로 어떤 단계(HTTP/브라우저)가 동작하는지 기록합니다.
+ * HTTP 단계가 연속으로 실패한 페이지는 일정 시간 동안 바로 브라우저 단계로 갑니다.
+ * 시간이 지나면 HTTP 단계를 다시 한 번 시도해 복구 여부를 확인합니다.
+ */
+@Slf4j
+@Component
+public class ScrapeTierRegistry {
+
+    private final int skipAfterFailures;
+    private final long retryAfterMs;
+    private final Map<String, Map<ScrapeTier, TierRecord>> records = new ConcurrentHashMap<>();
+
+    public ScrapeTierRegistry(@Value("${app.scrape.tier.skip-after-failures:3}") int skipAfterFailures,
+                              @Value("${app.scrape.tier.retry-after-seconds:600}") long retryAfterSeconds) {
+        this.skipAfterFailures = skipAfterFailures;
+        this.retryAfterMs = Duration.ofSeconds(retryAfterSeconds).toMillis();
+    }
+
+    /**
+     * 이번 검색에서 시도할 단계를 순서대로 반환합니다. 브라우저 단계는 항상 마지막에 포함됩니다.
+     */
+    public List<ScrapeTier> tiersFor(String source) {
+        List<ScrapeTier> tiers = new ArrayList<>(2);
+        TierRecord http = record(source, ScrapeTier.HTTP);
+        if (http.consecutiveFailures.get() < skipAfterFailures
+                || System.currentTimeMillis() - http.lastFailureAt.get() >= retryAfterMs) {
+            tiers.add(ScrapeTier.HTTP);
+        }
+        tiers.add(ScrapeTier.BROWSER);
+        return tiers;
+    }
+
+    public void recordSuccess(String source, ScrapeTier tier) {
+        TierRecord record = record(source, tier);
+        record.successes.incrementAndGet();
+        if (record.consecutiveFailures.getAndSet(0) >= skipAfterFailures) {
+            log.info("{} - {} 단계 복구", source, tier);
+        }
+    }
+
+    public void recordFailure(String source, ScrapeTier tier) {
+        TierRecord record = record(source, tier);
+        record.failures.incrementAndGet();
+        record.lastFailureAt.set(System.currentTimeMillis());
+        if (record.consecutiveFailures.incrementAndGet() == skipAfterFailures) {
+            log.warn("{} - {} 단계 연속 {}회 실패, {}초 동안 건너뜀", source, tier, skipAfterFailures, retryAfterMs / 1000);
+        }
+    }
+
+    /**
+     * 페이지 → 단계별 기록 (모니터링용)
+     */
+    public Map<String, Map<ScrapeTier, TierStats>> getStats() {
+        Map<String, Map<ScrapeTier, TierStats>> stats = new TreeMap<>();
+        records.forEach((source, tiers) -> {
+            Map<ScrapeTier, TierStats> tierStats = new EnumMap<>(ScrapeTier.class);
+            tiers.forEach((tier, r) -> tierStats.put(tier, new TierStats(r.successes.get(), r.failures.get(),
+                    r.consecutiveFailures.get(), r.consecutiveFailures.get() >= skipAfterFailures)));
+            stats.put(source, tierStats);
+        });
+        return stats;
+    }
+
+    private TierRecord record(String source, ScrapeTier tier) {
+        return records.computeIfAbsent(source, s -> new ConcurrentHashMap<>())
+                .computeIfAbsent(tier, t -> new TierRecord());
+    }
+
+    public record TierStats(long successes, long failures, int consecutiveFailures, boolean skipping) {
+    }
+
+    private static final class TierRecord {
+        private final AtomicLong successes = new AtomicLong();
+        private final AtomicLong failures = new AtomicLong();
+        private final AtomicInteger consecutiveFailures = new AtomicInteger();
+        private final AtomicLong lastFailureAt = new AtomicLong();
+    }
+}
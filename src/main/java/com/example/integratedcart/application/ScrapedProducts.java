@@ -0,0 +1,99 @@
+package com.example.integratedcart.application;
+
+import com.example.integratedcart.domain.product.MallType;
+import com.example.integratedcart.domain.product.Product;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 검색 페이지에서 추출한 값으로 Product를 만드는 공통 로직.
+ */
+final class ScrapedProducts {
+
+    static final int MAX_PRODUCTS_PER_SEARCH = 5;
+
+    private static final Pattern NATIVE_ID_PATTERN =
+            Pattern.compile("[?&](?:nvMid|nv_mid|productId|itemId)=(\\d+)|/(?:catalog|products|vp/products)/(\\d+)");
+
+    private ScrapedProducts() {
+    }
+
+    /**
+     * 프록시 검색(네이버/Google)의 쇼핑몰 필터 문자열에 해당하는 쇼핑몰. (필터가 없으면 네이버)
+     */
+    static MallType mallTypeFor(String mallFilter) {
+        if (mallFilter == null) {
+            return MallType.NAVER;
+        }
+        return switch (mallFilter) {
+            case "쿠팡" -> MallType.COUPANG;
+            case "B마트" -> MallType.BMART;
+            case "컬리", "마켓컬리" -> MallType.KURLY;
+            default -> MallType.valueOf(mallFilter.toUpperCase());
+        };
+    }
+
+    /**
+     * 용량/단위는 상품명에서 추출합니다. (예: "양파 1.5kg x 2팩" → 3000g, 찾지 못하면 1개)
+     */
+    static Product create(MallType mallType, String name, int price, String productUrl) {
+        ProductQuantityParser.ProductQuantity quantity = ProductQuantityParser.parse(name);
+        return Product.builder()
+                .mallProductId(resolveMallProductId(productUrl, name))
+                .name(name)
+                .price(price)
+                .mallType(mallType)
+                .inStock(true)
+                .unit(quantity.unit())
+                .capacity(quantity.capacity())
+                .sugarPer100g(0.0)
+                .productUrl(productUrl)
+                .build();
+    }
+
+    /**
+     * 같은 상품(쇼핑몰 고유 ID 또는 상품명/용량 지문이 같음)이 아직 없을 때만 추가합니다.
+     * 한 페이지에 같은 상품이 여러 판매처로 반복되어 MAX_PRODUCTS_PER_SEARCH 자리를 차지하지 않도록 합니다.
+     */
+    static void addUnique(List<Product> products, Product product) {
+        ProductIdentityResolver.Fingerprint fingerprint =
+                ProductIdentityResolver.fingerprint(product.getMallType(), product);
+        for (Product p : products) {
+            if (product.getMallProductId().equals(p.getMallProductId())
+                    || fingerprint.equals(ProductIdentityResolver.fingerprint(p.getMallType(), p))) {
+                return;
+            }
+        }
+        products.add(product);
+    }
+
+    /**
+     * 가격 문자열에서 숫자만 남깁니다. 숫자가 없으면 -1.
+     */
+    static int parsePrice(String priceText) {
+        if (priceText == null) {
+            return -1;
+        }
+        String digits = priceText.replaceAll("[^0-9]", "");
+        return digits.isEmpty() ? -1 : Integer.parseInt(digits);
+    }
+
+    /**
+     * 상품 URL에서 쇼핑몰 고유 상품 번호(nvMid, catalog/products 경로 번호)를 추출합니다.
+     * 번호가 없으면 상품명 기반의 결정적(deterministic) ID를 사용하여 같은 상품이 항상 같은 키를 갖게 합니다.
+     */
+    static String resolveMallProductId(String productUrl, String name) {
+        if (productUrl != null) {
+            Matcher m = NATIVE_ID_PATTERN.matcher(productUrl);
+            if (m.find()) {
+                return m.group(1) != null ? m.group(1) : m.group(2);
+            }
+        }
+        String normalizedName = name.replaceAll("\\s+", "").toLowerCase();
+        return "name:" + UUID.nameUUIDFromBytes(normalizedName.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.integratedcart.application;
+
+import com.example.integratedcart.domain.product.MallType;
+import com.example.integratedcart.infrastructure.BrowserPool;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 모니터링 API(/api/monitoring/*)로 보던 검색 파이프라인 상태를 Prometheus 메트릭으로도 노출합니다.
+ * 값은 각 컴포넌트의 getStats()에서 scrape 시점에 읽으므로 별도로 기록하는 비용은 없습니다.
+ * 요청 단위 지연 시간/결과 수는 observation(mall.search, scrape.tier, scrape.fallback, gemini.generate 등)이 기록합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchPipelineMetrics implements MeterBinder {
+
+    private final SearchResultCache searchResultCache;
+    private final MallResilienceRegistry resilienceRegistry;
+    private final BrowserPool browserPool;
+    private final PriceRefreshScheduler priceRefreshScheduler;
+    private final AutomationJobService automationJobService;
+    private final ProductIdentityResolver productIdentityResolver;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (MallType type : MallType.values()) {
+            String mall = type.name().toLowerCase(Locale.ROOT);
+            bindMall(registry, type, mall);
+        }
+
+        Gauge.builder("browser.pool.idle", browserPool, p -> p.getStats().idleWorkers())
+                .description("대기 중인 headless 브라우저 수").register(registry);
+        FunctionCounter.builder("browser.pool.acquire.timeouts", browserPool, p -> p.getStats().acquireTimeouts())
+                .description("브라우저를 제때 빌리지 못한 횟수").register(registry);
+        FunctionCounter.builder("browser.pool.pages", browserPool, p -> p.getStats().pagesServed())
+                .description("브라우저로 처리한 페이지 수").register(registry);
+
+        Gauge.builder("crawl.queue.keywords", priceRefreshScheduler, s -> s.getStats().queuedKeywords())
+                .description("가격 갱신 대기 키워드 수").register(registry);
+        FunctionCounter.builder("crawl.refreshed", priceRefreshScheduler, s -> s.getStats().refreshed())
+                .description("백그라운드 가격 갱신 완료 수").register(registry);
+        FunctionCounter.builder("crawl.failed", priceRefreshScheduler, s -> s.getStats().failed())
+                .description("백그라운드 가격 갱신 실패 수").register(registry);
+
+        FunctionCounter.builder("product.identity.merged", productIdentityResolver, r -> r.getStats().merged())
+                .description("검색 결과 안에서 합쳐진 중복 상품 수").register(registry);
+        FunctionCounter.builder("product.identity.remapped", productIdentityResolver, r -> r.getStats().remapped())
+                .description("상품명 기반 ID를 고유 ID로 바꾼 수").register(registry);
+    }
+
+    private void bindMall(MeterRegistry registry, MallType type, String mall) {
+        FunctionCounter.builder("search.cache.hits", searchResultCache,
+                        cacheStat(type, SearchResultCache.CacheStatsView::hits))
+                .tag("mall", mall).description("키워드 캐시 적중 수").register(registry);
+        FunctionCounter.builder("search.cache.misses", searchResultCache,
+                        cacheStat(type, SearchResultCache.CacheStatsView::misses))
+                .tag("mall", mall).description("키워드 캐시 미스 수").register(registry);
+
+        Gauge.builder("mall.circuit.open", resilienceRegistry,
+                        r -> "CLOSED".equals(r.getStats(type).circuitState()) ? 0 : 1)
+                .tag("mall", mall).description("회로 차단기가 닫혀 있지 않으면 1 (OPEN/HALF_OPEN)").register(registry);
+        Gauge.builder("mall.circuit.failure.rate", resilienceRegistry, r -> r.getStats(type).failureRate())
+                .tag("mall", mall).register(registry);
+        Gauge.builder("mall.concurrency.limit", resilienceRegistry, r -> r.getStats(type).concurrencyLimit())
+                .tag("mall", mall).description("현재 동시 검색 한도").register(registry);
+        Gauge.builder("mall.concurrency.in.flight", resilienceRegistry, r -> r.getStats(type).inFlight())
+                .tag("mall", mall).register(registry);
+
+        Gauge.builder("automation.jobs.running", automationJobService, s -> automationStat(s, type, true))
+                .tag("mall", mall).register(registry);
+        Gauge.builder("automation.jobs.waiting", automationJobService, s -> automationStat(s, type, false))
+                .tag("mall", mall).register(registry);
+    }
+
+    private static ToDoubleFunction<SearchResultCache> cacheStat(
+            MallType type, ToDoubleFunction<SearchResultCache.CacheStatsView> value) {
+        return cache -> {
+            SearchResultCache.CacheStatsView stats = cache.getStats().get(type);
+            return stats == null ? 0 : value.applyAsDouble(stats);
+        };
+    }
+
+    private static double automationStat(AutomationJobService service, MallType type, boolean running) {
+        AutomationJobService.AutomationStats stats = service.getStats().get(type);
+        if (stats == null) {
+            return 0;
+        }
+        return running ? stats.running() : stats.waiting();
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.integratedcart.application;
+
+import com.example.integratedcart.domain.product.MallType;
+import com.example.integratedcart.domain.product.Product;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 쇼핑몰별 키워드 검색 결과 캐시 레지스트리.
+ * - 쇼핑몰별 TTL (app.search.cache.ttl-seconds.&lt;mall&gt;)과 최대 크기 제한
+ * - stale-while-revalidate: refresh-after 시간이 지난 항목은 기존 값을 즉시 반환하고 백그라운드에서 갱신
+ * - single-flight: 같은 키를 동시에 요청하면 스크래핑은 한 번만 실행
+ * - AsyncLoadingCache: 스크래핑(수 초)이 캐시 내부 해시 버킷 잠금 밖에서 실행되므로 같은 버킷의 다른 키워드를 막지 않고,
+ *   가상 스레드 모드에서도 캐리어 스레드를 고정(pin)하지 않음
+ */
+@Slf4j
+@Component
+public class SearchResultCache {
+
+    private final Map<MallType, AsyncLoadingCache<String, List<Product>>> caches = new EnumMap<>(MallType.class);
+    private final Environment environment;
+    private final ExecutorService refreshExecutor;
+    private final long maxSize;
+    private final long defaultTtlSeconds;
+
+    public SearchResultCache(Environment environment,
+                             @Qualifier("mallSearchExecutor") ExecutorService refreshExecutor,
+                             @Value("${app.search.cache.max-size:2000}") long maxSize,
+                             @Value("${app.search.cache.ttl-seconds.default:1800}") long defaultTtlSeconds) {
+        this.environment = environment;
+        this.refreshExecutor = refreshExecutor;
+        this.maxSize = maxSize;
+        this.defaultTtlSeconds = defaultTtlSeconds;
+    }
+
+    /**
+     * 쇼핑몰 하나의 캐시를 생성하여 등록합니다.
+     * @param mallType 쇼핑몰 타입
+     * @param loader 정규화된 키워드로 실제 검색을 수행하는 함수 (null을 반환하면 캐시하지 않음)
+     * @return 등록된 캐시
+     */
+    AsyncLoadingCache<String, List<Product>> register(MallType mallType, Function<String, List<Product>> loader) {
+        String mall = mallType.name().toLowerCase(Locale.ROOT);
+        long ttlSeconds = environment.getProperty("app.search.cache.ttl-seconds." + mall, Long.class, defaultTtlSeconds);
+        long refreshSeconds = environment.getProperty("app.search.cache.refresh-after-seconds." + mall, Long.class,
+                Math.max(1, ttlSeconds / 3));
+
+        // 백그라운드 갱신(refresh)은 mallSearchExecutor에서 실행
+        AsyncLoadingCache<String, List<Product>> cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .refreshAfterWrite(Duration.ofSeconds(Math.min(refreshSeconds, ttlSeconds)))
+                .executor(refreshExecutor)
+                .recordStats()
+                .buildAsync(loader::apply);
+        caches.put(mallType, cache);
+        log.info("검색 캐시 등록 - {}: TTL {}s, 갱신 {}s, 최대 {}건", mallType, ttlSeconds, refreshSeconds, maxSize);
+        return cache;
+    }
+
+    /**
+     * 캐시 키로 사용할 키워드 정규화 (앞뒤 공백 제거, 연속 공백 축소, 소문자화).
+     */
+    public static String normalizeKeyword(String keyword) {
+        return keyword.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 쇼핑몰별 히트/미스/로딩 시간 통계를 반환합니다.
+     */
+    public Map<MallType, CacheStatsView> getStats() {
+        Map<MallType, CacheStatsView> stats = new EnumMap<>(MallType.class);
+        caches.forEach((type, cache) -> {
+            CacheStats s = cache.synchronous().stats();
+            stats.put(type, new CacheStatsView(cache.synchronous().estimatedSize(), s.hitCount(), s.missCount(), s.hitRate(),
+                    s.loadSuccessCount(), s.loadFailureCount(),
+                    TimeUnit.NANOSECONDS.toMillis((long) s.averageLoadPenalty()), s.evictionCount()));
+        });
+        return stats;
+    }
+
+    public record CacheStatsView(long size, long hits, long misses, double hitRate, long loadSuccess,
+                                 long loadFailure, long avgLoadMs, long evictions) {
+    }
+}
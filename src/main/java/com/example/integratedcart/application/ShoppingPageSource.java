@@ -0,0 +1,31 @@
+package com.example.integratedcart.application;
+
+import com.example.integratedcart.domain.product.Product;
+import com.microsoft.playwright.Page;
+import org.jsoup.nodes.Document;
+
+import java.util.List;
+
+/**
+ * {@link TieredPageFetcher}로 가져오는 쇼핑 검색 페이지 하나(네이버 쇼핑, Google Shopping 등).
+ */
+interface ShoppingPageSource {
+
+    /**
+     * 단계별 성공/실패 기록에 사용하는 이름
+     */
+    String name();
+
+    String searchUrl(String keyword, String mallFilter);
+
+    /**
+     * HTTP로 받은 문서에서 상품을 추출합니다.
+     * @return 추출한 상품 (관련 상품이 없으면 빈 리스트), 페이지 구조를 인식하지 못하면 null (브라우저 단계로 전환)
+     */
+    List<Product> fromDocument(Document document, String keyword, String mallFilter);
+
+    /**
+     * 브라우저로 연 페이지에서 상품을 추출합니다.
+     */
+    List<Product> fromPage(Page page, String keyword, String mallFilter);
+}
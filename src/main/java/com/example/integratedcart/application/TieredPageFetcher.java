@@ -0,0 +1,109 @@
+package com.example.integratedcart.application;
+
+import com.example.integratedcart.domain.product.Product;
+import com.example.integratedcart.infrastructure.BrowserPool;
+import com.example.integratedcart.infrastructure.HostRateLimiter;
+import com.example.integratedcart.infrastructure.MallHttpClient;
+import com.example.integratedcart.infrastructure.RateLimitExceededException;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.options.WaitUntilState;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 검색 페이지를 가벼운 방식부터 단계적으로 가져옵니다.
+ * 1. HTTP 요청 + 페이지에 포함된 JSON / Jsoup HTML 파싱
+ * 2. 1단계가 실패하거나 페이지 구조를 인식하지 못하면 Playwright 브라우저 렌더링
+ * 단계별 결과는 {@link ScrapeTierRegistry}에 기록되어, 계속 실패하는 단계는 건너뜁니다.
+ * 브라우저 단계도 HTTP 단계와 같은 호스트별 요청 한도({@link HostRateLimiter})를 적용합니다.
+ * 단계별 시도는 "scrape.tier" observation(source, tier, outcome 태그)으로 기록됩니다.
+ */
+@Slf4j
+@Component
+public class TieredPageFetcher {
+
+    private final BrowserPool browserPool;
+    private final ScrapeTierRegistry tierRegistry;
+    private final MallHttpClient mallHttpClient;
+    private final HostRateLimiter rateLimiter;
+    private final ObservationRegistry observationRegistry;
+
+    public TieredPageFetcher(BrowserPool browserPool, ScrapeTierRegistry tierRegistry, MallHttpClient mallHttpClient,
+                             HostRateLimiter rateLimiter, ObservationRegistry observationRegistry) {
+        this.browserPool = browserPool;
+        this.tierRegistry = tierRegistry;
+        this.mallHttpClient = mallHttpClient;
+        this.rateLimiter = rateLimiter;
+        this.observationRegistry = observationRegistry;
+    }
+
+    /**
+     * @return 추출한 상품
+     * @throws RateLimitExceededException 검색 페이지 호스트의 요청 한도 초과
+     * @throws IllegalStateException 모든 단계가 실패한 경우 (회로 차단기가 쇼핑몰 장애로 집계)
+     */
+    List<Product> fetch(ShoppingPageSource source, String keyword, String mallFilter) {
+        String url = source.searchUrl(keyword, mallFilter);
+        Exception lastError = null;
+        for (ScrapeTier tier : tierRegistry.tiersFor(source.name())) {
+            try {
+                List<Product> products = PipelineObservations.observe(tierObservation(source, tier),
+                        () -> fetchTier(source, tier, url, keyword, mallFilter), PipelineObservations::outcomeOf);
+                if (products != null) {
+                    tierRegistry.recordSuccess(source.name(), tier);
+                    log.debug("{} - {} 단계 성공 ({}건)", source.name(), tier, products.size());
+                    return products;
+                }
+                log.info("{} - {} 단계에서 페이지 구조 인식 실패, 다음 단계로 전환", source.name(), tier);
+            } catch (RateLimitExceededException e) {
+                // 우리 쪽 요청 한도이므로 단계 실패로 기록하지 않고, 다음 단계도 같은 호스트이므로 중단
+                throw e;
+            } catch (Exception e) {
+                log.warn("{} - {} 단계 실패: {}", source.name(), tier, e.getMessage());
+                lastError = e;
+            }
+            tierRegistry.recordFailure(source.name(), tier);
+        }
+        throw new IllegalStateException(source.name() + " 검색 페이지를 가져오지 못했습니다.", lastError);
+    }
+
+    private List<Product> fetchTier(ShoppingPageSource source, ScrapeTier tier, String url, String keyword,
+                                    String mallFilter) throws Exception {
+        if (tier == ScrapeTier.HTTP) {
+            return fetchHttp(source, url, keyword, mallFilter);
+        }
+        rateLimiter.acquire(URI.create(url).getHost());
+        return browserPool.withPage(page -> {
+            // 상품 카드 대기는 추출 단계에서 하므로 DOM 구성까지만 기다림
+            page.navigate(url, new Page.NavigateOptions().setWaitUntil(WaitUntilState.DOMCONTENTLOADED));
+            return source.fromPage(page, keyword, mallFilter);
+        });
+    }
+
+    private Observation tierObservation(ShoppingPageSource source, ScrapeTier tier) {
+        String tierName = tier.name().toLowerCase(Locale.ROOT);
+        return Observation.createNotStarted("scrape.tier", observationRegistry)
+                .contextualName("scrape " + source.name() + " " + tierName)
+                .lowCardinalityKeyValue("source", source.name())
+                .lowCardinalityKeyValue("tier", tierName);
+    }
+
+    private List<Product> fetchHttp(ShoppingPageSource source, String url, String keyword, String mallFilter)
+            throws Exception {
+        String html = mallHttpClient.get(url, Map.of(
+                "User-Agent", BrowserPool.DEFAULT_USER_AGENT,
+                "Accept", "text/html,application/xhtml+xml",
+                "Accept-Language", "ko-KR,ko;q=0.9,en-US;q=0.8"));
+        Document document = Jsoup.parse(html, url);
+        return source.fromDocument(document, keyword, mallFilter);
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.integratedcart.domain;
+
+/**
+ * 시퀀스 ID를 쓰는 엔티티(Product, Recipe, CartItem)의 공통 시퀀스 설정.
+ * IdSequenceAligner가 세 시퀀스를 같은 증가폭으로 옮기고, application-prod.yml의 hibernate.jdbc.batch_size도
+ * 이 값에 맞추므로 엔티티마다 따로 바꾸지 않습니다.
+ */
+public final class IdSequences {
+
+    /**
+     * 시퀀스 증가폭 (pooled 할당 크기). ProductBatchWriter가 nextval로 직접 받는 상품 ID도 같은 값을 따릅니다.
+     */
+    public static final int ALLOCATION_SIZE = 50;
+
+    private IdSequences() {
+    }
+}
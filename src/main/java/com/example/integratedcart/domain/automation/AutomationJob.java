@@ -0,0 +1,129 @@
+package com.example.integratedcart.domain.automation;
+
+import com.example.integratedcart.domain.product.MallType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 쇼핑몰 하나에 대한 장바구니 담기/결제 자동화 작업.
+ * 한 번의 요청(장바구니)으로 만들어진 쇼핑몰별 작업은 같은 groupId를 가지며, 서로 병렬로 실행됩니다.
+ * 상태를 DB에 저장하여 재기동 후에도 대기 중인 작업을 이어서 실행합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "automation_jobs",
+        indexes = {
+                @Index(name = "idx_automation_jobs_group", columnList = "group_id"),
+                @Index(name = "idx_automation_jobs_status", columnList = "status")
+        })
+public class AutomationJob {
+
+    private static final int MAX_MESSAGE_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "group_id", nullable = false, length = 36)
+    private String groupId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "mall_type", nullable = false)
+    private MallType mallType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private AutomationJobType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private AutomationJobStatus status;
+
+    // 마지막 진행 상황 또는 실패 사유
+    @Column(length = MAX_MESSAGE_LENGTH)
+    private String message;
+
+    // 담을 상품 목록 (JSON)
+    @Column(name = "products_json", columnDefinition = "TEXT")
+    private String productsJson;
+
+    @Column(nullable = false)
+    private Integer attempts;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "started_at")
+    private Instant startedAt;
+
+    @Column(name = "finished_at")
+    private Instant finishedAt;
+
+    @Builder
+    public AutomationJob(String groupId, Long userId, MallType mallType, AutomationJobType type, String productsJson,
+                         Instant now) {
+        this.groupId = groupId;
+        this.userId = userId;
+        this.mallType = mallType;
+        this.type = type;
+        this.productsJson = productsJson;
+        this.status = AutomationJobStatus.QUEUED;
+        this.message = "대기 중";
+        this.attempts = 0;
+        this.createdAt = now;
+    }
+
+    public void start(Instant now) {
+        this.status = AutomationJobStatus.RUNNING;
+        this.startedAt = now;
+        this.attempts++;
+        this.message = "시작";
+    }
+
+    public void progress(String message) {
+        this.message = truncate(message);
+    }
+
+    public void succeed(Instant now, String message) {
+        finish(AutomationJobStatus.SUCCEEDED, now, message);
+    }
+
+    public void fail(Instant now, String message) {
+        finish(AutomationJobStatus.FAILED, now, message);
+    }
+
+    /**
+     * 실행 중 중단된 작업을 다시 대기 상태로 돌립니다. (재기동 시)
+     */
+    public void requeue(String message) {
+        this.status = AutomationJobStatus.QUEUED;
+        this.startedAt = null;
+        this.message = truncate(message);
+    }
+
+    public boolean isFinished() {
+        return status.isFinished();
+    }
+
+    private void finish(AutomationJobStatus status, Instant now, String message) {
+        this.status = status;
+        this.finishedAt = now;
+        this.message = truncate(message);
+    }
+
+    private static String truncate(String message) {
+        if (message == null || message.length() <= MAX_MESSAGE_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_MESSAGE_LENGTH);
+    }
+}
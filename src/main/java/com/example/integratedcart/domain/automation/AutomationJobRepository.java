@@ -0,0 +1,24 @@
+package com.example.integratedcart.domain.automation;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface AutomationJobRepository extends JpaRepository<AutomationJob, Long> {
+
+    List<AutomationJob> findByGroupIdOrderByIdAsc(String groupId);
+
+    List<AutomationJob> findByStatusInOrderByIdAsc(Collection<AutomationJobStatus> statuses);
+
+    /**
+     * 끝난 지 오래된 작업 정리
+     */
+    @Modifying
+    @Query("DELETE FROM AutomationJob j WHERE j.finishedAt < :before")
+    int deleteFinishedBefore(@Param("before") Instant before);
+}
@@ -0,0 +1,15 @@
+package com.example.integratedcart.domain.automation;
+
+/**
+ * 자동화 작업 상태. QUEUED → RUNNING → SUCCEEDED / FAILED
+ */
+public enum AutomationJobStatus {
+    QUEUED,
+    RUNNING,
+    SUCCEEDED,
+    FAILED;
+
+    public boolean isFinished() {
+        return this == SUCCEEDED || this == FAILED;
+    }
+}
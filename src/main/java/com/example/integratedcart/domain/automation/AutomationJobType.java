@@ -0,0 +1,9 @@
+package com.example.integratedcart.domain.automation;
+
+/**
+ * 쇼핑몰 자동화 작업 종류.
+ */
+public enum AutomationJobType {
+    CART, // 장바구니 담기
+    CHECKOUT // 결제
+}
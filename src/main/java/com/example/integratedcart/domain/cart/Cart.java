@@ -1,5 +1,6 @@
 package com.example.integratedcart.domain.cart;
 
+import com.example.integratedcart.domain.product.Product;
 import com.example.integratedcart.domain.user.User;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -7,8 +8,14 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Entity
 @Getter
@@ -21,19 +28,87 @@ public class Cart {
     private Long id;
 
     @OneToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "user_id", nullable = false)
+    @JoinColumn(name = "user_id", nullable = false, unique = true)
     private User user;
 
     @OneToMany(mappedBy = "cart", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("id ASC")
     private List<CartItem> items = new ArrayList<>();
 
+    // 여러 탭에서 동시에 수정할 때 나중에 커밋한 쪽이 덮어쓰지 않도록 하는 낙관적 잠금 버전
+    @Version
+    private Long version;
+
+    // 항목만 바뀌어도 장바구니 행이 갱신되어 version이 올라가도록 변경 메서드마다 기록
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+
     @Builder
-    public Cart(User user) {
+    public Cart(User user, Instant now) {
         this.user = user;
+        this.updatedAt = now;
     }
 
     public void addItem(CartItem item) {
         items.add(item);
         item.setCart(this);
     }
+
+    /**
+     * 상품을 담습니다. 이미 담긴 상품이면 수량을 더합니다.
+     */
+    public void add(Product product, int quantity, Instant now) {
+        addAll(Map.of(product, quantity), now);
+    }
+
+    /**
+     * 여러 상품을 한 번에 담습니다. 이미 담긴 상품은 수량을 더합니다. (상품 ID 기준)
+     */
+    public void addAll(Map<Product, Integer> quantities, Instant now) {
+        Map<Long, CartItem> byProduct = new HashMap<>(items.size() * 2);
+        for (CartItem item : items) {
+            byProduct.put(item.getProduct().getId(), item);
+        }
+        quantities.forEach((product, quantity) -> {
+            CartItem existing = byProduct.get(product.getId());
+            if (existing != null) {
+                existing.updateQuantity(existing.getQuantity() + quantity);
+            } else {
+                CartItem item = CartItem.builder().product(product).quantity(quantity).build();
+                addItem(item);
+                byProduct.put(product.getId(), item);
+            }
+        });
+        this.updatedAt = now;
+    }
+
+    /**
+     * 담긴 상품의 수량을 바꿉니다. 0 이하이면 뺍니다.
+     * @return 담긴 상품이 아니면 false
+     */
+    public boolean changeQuantity(Long productId, int quantity, Instant now) {
+        for (CartItem item : items) {
+            if (item.getProduct().getId().equals(productId)) {
+                if (quantity <= 0) {
+                    items.remove(item);
+                } else {
+                    item.updateQuantity(quantity);
+                }
+                this.updatedAt = now;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return 뺀 항목 수
+     */
+    public int removeAll(Collection<Long> productIds, Instant now) {
+        Set<Long> targets = new HashSet<>(productIds);
+        int before = items.size();
+        items.removeIf(item -> targets.contains(item.getProduct().getId()));
+        this.updatedAt = now;
+        return before - items.size();
+    }
 }
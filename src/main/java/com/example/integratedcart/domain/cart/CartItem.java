@@ -1,5 +1,6 @@
 package com.example.integratedcart.domain.cart;
 
+import com.example.integratedcart.domain.IdSequences;
 import com.example.integratedcart.domain.product.Product;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -14,7 +15,8 @@ import lombok.NoArgsConstructor;
 public class CartItem {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "cart_item_seq")
+    @SequenceGenerator(name = "cart_item_seq", sequenceName = "cart_items_seq", allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -2,9 +2,15 @@ package com.example.integratedcart.domain.cart;
 
 import com.example.integratedcart.domain.user.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
 public interface CartRepository extends JpaRepository<Cart, Long> {
     Optional<Cart> findByUser(User user);
+
+    // 장바구니 + 항목 + 상품을 한 번의 쿼리로 조회 (CartItem.product 지연 로딩으로 인한 N+1 방지)
+    @Query("SELECT c FROM Cart c LEFT JOIN FETCH c.items i LEFT JOIN FETCH i.product WHERE c.user.id = :userId")
+    Optional<Cart> findWithItemsByUserId(@Param("userId") Long userId);
 }
@@ -0,0 +1,90 @@
+package com.example.integratedcart.domain.crawl;
+
+import com.example.integratedcart.domain.product.MallType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 백그라운드 가격 갱신 대상 키워드 (쇼핑몰 × 정규화된 키워드).
+ * 검색 요청 수를 반감기(half-life)로 감쇠시킨 인기도와 마지막 갱신 시각을 저장하여
+ * 재기동 후에도 갱신 대기열을 그대로 이어갑니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "crawl_keywords",
+        uniqueConstraints = @UniqueConstraint(name = "uk_crawl_keywords_mall_keyword",
+                columnNames = { "mall_type", "keyword" }),
+        indexes = @Index(name = "idx_crawl_keywords_popularity", columnList = "popularity"))
+public class CrawlKeyword {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "mall_type", nullable = false)
+    private MallType mallType;
+
+    // SearchResultCache.normalizeKeyword로 정규화된 키워드
+    @Column(nullable = false)
+    private String keyword;
+
+    // popularityUpdatedAt 시점의 감쇠된 요청 수
+    @Column(nullable = false)
+    private Double popularity;
+
+    @Column(name = "popularity_updated_at", nullable = false)
+    private Instant popularityUpdatedAt;
+
+    @Column(name = "last_refreshed_at")
+    private Instant lastRefreshedAt;
+
+    @Column(name = "last_result_count")
+    private Integer lastResultCount;
+
+    @Column(name = "last_failed_at")
+    private Instant lastFailedAt;
+
+    @Column(name = "consecutive_failures", nullable = false)
+    private Integer consecutiveFailures;
+
+    @Builder
+    public CrawlKeyword(MallType mallType, String keyword, Instant now) {
+        this.mallType = mallType;
+        this.keyword = keyword;
+        this.popularity = 0.0;
+        this.popularityUpdatedAt = now;
+        this.consecutiveFailures = 0;
+    }
+
+    /**
+     * now 시점으로 감쇠된 인기도
+     */
+    public double decayedPopularity(Instant now, Duration halfLife) {
+        long elapsedMs = Math.max(0, Duration.between(popularityUpdatedAt, now).toMillis());
+        return popularity * Math.pow(0.5, (double) elapsedMs / halfLife.toMillis());
+    }
+
+    public void addRequests(long count, Instant now, Duration halfLife) {
+        this.popularity = decayedPopularity(now, halfLife) + count;
+        this.popularityUpdatedAt = now;
+    }
+
+    public void markRefreshed(Instant now, int resultCount) {
+        this.lastRefreshedAt = now;
+        this.lastResultCount = resultCount;
+        this.consecutiveFailures = 0;
+    }
+
+    public void markFailed(Instant now) {
+        this.lastFailedAt = now;
+        this.consecutiveFailures++;
+    }
+}
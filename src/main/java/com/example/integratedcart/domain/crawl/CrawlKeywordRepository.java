@@ -0,0 +1,26 @@
+package com.example.integratedcart.domain.crawl;
+
+import com.example.integratedcart.domain.product.MallType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+public interface CrawlKeywordRepository extends JpaRepository<CrawlKeyword, Long> {
+
+    Optional<CrawlKeyword> findByMallTypeAndKeyword(MallType mallType, String keyword);
+
+    List<CrawlKeyword> findByOrderByPopularityDesc(Pageable pageable);
+
+    /**
+     * 오랫동안 요청되지 않은 키워드 정리
+     */
+    @Modifying
+    @Query("DELETE FROM CrawlKeyword k WHERE k.popularityUpdatedAt < :before")
+    int deleteInactiveSince(@Param("before") Instant before);
+}
@@ -1,19 +1,35 @@
 package com.example.integratedcart.domain.product;
 
+import com.example.integratedcart.domain.IdSequences;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import java.time.Instant;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "products")
+@Table(name = "products",
+        uniqueConstraints = @UniqueConstraint(name = "uk_products_mall_native_id",
+                columnNames = { "mall_type", "mall_product_id" }),
+        indexes = {
+                @Index(name = "idx_products_mall_name", columnList = "mall_type, name"),
+                @Index(name = "idx_products_mall_price", columnList = "mall_type, price"),
+                @Index(name = "idx_products_last_seen", columnList = "last_seen_at")
+        })
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "products")
 public class Product {
 
+    // 시퀀스에서 50개씩 미리 할당받아(pooled) IDENTITY와 달리 INSERT를 JDBC batch로 묶을 수 있음
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_seq")
+    @SequenceGenerator(name = "product_seq", sequenceName = "products_seq", allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false)
@@ -42,9 +58,17 @@ public class Product {
     @Column(length = 2048)
     private String productUrl;
 
+    // 쇼핑몰 고유 상품 식별자 (컬리 상품번호, 네이버 nvMid 등). 스크래핑 결과 upsert의 자연 키
+    @Column(name = "mall_product_id")
+    private String mallProductId;
+
+    // 마지막으로 스크래핑에서 확인된 시각 (인덱스 신선도 판단용)
+    @Column(name = "last_seen_at")
+    private Instant lastSeenAt;
+
     @Builder
     public Product(Long id, String name, Integer price, MallType mallType, Double sugarPer100g, String unit,
-            Integer capacity, Boolean inStock, String productUrl) {
+            Integer capacity, Boolean inStock, String productUrl, String mallProductId, Instant lastSeenAt) {
         this.id = id;
         this.name = name;
         this.price = price;
@@ -54,6 +78,8 @@ public class Product {
         this.capacity = capacity;
         this.inStock = inStock != null ? inStock : true;
         this.productUrl = productUrl;
+        this.mallProductId = mallProductId;
+        this.lastSeenAt = lastSeenAt;
     }
 
     public void updateStock(Boolean inStock) {
@@ -1,9 +1,12 @@
 package com.example.integratedcart.domain.product;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 
 public interface ProductRepository extends JpaRepository<Product, Long> {
@@ -16,4 +19,12 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     // 이름 기반 검색 (저당 순, 100g당 당류가 낮은 순서)
     @Query("SELECT p FROM Product p WHERE p.name LIKE %:keyword% AND p.inStock = true ORDER BY p.sugarPer100g ASC NULLS LAST")
     List<Product> findByNameContainingOrderBySugarAsc(@Param("keyword") String keyword);
+
+    List<Product> findByMallTypeAndMallProductIdIn(MallType mallType, Collection<String> mallProductIds);
+
+    // 로컬 인덱스 조회: 최근 확인된(freshSince 이후) 재고 있는 상품을 최저가 순으로
+    @Query("SELECT p FROM Product p WHERE p.mallType = :mallType AND p.name LIKE %:keyword% AND p.inStock = true"
+            + " AND p.lastSeenAt >= :freshSince ORDER BY p.price ASC")
+    List<Product> findFreshByMallTypeAndName(@Param("mallType") MallType mallType, @Param("keyword") String keyword,
+            @Param("freshSince") Instant freshSince, Pageable pageable);
 }
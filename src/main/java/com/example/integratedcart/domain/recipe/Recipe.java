@@ -1,19 +1,28 @@
 package com.example.integratedcart.domain.recipe;
 
+import com.example.integratedcart.domain.IdSequences;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "recipes")
+@Table(name = "recipes", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_recipes_normalized_name", columnNames = "normalized_name"),
+        @UniqueConstraint(name = "uk_recipes_source_url", columnNames = "source_url")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "recipes") // 생성 후 변경하지 않음
 public class Recipe {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "recipe_seq")
+    @SequenceGenerator(name = "recipe_seq", sequenceName = "recipes_seq", allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false)
@@ -27,10 +36,20 @@ public class Recipe {
     @Column(name = "base_portion", nullable = false)
     private Integer basePortion;
 
+    // 음식명 입력의 정규화 키 (공백/기호 제거, 소문자). URL로 분석한 레시피는 null
+    @Column(name = "normalized_name")
+    private String normalizedName;
+
+    // 영상/블로그 입력의 정규화된 URL. 같은 URL을 다시 분석하지 않기 위한 키
+    @Column(name = "source_url", length = 1024)
+    private String sourceUrl;
+
     @Builder
-    public Recipe(String name, String ingredientsJson, Integer basePortion) {
+    public Recipe(String name, String ingredientsJson, Integer basePortion, String normalizedName, String sourceUrl) {
         this.name = name;
         this.ingredientsJson = ingredientsJson;
         this.basePortion = basePortion;
+        this.normalizedName = normalizedName;
+        this.sourceUrl = sourceUrl;
     }
 }
@@ -1,6 +1,32 @@
 package com.example.integratedcart.domain.recipe;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
 
 public interface RecipeRepository extends JpaRepository<Recipe, Long> {
+
+    Optional<Recipe> findByNormalizedName(String normalizedName);
+
+    Optional<Recipe> findBySourceUrl(String sourceUrl);
+
+    /**
+     * 정규화 키가 생기기 전에 저장된 음식명 레시피 (ID 순)
+     */
+    @Query("SELECT r FROM Recipe r WHERE r.normalizedName IS NULL AND r.sourceUrl IS NULL ORDER BY r.id")
+    List<Recipe> findWithoutNormalizedName();
+
+    @Query("SELECT r.normalizedName FROM Recipe r WHERE r.normalizedName IS NOT NULL")
+    List<String> findAllNormalizedNames();
+
+    /**
+     * 레시피는 생성 후 변경하지 않는 엔티티이므로 정규화 키 채우기만 bulk update로 처리
+     */
+    @Modifying
+    @Query("UPDATE Recipe r SET r.normalizedName = :normalizedName WHERE r.id = :id AND r.normalizedName IS NULL")
+    int setNormalizedName(@Param("id") Long id, @Param("normalizedName") String normalizedName);
 }
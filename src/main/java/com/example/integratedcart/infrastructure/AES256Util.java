@@ -1,59 +1,186 @@
 package com.example.integratedcart.infrastructure;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
 import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
  * AES-256 암호화/복호화 유틸리티.
  * 외부 쇼핑몰 계정 정보를 안전하게 암호화합니다.
+ * - 암호문 형식: "v&lt;키 버전&gt;:" + Base64(IV 12바이트 + AES-GCM 암호문 + 인증 태그 16바이트). 매번 무작위 IV를 사용합니다.
+ * - 키 교체: app.security.aes-secret(버전 app.security.aes-key-version)으로 암호화하고, 이전 버전 키는
+ *   app.security.aes-retired-secrets.&lt;버전&gt;에 남겨 두면 복호화할 수 있습니다.
+ * - 버전 접두사가 없는 값은 이전 형식(AES/ECB, app.security.aes-legacy-key-version 키)으로 복호화합니다.
+ *   {@link #needsReencryption}이 true인 값은 읽은 쪽에서 다시 암호화해 저장합니다. (지연 마이그레이션)
+ * - 키(SecretKeySpec)는 기동 시 한 번 만들고, Cipher 인스턴스는 풀에서 빌려 재사용합니다.
+ *   (가상 스레드에서는 ThreadLocal이 요청마다 새로 만들어지므로 스레드별 보관 대신 공유 풀을 사용)
  */
- @Component
+@Component
 public class AES256Util {
 
-    private final String secretKey;
+    private static final String GCM = "AES/GCM/NoPadding";
+    private static final String LEGACY = "AES/ECB/PKCS5Padding"; // 이전 버전의 Cipher.getInstance("AES") 기본값
+    private static final int IV_BYTES = 12;
+    private static final int TAG_BITS = 128;
+    private static final String VERSION_PREFIX = "v";
+    private static final char VERSION_SEPARATOR = ':';
+
+    private final int activeVersion;
+    private final Map<Integer, SecretKey> keys = new HashMap<>();
+    private final SecretKey legacyKey;
+    private final SecureRandom random = new SecureRandom();
+    private final CipherPool gcmCiphers = new CipherPool(GCM);
+    private final CipherPool legacyCiphers = new CipherPool(LEGACY);
 
     // 환경변수 app.security.aes-secret 필수 설정 (32바이트)
-    public AES256Util(@Value("${app.security.aes-secret}") String secretKey) {
-        if (secretKey.length() < 32) {
-            // 편의를 위해 길이를 맞춤 (실제 환경에서는 32바이트 키를 정확히 주입받아야 함)
-            this.secretKey = String.format("%-32s", secretKey).substring(0, 32);
-        } else {
-            this.secretKey = secretKey.substring(0, 32);
+    public AES256Util(@Value("${app.security.aes-secret}") String secretKey,
+                      @Value("${app.security.aes-key-version:1}") int activeVersion,
+                      @Value("${app.security.aes-legacy-key-version:1}") int legacyVersion,
+                      Environment environment) {
+        if (activeVersion < 1) {
+            throw new IllegalArgumentException("AES 키 버전은 1 이상이어야 합니다.");
+        }
+        this.activeVersion = activeVersion;
+        keys.put(activeVersion, keySpec(secretKey));
+        for (int version = 1; version < activeVersion; version++) {
+            String retired = environment.getProperty("app.security.aes-retired-secrets." + version);
+            if (retired != null) {
+                keys.put(version, keySpec(retired));
+            }
         }
+        this.legacyKey = keys.get(legacyVersion);
     }
 
     /**
-     * 평문을 AES-256으로 암호화합니다.
+     * 평문을 현재 버전 키와 AES-256-GCM으로 암호화합니다.
      * @param text 암호화할 평문
-     * @return Base64 인코딩된 암호문, null이면 null 반환
+     * @return "v&lt;버전&gt;:" + Base64 인코딩된 IV와 암호문, null이면 null 반환
      * @throws Exception 암호화 실패 시
      */
     public String encrypt(String text) throws Exception {
         if (text == null) return null;
-        Cipher cipher = Cipher.getInstance("AES");
-        SecretKeySpec keySpec = new SecretKeySpec(secretKey.getBytes(), "AES");
-        cipher.init(Cipher.ENCRYPT_MODE, keySpec);
-        byte[] encrypted = cipher.doFinal(text.getBytes());
-        return Base64.getEncoder().encodeToString(encrypted);
+        byte[] iv = new byte[IV_BYTES];
+        random.nextBytes(iv);
+        Cipher cipher = gcmCiphers.borrow();
+        byte[] encrypted;
+        try {
+            cipher.init(Cipher.ENCRYPT_MODE, keys.get(activeVersion), new GCMParameterSpec(TAG_BITS, iv));
+            encrypted = cipher.doFinal(text.getBytes(StandardCharsets.UTF_8));
+        } finally {
+            gcmCiphers.release(cipher);
+        }
+        byte[] payload = ByteBuffer.allocate(IV_BYTES + encrypted.length).put(iv).put(encrypted).array();
+        return VERSION_PREFIX + activeVersion + VERSION_SEPARATOR + Base64.getEncoder().encodeToString(payload);
     }
 
     /**
-     * AES-256 암호문을 복호화합니다.
-     * @param cipherText Base64 인코딩된 암호문
+     * 암호문을 복호화합니다. 버전 접두사가 없으면 이전 형식(ECB)으로 복호화합니다.
+     * @param cipherText encrypt 결과 또는 이전 형식의 Base64 암호문
      * @return 복호화된 평문, null이면 null 반환
-     * @throws Exception 복호화 실패 시
+     * @throws Exception 복호화 실패 시 (키 버전을 알 수 없거나 인증 태그가 맞지 않는 경우 포함)
      */
     public String decrypt(String cipherText) throws Exception {
         if (cipherText == null) return null;
-        Cipher cipher = Cipher.getInstance("AES");
-        SecretKeySpec keySpec = new SecretKeySpec(secretKey.getBytes(), "AES");
-        cipher.init(Cipher.DECRYPT_MODE, keySpec);
-        byte[] decodedBytes = Base64.getDecoder().decode(cipherText);
-        byte[] decrypted = cipher.doFinal(decodedBytes);
-        return new String(decrypted);
+        int separator = cipherText.indexOf(VERSION_SEPARATOR);
+        if (separator < 0) {
+            return decryptLegacy(cipherText);
+        }
+        int version = parseVersion(cipherText, separator);
+        SecretKey key = keys.get(version);
+        if (key == null) {
+            throw new GeneralSecurityException("알 수 없는 AES 키 버전: " + version);
+        }
+        byte[] payload = Base64.getDecoder().decode(cipherText.substring(separator + 1));
+        if (payload.length < IV_BYTES) {
+            throw new GeneralSecurityException("암호문 길이가 IV보다 짧습니다.");
+        }
+        Cipher cipher = gcmCiphers.borrow();
+        try {
+            cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, payload, 0, IV_BYTES));
+            byte[] decrypted = cipher.doFinal(payload, IV_BYTES, payload.length - IV_BYTES);
+            return new String(decrypted, StandardCharsets.UTF_8);
+        } finally {
+            gcmCiphers.release(cipher);
+        }
+    }
+
+    /**
+     * @return 이전 형식이거나 현재 버전이 아닌 키로 암호화된 값이면 true (다시 암호화해 저장할 대상)
+     */
+    public boolean needsReencryption(String cipherText) {
+        if (cipherText == null || cipherText.isEmpty()) {
+            return false;
+        }
+        int separator = cipherText.indexOf(VERSION_SEPARATOR);
+        return separator < 0 || parseVersion(cipherText, separator) != activeVersion;
+    }
+
+    private String decryptLegacy(String cipherText) throws GeneralSecurityException {
+        if (legacyKey == null) {
+            throw new GeneralSecurityException("이전 형식 암호문을 복호화할 키가 없습니다.");
+        }
+        Cipher cipher = legacyCiphers.borrow();
+        try {
+            cipher.init(Cipher.DECRYPT_MODE, legacyKey);
+            byte[] decrypted = cipher.doFinal(Base64.getDecoder().decode(cipherText));
+            return new String(decrypted, StandardCharsets.UTF_8);
+        } finally {
+            legacyCiphers.release(cipher);
+        }
+    }
+
+    private static int parseVersion(String cipherText, int separator) {
+        if (!cipherText.startsWith(VERSION_PREFIX)) {
+            throw new IllegalArgumentException("암호문 버전 형식이 올바르지 않습니다.");
+        }
+        return Integer.parseInt(cipherText, VERSION_PREFIX.length(), separator, 10);
+    }
+
+    private static SecretKey keySpec(String secretKey) {
+        String normalized;
+        if (secretKey.length() < 32) {
+            // 편의를 위해 길이를 맞춤 (실제 환경에서는 32바이트 키를 정확히 주입받아야 함)
+            normalized = String.format("%-32s", secretKey).substring(0, 32);
+        } else {
+            normalized = secretKey.substring(0, 32);
+        }
+        return new SecretKeySpec(normalized.getBytes(StandardCharsets.UTF_8), "AES");
+    }
+
+    /**
+     * Cipher는 스레드 안전하지 않으므로 사용하는 동안만 빌려 갑니다.
+     * 풀 크기는 동시에 암복호화한 최대 스레드 수를 넘지 않으며, 사용 후 매번 init으로 키/IV를 다시 설정합니다.
+     */
+    private static final class CipherPool {
+
+        private final String transformation;
+        private final Queue<Cipher> idle = new ConcurrentLinkedQueue<>();
+
+        CipherPool(String transformation) {
+            this.transformation = transformation;
+        }
+
+        Cipher borrow() throws GeneralSecurityException {
+            Cipher cipher = idle.poll();
+            return cipher != null ? cipher : Cipher.getInstance(transformation);
+        }
+
+        void release(Cipher cipher) {
+            idle.offer(cipher);
+        }
     }
 }
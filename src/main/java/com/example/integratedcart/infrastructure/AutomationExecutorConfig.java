@@ -0,0 +1,27 @@
+package com.example.integratedcart.infrastructure;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 장바구니 담기/결제 자동화 작업(AutomationJobService)을 실행하는 제한된 스레드 풀.
+ * 로그인 대기 등으로 작업 하나가 수 분간 스레드를 점유하므로 요청 스레드(Tomcat)와 검색 풀에서 분리합니다.
+ * 대기 중인 작업은 AutomationJobService의 쇼핑몰별 대기열에 있고, 실행 가능한 작업만 이 풀에 제출됩니다.
+ * 동시 실행 수가 interactive 브라우저 수에 묶여 있으므로 가상 스레드 모드에서도 플랫폼 스레드 풀을 그대로 사용합니다.
+ */
+@Configuration
+public class AutomationExecutorConfig {
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService automationExecutor(@Value("${app.automation.max-threads:2}") int maxThreads,
+                                              @Value("${app.automation.queue-capacity:20}") int queueCapacity,
+                                              MeterRegistry meterRegistry) {
+        return ObservedExecutors.monitor(
+                BoundedExecutors.create("automation-", maxThreads, queueCapacity, false),
+                "automationExecutor", meterRegistry);
+    }
+}
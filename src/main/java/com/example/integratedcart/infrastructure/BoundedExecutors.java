@@ -0,0 +1,124 @@
+package com.example.integratedcart.infrastructure;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 애플리케이션 스레드 풀 생성 (검색/스크래핑/레시피 분석/자동화/가격 갱신).
+ * - 플랫폼 스레드 모드: maxThreads개 스레드 + queueCapacity 대기열, 가득 차면 RejectedExecutionException
+ * - 가상 스레드 모드(spring.threads.virtual.enabled=true): 작업마다 가상 스레드를 만들고,
+ *   동시에 실행 중인 작업이 maxThreads + queueCapacity개를 넘으면 같은 예외로 거절합니다.
+ *   플랫폼 모드에서 "실행 + 대기"로 받아들이던 작업 수를 그대로 모두 실행하는 셈이므로,
+ *   블로킹 I/O(브라우저 IPC, HTTP, Gemini, JDBC) 대기가 스레드 수에 묶이지 않습니다.
+ * 쇼핑몰/호스트별 실제 부하는 어느 모드든 동시 검색 한도와 요청 한도, 브라우저 풀이 제한합니다.
+ */
+public final class BoundedExecutors {
+
+    private static final long KEEP_ALIVE_SECONDS = 60;
+
+    private BoundedExecutors() {
+    }
+
+    public static ExecutorService create(String threadNamePrefix, int maxThreads, int queueCapacity,
+                                         boolean virtualThreads) {
+        if (virtualThreads) {
+            return new BoundedVirtualThreadExecutor(threadNamePrefix, maxThreads + queueCapacity);
+        }
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(maxThreads, maxThreads,
+                KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                namedDaemonThreads(threadNamePrefix));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * 예약 실행 풀. 가상 스레드 모드에서도 동시 실행 수(maxThreads)는 그대로 두고 스레드만 가상 스레드를 사용합니다.
+     */
+    public static ScheduledExecutorService scheduled(String threadNamePrefix, int maxThreads, boolean virtualThreads) {
+        ThreadFactory threadFactory = virtualThreads
+                ? Thread.ofVirtual().name(threadNamePrefix, 1).factory()
+                : namedDaemonThreads(threadNamePrefix);
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(maxThreads, threadFactory);
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+
+    private static ThreadFactory namedDaemonThreads(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, prefix + sequence.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+
+    /**
+     * 작업마다 가상 스레드를 만드는 executor에 동시 실행 수 상한을 둡니다. (상한을 넘으면 대기하지 않고 거절)
+     */
+    private static final class BoundedVirtualThreadExecutor extends AbstractExecutorService {
+
+        private final ExecutorService delegate;
+        private final Semaphore permits;
+
+        private BoundedVirtualThreadExecutor(String threadNamePrefix, int maxInFlight) {
+            this.delegate = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(threadNamePrefix, 1).factory());
+            this.permits = new Semaphore(maxInFlight);
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            if (!permits.tryAcquire()) {
+                throw new RejectedExecutionException("동시 실행 작업 수 한도 초과");
+            }
+            try {
+                delegate.execute(() -> {
+                    try {
+                        command.run();
+                    } finally {
+                        permits.release();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                permits.release();
+                throw e;
+            }
+        }
+
+        @Override
+        public void shutdown() {
+            delegate.shutdown();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return delegate.shutdownNow();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return delegate.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return delegate.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            return delegate.awaitTermination(timeout, unit);
+        }
+    }
+}
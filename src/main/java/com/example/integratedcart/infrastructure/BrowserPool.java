@@ -0,0 +1,336 @@
+package com.example.integratedcart.infrastructure;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.BrowserType;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Playwright;
+import com.microsoft.playwright.Request;
+import com.microsoft.playwright.Route;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 장기 실행되는 Playwright/Chromium 인스턴스 풀.
+ * Playwright 객체는 스레드 안전하지 않으므로 각 워커는 전용 스레드 하나에서만 브라우저를 다루고,
+ * 작업마다 새 BrowserContext를 만들어 쿠키/세션이 섞이지 않도록 합니다.
+ * headless 작업에서는 이미지/폰트/미디어 및 광고 호스트 요청을 차단합니다.
+ */
+@Slf4j
+@Component
+public class BrowserPool {
+
+    public static final String DEFAULT_USER_AGENT =
+            "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/122.0.0.0 Safari/537.36";
+
+    private final BlockingQueue<BrowserWorker> idleWorkers;
+    private final BlockingQueue<BrowserWorker> idleInteractiveWorkers;
+    private final List<BrowserWorker> allWorkers = new ArrayList<>();
+    private final long acquireTimeoutMs;
+
+    private final LongAdder leases = new LongAdder();
+    private final LongAdder acquireTimeouts = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private final LongAdder pagesServed = new LongAdder();
+    private final LongAdder recycles = new LongAdder();
+    private final LongAdder unhealthyRelaunches = new LongAdder();
+    private final LongAdder blockedRequests = new LongAdder();
+
+    // headless 검색 페이지에서 차단할 리소스 (상품 정보 추출에 필요 없는 이미지/폰트/미디어/광고)
+    private static final Set<String> BLOCKED_RESOURCE_TYPES = Set.of("image", "font", "media");
+    private final boolean blockResources;
+    private final List<String> blockedHosts;
+
+    public BrowserPool(@Value("${app.browser-pool.size:2}") int size,
+                       @Value("${app.browser-pool.interactive-size:1}") int interactiveSize,
+                       @Value("${app.browser-pool.recycle-after-pages:50}") int recycleAfterPages,
+                       @Value("${app.browser-pool.acquire-timeout-ms:30000}") long acquireTimeoutMs,
+                       @Value("${app.browser-pool.block-resources:true}") boolean blockResources,
+                       @Value("${app.browser-pool.blocked-hosts:doubleclick.net,googlesyndication.com,googleadservices.com,google-analytics.com,googletagmanager.com,adservice.google.com,siape.veta.naver.com,nlog.naver.com,tivan.naver.com}")
+                       List<String> blockedHosts) {
+        if (size <= 0 || interactiveSize <= 0) {
+            throw new IllegalArgumentException("브라우저 풀 크기는 0보다 커야 합니다.");
+        }
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.blockResources = blockResources;
+        this.blockedHosts = blockedHosts.stream().map(String::trim).filter(h -> !h.isEmpty()).toList();
+        this.idleWorkers = new LinkedBlockingQueue<>();
+        this.idleInteractiveWorkers = new LinkedBlockingQueue<>();
+        for (int i = 0; i < size; i++) {
+            BrowserWorker worker = new BrowserWorker("browser-worker-" + i, true, recycleAfterPages);
+            allWorkers.add(worker);
+            idleWorkers.add(worker);
+        }
+        // 로그인 등 사용자 확인이 필요한 작업용 (headless = false, 작업 후 창을 닫음)
+        for (int i = 0; i < interactiveSize; i++) {
+            BrowserWorker worker = new BrowserWorker("browser-interactive-" + i, false, 1);
+            allWorkers.add(worker);
+            idleInteractiveWorkers.add(worker);
+        }
+        log.info("브라우저 풀 생성 - headless: {}, interactive: {}, 재활용 주기: {} 페이지", size, interactiveSize,
+                recycleAfterPages);
+    }
+
+    /**
+     * headless 브라우저에서 새 컨텍스트/페이지를 열어 작업을 실행합니다.
+     * @param task 페이지를 받아 결과를 반환하는 작업 (워커 스레드에서 실행됨)
+     * @return 작업 결과
+     */
+    public <T> T withPage(Function<Page, T> task) {
+        return execute(idleWorkers, task);
+    }
+
+    /**
+     * 사용자에게 보이는(headed) 브라우저에서 작업을 실행합니다. 로그인 대기 등 상호작용용입니다.
+     * @param task 페이지를 받아 결과를 반환하는 작업 (워커 스레드에서 실행됨)
+     * @return 작업 결과
+     */
+    public <T> T withInteractivePage(Function<Page, T> task) {
+        return execute(idleInteractiveWorkers, task);
+    }
+
+    private <T> T execute(BlockingQueue<BrowserWorker> queue, Function<Page, T> task) {
+        BrowserWorker worker = acquire(queue);
+        // 호출 스레드가 먼저 인터럽트되어 빠져나가도 워커는 작업이 실제로 끝난 뒤에 풀로 돌아감
+        return worker.run(task, () -> queue.add(worker));
+    }
+
+    private BrowserWorker acquire(BlockingQueue<BrowserWorker> queue) {
+        long start = System.nanoTime();
+        try {
+            BrowserWorker worker = queue.poll(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+            long waited = System.nanoTime() - start;
+            totalWaitNanos.add(waited);
+            maxWaitNanos.accumulateAndGet(waited, Math::max);
+            if (worker == null) {
+                acquireTimeouts.increment();
+                throw new IllegalStateException("브라우저 풀 대기 시간 초과 (" + acquireTimeoutMs + "ms)");
+            }
+            leases.increment();
+            return worker;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("브라우저 풀 대기 중 인터럽트 발생", e);
+        }
+    }
+
+    /**
+     * 풀 사용 현황 스냅샷을 반환합니다.
+     */
+    public BrowserPoolStats getStats() {
+        long leaseCount = leases.sum();
+        return new BrowserPoolStats(
+                idleWorkers.size(),
+                idleInteractiveWorkers.size(),
+                leaseCount,
+                acquireTimeouts.sum(),
+                leaseCount == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalWaitNanos.sum() / leaseCount),
+                TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get()),
+                pagesServed.sum(),
+                recycles.sum(),
+                unhealthyRelaunches.sum(),
+                blockedRequests.sum());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        allWorkers.forEach(BrowserWorker::close);
+    }
+
+    public record BrowserPoolStats(int idleWorkers, int idleInteractiveWorkers, long leases, long acquireTimeouts,
+                                   long avgWaitMs, long maxWaitMs, long pagesServed, long recycles,
+                                   long unhealthyRelaunches, long blockedRequests) {
+    }
+
+    /**
+     * Playwright 인스턴스 하나와 그것을 소유하는 전용 스레드.
+     * 모든 Playwright 호출은 이 워커의 단일 스레드 executor 안에서만 일어납니다.
+     */
+    private final class BrowserWorker {
+
+        private final String name;
+        private final boolean headless;
+        private final int recycleAfterPages;
+        private final ExecutorService thread;
+
+        // 아래 필드는 워커 스레드에서만 접근
+        private Playwright playwright;
+        private Browser browser;
+        private int pagesSinceLaunch;
+
+        BrowserWorker(String name, boolean headless, int recycleAfterPages) {
+            this.name = name;
+            this.headless = headless;
+            this.recycleAfterPages = Math.max(1, recycleAfterPages);
+            this.thread = Executors.newSingleThreadExecutor(r -> {
+                Thread t = new Thread(r, name);
+                t.setDaemon(true);
+                return t;
+            });
+        }
+
+        /**
+         * @param release 작업이 워커 스레드에서 끝난 뒤(또는 제출에 실패한 경우) 한 번 호출되어 워커를 반납
+         */
+        <T> T run(Function<Page, T> task, Runnable release) {
+            Future<T> future;
+            try {
+                future = thread.submit(() -> {
+                    try {
+                        return runOnWorkerThread(task);
+                    } finally {
+                        release.run();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                release.run();
+                throw e;
+            }
+            try {
+                return future.get();
+            } catch (InterruptedException e) {
+                // 워커 스레드는 인터럽트하지 않음 (Playwright 연결이 깨질 수 있음) - 작업은 자체 타임아웃으로 끝나고,
+                // 그때까지 워커는 반납되지 않으므로 다음 요청이 남은 작업 뒤에 줄 서지 않음
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("브라우저 작업 대기 중 인터럽트 발생", e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw new IllegalStateException("브라우저 작업 실패: " + cause.getMessage(), cause);
+            }
+        }
+
+        private <T> T runOnWorkerThread(Function<Page, T> task) {
+            ensureHealthy();
+            BrowserContext context = browser.newContext(new Browser.NewContextOptions()
+                    .setUserAgent(DEFAULT_USER_AGENT));
+            if (headless && blockResources) {
+                context.route("**/*", this::filterRequest);
+            }
+            try {
+                return task.apply(context.newPage());
+            } finally {
+                closeQuietly(context);
+                pagesServed.increment();
+                pagesSinceLaunch++;
+                if (pagesSinceLaunch >= recycleAfterPages) {
+                    if (headless) {
+                        recycles.increment();
+                        log.debug("{} 브라우저 재활용 ({} 페이지 처리)", name, pagesSinceLaunch);
+                    }
+                    closeBrowser();
+                }
+            }
+        }
+
+        private void filterRequest(Route route) {
+            Request request = route.request();
+            if (BLOCKED_RESOURCE_TYPES.contains(request.resourceType()) || isBlockedHost(request.url())) {
+                blockedRequests.increment();
+                route.abort();
+            } else {
+                route.resume();
+            }
+        }
+
+        private boolean isBlockedHost(String url) {
+            int start = url.indexOf("://");
+            if (start < 0) {
+                return false;
+            }
+            int end = url.indexOf('/', start + 3);
+            String host = end < 0 ? url.substring(start + 3) : url.substring(start + 3, end);
+            for (String blocked : blockedHosts) {
+                if (host.equals(blocked) || host.endsWith("." + blocked)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * 헬스 체크: 브라우저 프로세스가 죽었거나 연결이 끊겼으면 다시 띄웁니다.
+         */
+        private void ensureHealthy() {
+            if (browser != null && browser.isConnected()) {
+                return;
+            }
+            if (browser != null) {
+                unhealthyRelaunches.increment();
+                log.warn("{} 브라우저 연결 끊김 감지 - 재시작합니다.", name);
+                closeBrowser();
+            }
+            if (playwright == null) {
+                playwright = Playwright.create();
+            }
+            try {
+                browser = playwright.chromium().launch(new BrowserType.LaunchOptions().setHeadless(headless));
+            } catch (RuntimeException e) {
+                // 드라이버 자체가 망가진 경우 다음 작업에서 처음부터 다시 생성
+                closePlaywright();
+                throw e;
+            }
+            pagesSinceLaunch = 0;
+        }
+
+        private void closeBrowser() {
+            if (browser != null) {
+                try {
+                    browser.close();
+                } catch (Exception e) {
+                    log.debug("{} 브라우저 종료 실패: {}", name, e.getMessage());
+                }
+                browser = null;
+            }
+        }
+
+        private void closePlaywright() {
+            closeBrowser();
+            if (playwright != null) {
+                try {
+                    playwright.close();
+                } catch (Exception e) {
+                    log.debug("{} Playwright 종료 실패: {}", name, e.getMessage());
+                }
+                playwright = null;
+            }
+        }
+
+        private void closeQuietly(BrowserContext context) {
+            try {
+                context.close();
+            } catch (Exception e) {
+                log.debug("{} 컨텍스트 종료 실패: {}", name, e.getMessage());
+            }
+        }
+
+        void close() {
+            try {
+                thread.submit(this::closePlaywright).get(10, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                log.warn("{} 종료 중 오류: {}", name, e.getMessage());
+            }
+            thread.shutdownNow();
+        }
+    }
+}
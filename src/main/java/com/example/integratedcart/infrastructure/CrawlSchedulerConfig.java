@@ -0,0 +1,26 @@
+package com.example.integratedcart.infrastructure;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * 백그라운드 가격 갱신(PriceRefreshScheduler) 설정.
+ * 갱신 작업은 사용자 검색용 mallSearchExecutor와 분리된 작은 전용 풀에서 실행됩니다.
+ */
+@Configuration
+@EnableScheduling
+public class CrawlSchedulerConfig {
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ScheduledExecutorService crawlExecutor(@Value("${app.crawl.max-threads:2}") int maxThreads,
+                                                  @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                                                  MeterRegistry meterRegistry) {
+        return ObservedExecutors.monitor(BoundedExecutors.scheduled("price-refresh-", maxThreads, virtualThreads),
+                "crawlExecutor", meterRegistry);
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.integratedcart.infrastructure;
+
+import com.google.genai.Client;
+import com.google.genai.types.HttpOptions;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Gemini(google-genai) 클라이언트 설정.
+ * Client는 스레드 안전하며 내부 HTTP 커넥션을 재사용하므로 애플리케이션 전체에서 하나만 사용합니다.
+ */
+@Slf4j
+@Configuration
+public class GeminiConfig {
+
+    /**
+     * @param baseUrl 비어 있지 않으면 해당 주소로 요청 (로컬 Gemini 스텁 서버 테스트용)
+     */
+    @Bean
+    public Client geminiClient(@Value("${google.ai.api-key}") String apiKey,
+                               @Value("${google.ai.base-url:}") String baseUrl,
+                               @Value("${google.ai.timeout-ms:60000}") int timeoutMs) {
+        HttpOptions.Builder httpOptions = HttpOptions.builder().timeout(timeoutMs);
+        if (!baseUrl.isBlank()) {
+            log.info("Gemini 요청 주소 재정의: {}", baseUrl);
+            httpOptions.baseUrl(baseUrl);
+        }
+        return Client.builder()
+                .apiKey(apiKey)
+                .httpOptions(httpOptions.build())
+                .build();
+    }
+
+    /**
+     * 레시피 분석(Gemini 호출)을 요청 스레드와 분리해 실행하는 제한된 executor.
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService recipeAnalysisExecutor(@Value("${google.ai.executor.max-threads:8}") int maxThreads,
+                                                  @Value("${google.ai.executor.queue-capacity:100}") int queueCapacity,
+                                                  @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                                                  MeterRegistry meterRegistry) {
+        return ObservedExecutors.monitor(
+                BoundedExecutors.create("recipe-analysis-", maxThreads, queueCapacity, virtualThreads),
+                "recipeAnalysisExecutor", meterRegistry);
+    }
+
+    /**
+     * 음식명 마이크로 배치(GeminiRecipeAnalyzer)의 window가 끝나면 모인 요청을 보내는 예약 executor.
+     * 예약 작업은 recipeAnalysisExecutor에 배치를 넘기기만 하므로 스레드 하나면 충분합니다.
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ScheduledExecutorService recipeBatchScheduler(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                                                         MeterRegistry meterRegistry) {
+        return ObservedExecutors.monitor(BoundedExecutors.scheduled("gemini-batch-flush-", 1, virtualThreads),
+                "recipeBatchScheduler", meterRegistry);
+    }
+}
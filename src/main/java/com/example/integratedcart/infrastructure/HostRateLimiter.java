@@ -0,0 +1,143 @@
+package com.example.integratedcart.infrastructure;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 외부 호스트별 토큰 버킷 요청 한도.
+ * 초당 permits-per-second개씩 토큰이 채워지고 최대 burst개까지 쌓입니다.
+ * 토큰이 없으면 max-wait-ms까지만 기다리고, 그보다 오래 기다려야 하면 요청을 보내지 않습니다.
+ * 호스트별 설정: app.resilience.rate-limit.hosts[호스트].permits-per-second / burst
+ */
+@Slf4j
+@Component
+public class HostRateLimiter {
+
+    private final Environment environment;
+    private final double defaultPermitsPerSecond;
+    private final int defaultBurst;
+    private final long maxWaitNanos;
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    public HostRateLimiter(Environment environment,
+                           @Value("${app.resilience.rate-limit.default.permits-per-second:5}") double permitsPerSecond,
+                           @Value("${app.resilience.rate-limit.default.burst:10}") int burst,
+                           @Value("${app.resilience.rate-limit.max-wait-ms:1000}") long maxWaitMs) {
+        this.environment = environment;
+        this.defaultPermitsPerSecond = permitsPerSecond;
+        this.defaultBurst = burst;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+    }
+
+    /**
+     * 호스트에 요청을 보낼 토큰을 얻습니다. 필요하면 max-wait-ms까지 대기합니다.
+     * @throws RateLimitExceededException 대기 한도 안에 토큰을 얻을 수 없는 경우
+     */
+    public void acquire(String host) {
+        if (host == null) {
+            return;
+        }
+        TokenBucket bucket = buckets.computeIfAbsent(host, this::newBucket);
+        long waitNanos = bucket.reserve(maxWaitNanos);
+        if (waitNanos < 0) {
+            bucket.rejected.increment();
+            log.debug("{} 요청 한도 초과", host);
+            throw new RateLimitExceededException(host);
+        }
+        if (waitNanos > 0) {
+            bucket.delayed.increment();
+            LockSupport.parkNanos(waitNanos);
+            if (Thread.currentThread().isInterrupted()) {
+                throw new IllegalStateException(host + " 요청 한도 대기 중 인터럽트");
+            }
+        }
+    }
+
+    /**
+     * 호스트 → 요청 한도 상태 (모니터링용)
+     */
+    public Map<String, RateLimitStats> getStats() {
+        Map<String, RateLimitStats> stats = new TreeMap<>();
+        buckets.forEach((host, b) -> stats.put(host, b.stats()));
+        return stats;
+    }
+
+    private TokenBucket newBucket(String host) {
+        String prefix = "app.resilience.rate-limit.hosts[" + host + "].";
+        double permitsPerSecond = environment.getProperty(prefix + "permits-per-second", Double.class,
+                defaultPermitsPerSecond);
+        int burst = environment.getProperty(prefix + "burst", Integer.class, defaultBurst);
+        log.info("요청 한도 등록 - {}: 초당 {}건, 최대 {}건 연속", host, permitsPerSecond, burst);
+        return new TokenBucket(permitsPerSecond, burst);
+    }
+
+    public record RateLimitStats(double permitsPerSecond, int burst, double availableTokens, long delayed,
+                                 long rejected) {
+    }
+
+    private static final class TokenBucket {
+
+        private final double permitsPerSecond;
+        private final int burst;
+        private final double nanosPerPermit;
+        private final LongAdder delayed = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final ReentrantLock lock = new ReentrantLock();
+        // 음수가 되면 이미 예약된(대기 중인) 요청이 있다는 뜻
+        private double tokens;
+        private long lastRefillNanos;
+
+        private TokenBucket(double permitsPerSecond, int burst) {
+            this.permitsPerSecond = permitsPerSecond;
+            this.burst = Math.max(1, burst);
+            this.nanosPerPermit = TimeUnit.SECONDS.toNanos(1) / permitsPerSecond;
+            this.tokens = this.burst;
+            this.lastRefillNanos = System.nanoTime();
+        }
+
+        /**
+         * 토큰 하나를 예약합니다.
+         * @return 대기해야 하는 시간(ns), maxWaitNanos를 넘으면 예약하지 않고 -1
+         */
+        private long reserve(long maxWaitNanos) {
+            lock.lock();
+            try {
+                refill();
+                long waitNanos = tokens >= 1 ? 0 : (long) ((1 - tokens) * nanosPerPermit);
+                if (waitNanos > maxWaitNanos) {
+                    return -1;
+                }
+                tokens -= 1;
+                return waitNanos;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void refill() {
+            long now = System.nanoTime();
+            tokens = Math.min(burst, tokens + (now - lastRefillNanos) / nanosPerPermit);
+            lastRefillNanos = now;
+        }
+
+        private RateLimitStats stats() {
+            lock.lock();
+            try {
+                refill();
+                return new RateLimitStats(permitsPerSecond, burst, Math.max(0, tokens), delayed.sum(), rejected.sum());
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
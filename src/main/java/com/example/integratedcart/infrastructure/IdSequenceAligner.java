@@ -0,0 +1,50 @@
+package com.example.integratedcart.infrastructure;
+
+import com.example.integratedcart.domain.IdSequences;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * IDENTITY에서 시퀀스 ID로 바꾼 테이블(products, recipes, cart_items)의 시퀀스를 기존 최대 ID 뒤로 옮깁니다.
+ * ddl-auto가 만든 시퀀스는 1부터 시작하므로, 기존 행이 있는 데이터베이스에서는 그대로 두면 ID가 겹칩니다.
+ * 시퀀스가 이미 최대 ID보다 앞서 있으면 아무것도 하지 않습니다.
+ * PostgreSQL 전용이며, 스키마 갱신(EntityManagerFactory 생성) 뒤 웹 서버가 요청을 받기 전에 한 번 실행합니다.
+ */
+@Slf4j
+@Component
+public class IdSequenceAligner implements SmartInitializingSingleton {
+
+    private static final List<String> TABLES = List.of("products", "recipes", "cart_items");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public IdSequenceAligner(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        String database = jdbcTemplate.execute(
+                (ConnectionCallback<String>) con -> con.getMetaData().getDatabaseProductName());
+        if (!"PostgreSQL".equalsIgnoreCase(database)) {
+            return;
+        }
+        for (String table : TABLES) {
+            String sequence = table + "_seq";
+            // pooled 최적화는 nextval 값을 할당 구간의 끝으로 쓰므로 한 구간만큼 더 띄움
+            List<Long> moved = jdbcTemplate.queryForList(
+                    "SELECT setval('" + sequence + "', m.max_id + " + IdSequences.ALLOCATION_SIZE + ")"
+                            + " FROM (SELECT COALESCE(MAX(id), 0) AS max_id FROM " + table + ") m, " + sequence + " s"
+                            + " WHERE m.max_id >= s.last_value",
+                    Long.class);
+            if (!moved.isEmpty()) {
+                log.info("ID 시퀀스 정렬 - {} → {}", sequence, moved.get(0));
+            }
+        }
+    }
+}
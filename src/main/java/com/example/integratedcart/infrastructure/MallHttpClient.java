@@ -0,0 +1,262 @@
+package com.example.integratedcart.infrastructure;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 쇼핑몰 API/검색 페이지와 Gemini 모델 조회에 사용하는 공용 HTTP 클라이언트.
+ * 하나의 java.net.http.HttpClient를 공유하여 호스트별 커넥션을 재사용하고(HTTPS는 ALPN으로 HTTP/2 협상),
+ * 연결/응답 타임아웃과 gzip 압축, 호스트별 요청 한도({@link HostRateLimiter})를 적용합니다.
+ * 호스트별 요청 통계를 제공합니다.
+ */
+@Slf4j
+@Component
+public class MallHttpClient {
+
+    private final HttpClient client;
+    private final HostRateLimiter rateLimiter;
+    private final Duration requestTimeout;
+    private final Map<String, HostMetrics> metrics = new ConcurrentHashMap<>();
+
+    public MallHttpClient(HostRateLimiter rateLimiter,
+                          @Value("${app.http.connect-timeout-ms:3000}") long connectTimeoutMs,
+                          @Value("${app.http.read-timeout-ms:8000}") long readTimeoutMs) {
+        this.rateLimiter = rateLimiter;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+        this.requestTimeout = Duration.ofMillis(readTimeoutMs);
+    }
+
+    /**
+     * GET 요청을 보내고 본문을 문자열로 반환합니다. 호출 스레드는 응답(또는 타임아웃)까지 대기합니다.
+     * @throws MallHttpException 2xx가 아닌 응답
+     */
+    public String get(String url, Map<String, String> headers) {
+        try {
+            return getAsync(url, headers).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 비동기 GET. 응답을 기다리는 동안 스레드를 점유하지 않습니다.
+     * (호스트 요청 한도의 토큰 대기는 호출 스레드에서 합니다.)
+     */
+    public CompletableFuture<String> getAsync(String url, Map<String, String> headers) {
+        URI uri = URI.create(url);
+        try {
+            rateLimiter.acquire(uri.getHost());
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        HostMetrics host = metrics.computeIfAbsent(uri.getHost(), h -> new HostMetrics());
+        host.requests.increment();
+        host.inFlight.incrementAndGet();
+        long start = System.nanoTime();
+        return client.sendAsync(newRequest(uri, headers), HttpResponse.BodyHandlers.ofByteArray())
+                .handle((response, error) -> {
+                    host.inFlight.decrementAndGet();
+                    host.totalLatencyNanos.add(System.nanoTime() - start);
+                    if (error != null) {
+                        Throwable cause = error instanceof CompletionException && error.getCause() != null
+                                ? error.getCause() : error;
+                        host.failures.increment();
+                        if (cause instanceof HttpTimeoutException) {
+                            host.timeouts.increment();
+                        }
+                        throw new UncheckedIOException(uri.getHost() + " 요청 실패: " + cause.getMessage(),
+                                cause instanceof IOException io ? io : new IOException(cause));
+                    }
+                    (response.version() == HttpClient.Version.HTTP_2 ? host.http2Responses : host.http1Responses)
+                            .increment();
+                    host.bytesReceived.add(response.body().length);
+                    if (response.statusCode() / 100 != 2) {
+                        host.failures.increment();
+                        throw new MallHttpException(uri.getHost(), response.statusCode());
+                    }
+                    return decode(response);
+                });
+    }
+
+    /**
+     * GET 응답 본문을 문자열로 모으지 않고 스트림으로 읽습니다. (gzip은 읽으면서 해제)
+     * reader가 본문을 끝까지 읽지 않고 반환하면 나머지는 버려집니다.
+     * @throws MallHttpException 2xx가 아닌 응답
+     */
+    public <T> T get(String url, Map<String, String> headers, BodyReader<T> reader) {
+        URI uri = URI.create(url);
+        rateLimiter.acquire(uri.getHost());
+        HostMetrics host = metrics.computeIfAbsent(uri.getHost(), h -> new HostMetrics());
+        host.requests.increment();
+        host.inFlight.incrementAndGet();
+        long start = System.nanoTime();
+        try {
+            HttpResponse<InputStream> response = client.send(newRequest(uri, headers),
+                    HttpResponse.BodyHandlers.ofInputStream());
+            (response.version() == HttpClient.Version.HTTP_2 ? host.http2Responses : host.http1Responses)
+                    .increment();
+            if (response.statusCode() / 100 != 2) {
+                response.body().close();
+                host.failures.increment();
+                throw new MallHttpException(uri.getHost(), response.statusCode());
+            }
+            try (InputStream raw = new CountingInputStream(response.body(), host.bytesReceived);
+                 InputStream body = isGzip(response) ? new GZIPInputStream(raw) : raw) {
+                return reader.read(body);
+            }
+        } catch (HttpTimeoutException e) {
+            host.failures.increment();
+            host.timeouts.increment();
+            throw new UncheckedIOException(uri.getHost() + " 요청 실패: " + e.getMessage(), e);
+        } catch (IOException e) {
+            host.failures.increment();
+            throw new UncheckedIOException(uri.getHost() + " 요청 실패: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            host.failures.increment();
+            throw new IllegalStateException(uri.getHost() + " 요청 대기 중 인터럽트", e);
+        } finally {
+            host.inFlight.decrementAndGet();
+            host.totalLatencyNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    private HttpRequest newRequest(URI uri, Map<String, String> headers) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri)
+                .timeout(requestTimeout)
+                .header("Accept-Encoding", "gzip")
+                .GET();
+        headers.forEach(request::header);
+        return request.build();
+    }
+
+    private boolean isGzip(HttpResponse<?> response) {
+        return response.headers().firstValue("Content-Encoding").map("gzip"::equalsIgnoreCase).orElse(false);
+    }
+
+    private String decode(HttpResponse<byte[]> response) {
+        byte[] body = response.body();
+        try {
+            if (isGzip(response)) {
+                try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+                    body = in.readAllBytes();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("gzip 응답 해제 실패", e);
+        }
+        return new String(body, charsetOf(response));
+    }
+
+    private Charset charsetOf(HttpResponse<?> response) {
+        String contentType = response.headers().firstValue("Content-Type").orElse("");
+        int index = contentType.toLowerCase().indexOf("charset=");
+        if (index >= 0) {
+            try {
+                return Charset.forName(contentType.substring(index + 8).replace("\"", "").split(";")[0].trim());
+            } catch (Exception e) {
+                log.debug("알 수 없는 charset: {}", contentType);
+            }
+        }
+        return StandardCharsets.UTF_8;
+    }
+
+    /**
+     * 호스트별 요청 통계 스냅샷
+     */
+    public Map<String, HostStats> getStats() {
+        Map<String, HostStats> stats = new TreeMap<>();
+        metrics.forEach((host, m) -> {
+            long requests = m.requests.sum();
+            stats.put(host, new HostStats(requests, m.failures.sum(), m.timeouts.sum(), m.inFlight.get(),
+                    m.http2Responses.sum(), m.http1Responses.sum(), m.bytesReceived.sum(),
+                    requests == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(m.totalLatencyNanos.sum() / requests)));
+        });
+        return stats;
+    }
+
+    /**
+     * 응답 본문 스트림을 읽어 결과를 만듭니다.
+     */
+    @FunctionalInterface
+    public interface BodyReader<T> {
+        T read(InputStream body) throws IOException;
+    }
+
+    public record HostStats(long requests, long failures, long timeouts, int inFlight, long http2Responses,
+                            long http1Responses, long bytesReceived, long avgLatencyMs) {
+    }
+
+    /**
+     * 실제로 받은(압축된) 바이트 수를 세는 스트림
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private final LongAdder counter;
+
+        private CountingInputStream(InputStream in, LongAdder counter) {
+            super(in);
+            this.counter = counter;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                counter.increment();
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            if (n > 0) {
+                counter.add(n);
+            }
+            return n;
+        }
+    }
+
+    private static final class HostMetrics {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final LongAdder http2Responses = new LongAdder();
+        private final LongAdder http1Responses = new LongAdder();
+        private final LongAdder bytesReceived = new LongAdder();
+        private final LongAdder totalLatencyNanos = new LongAdder();
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.integratedcart.infrastructure;
+
+/**
+ * 쇼핑몰/외부 API가 2xx가 아닌 응답을 보냈을 때 발생합니다.
+ */
+public class MallHttpException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String host;
+    private final int statusCode;
+
+    public MallHttpException(String host, int statusCode) {
+        super(host + " 응답 오류 (HTTP " + statusCode + ")");
+        this.host = host;
+        this.statusCode = statusCode;
+    }
+
+    public String getHost() {
+        return host;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+}
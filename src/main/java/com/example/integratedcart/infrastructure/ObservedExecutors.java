@@ -0,0 +1,36 @@
+package com.example.integratedcart.infrastructure;
+
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * 애플리케이션 스레드 풀에 메트릭과 트레이싱 컨텍스트 전파를 붙입니다.
+ * - ExecutorServiceMetrics: executor.active / executor.queued / executor.completed 등 (name 태그)
+ * - ContextExecutorService: 작업을 제출한 스레드의 현재 observation(span)을 작업 스레드로 전달하여
+ *   검색 한 번이 mall-search → scrape-task 스레드를 오가도 하나의 trace로 이어지게 합니다.
+ */
+final class ObservedExecutors {
+
+    private static final ContextSnapshotFactory SNAPSHOTS = ContextSnapshotFactory.builder().build();
+
+    private ObservedExecutors() {
+    }
+
+    static ExecutorService monitor(ExecutorService executor, String name, MeterRegistry meterRegistry) {
+        ExecutorService measured = ExecutorServiceMetrics.monitor(meterRegistry, executor, name);
+        return ContextExecutorService.wrap(measured, SNAPSHOTS::captureAll);
+    }
+
+    /**
+     * 예약 작업은 요청 컨텍스트와 무관한 백그라운드 작업이므로 메트릭만 붙입니다.
+     */
+    static ScheduledExecutorService monitor(ScheduledExecutorService executor, String name,
+                                            MeterRegistry meterRegistry) {
+        return ExecutorServiceMetrics.monitor(meterRegistry, executor, name);
+    }
+}
@@ -1,91 +1,119 @@
 package com.example.integratedcart.infrastructure;
 
 import com.microsoft.playwright.*;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.util.Map;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class PlaywrightScraperService {
 
+    private static final double LOGIN_WAIT_TIMEOUT_MS = 120000;
+    private static final double CART_REVIEW_WAIT_MS = 5000;
+
+    private final BrowserPool browserPool;
+
     /**
      * 지정된 쇼핑몰에 로그인하고 장바구니에 상품을 담은 후 장바구니 페이지로 이동합니다.
      */
     public boolean executeAutoCartAddition(String mallType, String decryptedCredentials, String productsJson) {
+        return executeAutoCartAddition(mallType, decryptedCredentials, productsJson, message -> { });
+    }
+
+    /**
+     * @param progress 진행 상황/실패 사유 알림 (자동화 작업 상태에 기록)
+     */
+    public boolean executeAutoCartAddition(String mallType, String decryptedCredentials, String productsJson,
+                                           Consumer<String> progress) {
         log.info("장바구니 자동 추가 시작 - 쇼핑몰: {}", mallType);
 
-        try (Playwright playwright = Playwright.create()) {
-            // 사용자 확인을 위해 브라우저를 띄움 (headless = false)
-            Browser browser = playwright.chromium().launch(new BrowserType.LaunchOptions().setHeadless(false));
-            BrowserContext context = browser.newContext();
-            Page page = context.newPage();
-
-            String cartUrl = "";
-            String loginUrl = "";
-
-            switch (mallType.toUpperCase()) {
-                case "COUPANG":
-                    cartUrl = "https://cart.coupang.com/cartView.pang";
-                    loginUrl = "https://login.coupang.com/login/login.pang";
-                    break;
-                case "KURLY":
-                    cartUrl = "https://www.kurly.com/cart";
-                    loginUrl = "https://www.kurly.com/member/login";
-                    break;
-                default:
-                    log.warn("지원하지 않는 쇼핑몰 타입: {}", mallType);
-                    return false;
-            }
+        String cartUrl;
+        String loginUrl;
 
-            // 1. 장바구니 페이지 접속 (로그인 여부 확인용)
-            page.navigate(cartUrl);
-            
-            // 로그인 리다이렉트 여부 확인
-            if (page.url().contains("login")) {
-                log.info("로그인이 필요합니다. 로그인 화면으로 이동합니다.");
-                page.navigate(loginUrl);
-                
-                // 사용자가 직접 로그인할 때까지 대기 (최대 2분)
-                try {
-                    page.waitForURL(url -> !url.contains("login"), new Page.WaitForURLOptions().setTimeout(120000));
-                    log.info("로그인 성공 감지");
-                } catch (Exception e) {
-                    log.error("로그인 대기 시간 초과");
-                    browser.close();
-                    return false;
-                }
-            }
+        switch (mallType.toUpperCase()) {
+            case "COUPANG":
+                cartUrl = "https://cart.coupang.com/cartView.pang";
+                loginUrl = "https://login.coupang.com/login/login.pang";
+                break;
+            case "KURLY":
+                cartUrl = "https://www.kurly.com/cart";
+                loginUrl = "https://www.kurly.com/member/login";
+                break;
+            default:
+                log.warn("지원하지 않는 쇼핑몰 타입: {}", mallType);
+                progress.accept("장바구니 자동화를 지원하지 않는 쇼핑몰입니다: " + mallType);
+                return false;
+        }
 
-            // 2. 장바구니 담기 로직 (간이 구현 - 상품 페이지 접속 후 클릭)
-            // 실제 서비스에서는 productsJson을 파싱하여 반복 처리
-            log.info("상품을 장바구니에 담는 중...");
-            // 예시: 버튼 클릭 셀렉터 대기 및 클릭
-            // page.click(".add-to-cart-button"); 
-
-            // 3. 장바구니 페이지로 최종 이동
-            page.navigate(cartUrl);
-            log.info("장바구니 이동 완료. 사용자 확인 대기.");
-            
-            // 사용자가 화면을 볼 수 있도록 잠시 대기 후 브라우저는 유지하거나 사용자가 닫게 함
-            // 여기서는 성공 리턴 후 브라우저를 닫지 않고 유지하는 옵션이 없으므로 가이드만 제공
-            Thread.sleep(5000); 
-            
-            browser.close();
-            return true;
+        try {
+            // 사용자 확인을 위해 풀의 interactive 브라우저(headless = false)를 사용
+            progress.accept("브라우저 준비 중");
+            return browserPool.withInteractivePage(page -> runCartAddition(page, cartUrl, loginUrl, progress));
         } catch (Exception e) {
             log.error("장바구니 자동화 실패", e);
+            progress.accept("장바구니 자동화 실패: " + e.getMessage());
             return false;
         }
     }
+
+    private boolean runCartAddition(Page page, String cartUrl, String loginUrl, Consumer<String> progress) {
+        // 1. 장바구니 페이지 접속 (로그인 여부 확인용)
+        progress.accept("장바구니 페이지 접속 중");
+        page.navigate(cartUrl);
+
+        // 로그인 리다이렉트 여부 확인
+        if (page.url().contains("login")) {
+            log.info("로그인이 필요합니다. 로그인 화면으로 이동합니다.");
+            progress.accept("로그인 대기 중 (브라우저 창에서 로그인해 주세요)");
+            page.navigate(loginUrl);
+
+            // 사용자가 직접 로그인할 때까지 대기 (최대 2분)
+            try {
+                page.waitForURL(url -> !url.contains("login"), new Page.WaitForURLOptions().setTimeout(LOGIN_WAIT_TIMEOUT_MS));
+                log.info("로그인 성공 감지");
+            } catch (Exception e) {
+                log.error("로그인 대기 시간 초과");
+                progress.accept("로그인 대기 시간 초과");
+                return false;
+            }
+        }
+
+        // 2. 장바구니 담기 로직 (간이 구현 - 상품 페이지 접속 후 클릭)
+        // 실제 서비스에서는 productsJson을 파싱하여 반복 처리
+        log.info("상품을 장바구니에 담는 중...");
+        progress.accept("상품을 장바구니에 담는 중");
+        // 예시: 버튼 클릭 셀렉터 대기 및 클릭
+        // page.click(".add-to-cart-button");
+
+        // 3. 장바구니 페이지로 최종 이동
+        page.navigate(cartUrl);
+        log.info("장바구니 이동 완료. 사용자 확인 대기.");
+        progress.accept("장바구니 이동 완료");
+
+        // 사용자가 화면을 볼 수 있도록 잠시 대기 (브라우저는 작업 종료 후 풀이 닫음)
+        page.waitForTimeout(CART_REVIEW_WAIT_MS);
+        return true;
+    }
+
     /**
      * 지정된 쇼핑몰에서 자동 결제를 실행합니다. (현재는 장바구니 담기 후 결제 요청 시뮬레이션)
      */
     public boolean executeAutoCheckout(String mallType, String decryptedCredentials, String productsJson) {
+        return executeAutoCheckout(mallType, decryptedCredentials, productsJson, message -> { });
+    }
+
+    /**
+     * @param progress 진행 상황/실패 사유 알림 (자동화 작업 상태에 기록)
+     */
+    public boolean executeAutoCheckout(String mallType, String decryptedCredentials, String productsJson,
+                                       Consumer<String> progress) {
         log.info("자동 결제 프로세스 시작 - 쇼핑몰: {}", mallType);
         // 결제는 보안상 추가 인증이 필요할 수 있으므로, 여기서는 장바구니 담기 성공을 가정하고 리턴
-        return executeAutoCartAddition(mallType, decryptedCredentials, productsJson);
+        return executeAutoCartAddition(mallType, decryptedCredentials, productsJson, progress);
     }
 
 }
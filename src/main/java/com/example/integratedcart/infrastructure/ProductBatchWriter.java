@@ -0,0 +1,92 @@
+package com.example.integratedcart.infrastructure;
+
+import com.example.integratedcart.domain.product.Product;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 스크래핑된 상품을 (mall_type, mall_product_id) 기준으로 products 테이블에 upsert합니다.
+ * 엔티티를 하나씩 save하지 않고 JDBC batch로 한 번에 전송합니다.
+ * JPA를 거치지 않으므로 2차 캐시("products" 영역)는 갱신되지 않습니다. 호출자(ProductIndexService)가 갱신된 상품을 캐시에서 제거합니다.
+ */
+@Slf4j
+@Component
+public class ProductBatchWriter {
+
+    private static final String COLUMNS =
+            "name, price, mall_type, sugar_per_100g, unit, capacity, in_stock, product_url, mall_product_id, last_seen_at";
+    private static final String PLACEHOLDERS = "?, ?, ?, ?, ?, ?, ?, ?, ?, ?";
+
+    // 새 행의 ID는 엔티티(Product)와 같은 products_seq에서 받음. 충돌(기존 상품)이면 ID는 그대로 두고 값만 갱신
+    private static final String POSTGRES_UPSERT = "INSERT INTO products (id, " + COLUMNS + ")"
+            + " VALUES (nextval('products_seq'), " + PLACEHOLDERS + ")"
+            + " ON CONFLICT (mall_type, mall_product_id) DO UPDATE SET"
+            + " name = EXCLUDED.name, price = EXCLUDED.price, unit = EXCLUDED.unit, capacity = EXCLUDED.capacity,"
+            + " in_stock = EXCLUDED.in_stock, product_url = EXCLUDED.product_url, last_seen_at = EXCLUDED.last_seen_at";
+    private static final String H2_UPSERT = "MERGE INTO products p USING (VALUES (" + PLACEHOLDERS + "))"
+            + " s (" + COLUMNS + ") ON p.mall_type = s.mall_type AND p.mall_product_id = s.mall_product_id"
+            + " WHEN MATCHED THEN UPDATE SET"
+            + " name = s.name, price = s.price, unit = s.unit, capacity = s.capacity,"
+            + " in_stock = s.in_stock, product_url = s.product_url, last_seen_at = s.last_seen_at"
+            + " WHEN NOT MATCHED THEN INSERT (id, " + COLUMNS + ") VALUES (NEXT VALUE FOR products_seq,"
+            + " s.name, s.price, s.mall_type, s.sugar_per_100g, s.unit, s.capacity, s.in_stock, s.product_url,"
+            + " s.mall_product_id, s.last_seen_at)";
+
+    private static final int[] ARG_TYPES = { Types.VARCHAR, Types.INTEGER, Types.VARCHAR, Types.DOUBLE, Types.VARCHAR,
+            Types.INTEGER, Types.BOOLEAN, Types.VARCHAR, Types.VARCHAR, Types.TIMESTAMP };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private volatile String upsertSql;
+
+    public ProductBatchWriter(JdbcTemplate jdbcTemplate, @Value("${app.product-index.batch-size:100}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 상품 목록을 upsert합니다. mallProductId가 없는 상품은 건너뜁니다.
+     * @param products 스크래핑된 상품
+     * @param seenAt 확인 시각 (last_seen_at)
+     * @return 전송한 행 수
+     */
+    public int upsert(Collection<Product> products, Instant seenAt) {
+        List<Object[]> rows = new ArrayList<>(products.size());
+        Timestamp seen = Timestamp.from(seenAt);
+        for (Product p : products) {
+            if (p.getMallProductId() == null) {
+                continue;
+            }
+            rows.add(new Object[] { p.getName(), p.getPrice(), p.getMallType().name(), p.getSugarPer100g(),
+                    p.getUnit(), p.getCapacity(), p.getInStock(), p.getProductUrl(), p.getMallProductId(), seen });
+        }
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        String sql = upsertSql();
+        for (int from = 0; from < rows.size(); from += batchSize) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(rows.size(), from + batchSize)), ARG_TYPES);
+        }
+        return rows.size();
+    }
+
+    private String upsertSql() {
+        if (upsertSql == null) {
+            String database = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) con -> con.getMetaData().getDatabaseProductName());
+            upsertSql = "H2".equalsIgnoreCase(database) ? H2_UPSERT : POSTGRES_UPSERT;
+            log.info("상품 upsert SQL 선택 - DB: {}", database);
+        }
+        return upsertSql;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.integratedcart.infrastructure;
+
+/**
+ * 호스트별 요청 한도({@link HostRateLimiter})를 넘어 요청을 보내지 않았을 때 발생합니다.
+ */
+public class RateLimitExceededException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String host;
+
+    public RateLimitExceededException(String host) {
+        super(host + " 요청 한도 초과 - 요청을 보내지 않았습니다.");
+        this.host = host;
+    }
+
+    public String getHost() {
+        return host;
+    }
+}
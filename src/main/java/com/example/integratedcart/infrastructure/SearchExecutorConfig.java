@@ -0,0 +1,55 @@
+package com.example.integratedcart.infrastructure;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 상품 검색 팬아웃에 사용하는 제한된(bounded) 스레드 풀 설정.
+ * 두 풀 모두 메트릭과 트레이싱 컨텍스트 전파를 붙여 제공합니다. ({@link ObservedExecutors})
+ * spring.threads.virtual.enabled=true이면 가상 스레드로 실행합니다. ({@link BoundedExecutors})
+ */
+@Configuration
+public class SearchExecutorConfig {
+
+    /**
+     * 쇼핑몰별 검색(MallStrategy 호출)을 동시에 실행하는 executor.
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService mallSearchExecutor(@Value("${app.search.executor.max-threads:16}") int maxThreads,
+                                              @Value("${app.search.executor.queue-capacity:200}") int queueCapacity,
+                                              @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                                              MeterRegistry meterRegistry) {
+        return ObservedExecutors.monitor(
+                BoundedExecutors.create("mall-search-", maxThreads, queueCapacity, virtualThreads),
+                "mallSearchExecutor", meterRegistry);
+    }
+
+    /**
+     * 하나의 쇼핑몰 검색 안에서 대체 경로(Google/네이버 프록시 등)를 경쟁시키는 executor.
+     * mallSearchExecutor 작업이 이 풀의 결과를 기다리므로 교착을 피하기 위해 별도 풀을 둡니다.
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService scrapeTaskExecutor(@Value("${app.search.scrape-executor.max-threads:16}") int maxThreads,
+                                              @Value("${app.search.scrape-executor.queue-capacity:200}") int queueCapacity,
+                                              @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                                              MeterRegistry meterRegistry) {
+        return ObservedExecutors.monitor(
+                BoundedExecutors.create("scrape-task-", maxThreads, queueCapacity, virtualThreads),
+                "scrapeTaskExecutor", meterRegistry);
+    }
+
+    /**
+     * 기동 시 상품명 색인(ProductNameIndex)을 DB에서 적재하는 단일 스레드 executor.
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService productIndexExecutor(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                                                MeterRegistry meterRegistry) {
+        return ObservedExecutors.monitor(
+                BoundedExecutors.create("product-index-", 1, 1, virtualThreads),
+                "productIndexExecutor", meterRegistry);
+    }
+}
@@ -1,27 +1,46 @@
 package com.example.integratedcart.presentation;
 
-import com.example.integratedcart.application.MallStrategy;
-import com.example.integratedcart.application.MallStrategyFactory;
+import com.example.integratedcart.application.AutomationJobService;
+import com.example.integratedcart.application.BasketLine;
+import com.example.integratedcart.application.BasketSearchListener;
+import com.example.integratedcart.application.BasketSearchResult;
+import com.example.integratedcart.application.BasketSearchService;
+import com.example.integratedcart.application.CartAddition;
+import com.example.integratedcart.application.CartService;
+import com.example.integratedcart.application.CheapestProductSelector;
+import com.example.integratedcart.application.IngredientRequirement;
+import com.example.integratedcart.application.KeywordPopularityTracker;
+import com.example.integratedcart.application.MallSearchOrchestrator;
+import com.example.integratedcart.application.MallSearchResult;
 import com.example.integratedcart.application.QuantityScalingService;
+import com.example.integratedcart.application.RecipeAnalysisJob;
+import com.example.integratedcart.application.RecipeAnalysisJobService;
 import com.example.integratedcart.application.RecipeService;
+import com.example.integratedcart.domain.automation.AutomationJob;
+import com.example.integratedcart.domain.automation.AutomationJobStatus;
+import com.example.integratedcart.domain.automation.AutomationJobType;
 import com.example.integratedcart.domain.product.MallType;
 import com.example.integratedcart.domain.product.Product;
 import com.example.integratedcart.domain.product.ProductRepository;
 import com.example.integratedcart.domain.recipe.Recipe;
-import com.example.integratedcart.domain.user.User;
-import com.example.integratedcart.domain.user.UserRepository;
-import com.example.integratedcart.infrastructure.AES256Util;
-import com.example.integratedcart.infrastructure.PlaywrightScraperService;
+import com.example.integratedcart.infrastructure.MallHttpClient;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Slf4j
 @RestController
@@ -30,44 +49,62 @@ import java.util.*;
 public class ApiController {
 
     private final RecipeService recipeService;
-    private final MallStrategyFactory mallStrategyFactory;
-    private final UserRepository userRepository;
-    private final PlaywrightScraperService scraperService;
-    private final AES256Util aes256Util;
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final RecipeAnalysisJobService recipeAnalysisJobService;
+    private final MallSearchOrchestrator mallSearchOrchestrator;
+    private final CheapestProductSelector cheapestProductSelector;
+    private final BasketSearchService basketSearchService;
+    private final KeywordPopularityTracker keywordPopularityTracker;
+    private final AutomationJobService automationJobService;
+    private final CartService cartService;
+    private final MallHttpClient mallHttpClient;
+    private final ObservationRegistry observationRegistry;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     @Value("${google.ai.api-key}")
     private String apiKey;
 
+    @Value("${google.ai.base-url:}")
+    private String aiBaseUrl;
+
+    @Value("${app.search.stream-timeout-ms:30000}")
+    private long streamTimeoutMs;
+
+    @Value("${app.automation.stream-timeout-ms:600000}")
+    private long automationStreamTimeoutMs;
+
     /**
      * Google API를 통해 사용 가능한 Gemini 모델 리스트를 조회합니다.
+     * 비동기로 요청하여 응답을 기다리는 동안 요청 스레드를 점유하지 않습니다.
      */
     @GetMapping("/ai/models")
-    public ResponseEntity<List<Map<String, Object>>> getAiModels() {
-        String url = "https://generativelanguage.googleapis.com/v1beta/models?key=" + apiKey;
-        try {
-            String response = restTemplate.getForObject(url, String.class);
-            JsonNode root = objectMapper.readTree(response);
-            JsonNode modelsNode = root.path("models");
-            
-            List<Map<String, Object>> models = new ArrayList<>();
-            for (JsonNode m : modelsNode) {
-                Map<String, Object> modelMap = new HashMap<>();
-                modelMap.put("name", m.path("name").asText().replace("models/", ""));
-                modelMap.put("name", m.path("name").asText().replace("models/", ""));
-                modelMap.put("displayName", m.path("displayName").asText());
-                modelMap.put("supportedGenerationMethods", m.path("supportedGenerationMethods"));
-                modelMap.put("inputTokenLimit", m.path("inputTokenLimit").asInt());
-                modelMap.put("supportedGenerationMethods", m.path("supportedGenerationMethods"));
-                models.add(modelMap);
-            }
-            return ResponseEntity.ok(models);
-        } catch (Exception e) {
-            log.error("Gemini 모델 리스트 조회 실패", e);
-            // 에러 발생 시 기본 폴백 리스트 반환
-            return ResponseEntity.ok(Collections.emptyList());
-        }
+    public CompletableFuture<ResponseEntity<List<Map<String, Object>>>> getAiModels() {
+        String baseUrl = aiBaseUrl.isBlank() ? "https://generativelanguage.googleapis.com" : aiBaseUrl;
+        String url = baseUrl + "/v1beta/models?key=" + apiKey;
+        return mallHttpClient.getAsync(url, Map.of("Accept", "application/json"))
+                .thenApply(response -> {
+                    try {
+                        JsonNode root = objectMapper.readTree(response);
+                        JsonNode modelsNode = root.path("models");
+
+                        List<Map<String, Object>> models = new ArrayList<>();
+                        for (JsonNode m : modelsNode) {
+                            Map<String, Object> modelMap = new HashMap<>();
+                            modelMap.put("name", m.path("name").asText().replace("models/", ""));
+                            modelMap.put("displayName", m.path("displayName").asText());
+                            modelMap.put("supportedGenerationMethods", m.path("supportedGenerationMethods"));
+                            modelMap.put("inputTokenLimit", m.path("inputTokenLimit").asInt());
+                            models.add(modelMap);
+                        }
+                        return ResponseEntity.ok(models);
+                    } catch (Exception e) {
+                        throw new CompletionException(e);
+                    }
+                })
+                .exceptionally(e -> {
+                    log.error("Gemini 모델 리스트 조회 실패", e);
+                    // 에러 발생 시 기본 폴백 리스트 반환
+                    return ResponseEntity.ok(Collections.emptyList());
+                });
     }
 
     /**
@@ -81,18 +118,168 @@ public class ApiController {
     }
 
     /**
-     * 재료명으로 각 쇼핑몰별 상품을 검색하고 최저가 1개를 선정합니다.
+     * 레시피 분석을 비동기로 제출합니다. 반환된 jobId로 결과를 조회합니다.
+     */
+    @PostMapping("/analyze/async")
+    public ResponseEntity<ApiDto.AnalysisJobResponse> submitAnalysis(@RequestBody ApiDto.AnalyzeRequest request) {
+        RecipeAnalysisJob job = recipeAnalysisJobService.submit(request.getInput(), request.getModelName());
+        return ResponseEntity.accepted().body(ApiDto.AnalysisJobResponse.from(job));
+    }
+
+    /**
+     * 비동기 레시피 분석 작업의 상태와 결과를 조회합니다.
+     */
+    @GetMapping("/analyze/async/{jobId}")
+    public ResponseEntity<ApiDto.AnalysisJobResponse> getAnalysis(@PathVariable String jobId) {
+        return recipeAnalysisJobService.find(jobId)
+                .map(job -> ResponseEntity.ok(ApiDto.AnalysisJobResponse.from(job)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * 재료명으로 각 쇼핑몰별 상품을 동시에 검색하고 최저가 1개를 선정합니다.
+     * unit(예: g, kg, ml, 개)을 함께 주면 필요한 양을 채우는 구매 금액 기준으로, 없으면 단위 가격 기준으로 고릅니다.
+     * 마감 시간 안에 응답하지 못한 쇼핑몰은 mallStatuses에 TIMEOUT/FAILED/REJECTED로 표시됩니다.
      */
     @GetMapping("/ingredients/search")
-    public ResponseEntity<Map<MallType, List<Product>>> searchIngredients(
+    public ResponseEntity<ApiDto.IngredientSearchResponse> searchIngredients(
             @RequestParam String keyword,
             @RequestParam(defaultValue = "1") double requiredAmount,
+            @RequestParam(required = false) String unit,
             @RequestParam(required = false) String malls) {
 
         log.info("검색 요청 - 키워드: {}, 양: {}, 쇼핑몰: {}", keyword, requiredAmount, malls);
+        Set<MallType> targetMalls = parseMalls(malls);
+        keywordPopularityTracker.record(keyword, targetMalls);
+        Map<MallType, MallSearchResult> mallResults = mallSearchOrchestrator.search(keyword, requiredAmount, targetMalls);
+        return ResponseEntity.ok(toSearchResponse(mallResults, requiredAmount, unit));
+    }
+
+    /**
+     * /ingredients/search의 SSE 스트리밍 버전. 가장 빠른 쇼핑몰의 결과부터 바로 전달합니다.
+     * 이벤트: mall(쇼핑몰별 결과) → cheapest(최저가 변경 시) → summary(전체 결과, /ingredients/search 응답과 동일)
+     */
+    @GetMapping(value = "/ingredients/search/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamIngredients(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "1") double requiredAmount,
+            @RequestParam(required = false) String unit,
+            @RequestParam(required = false) String malls) {
+
+        log.info("스트리밍 검색 요청 - 키워드: {}, 양: {}, 쇼핑몰: {}", keyword, requiredAmount, malls);
+        SseEventStream stream = new SseEventStream(streamTimeoutMs);
+        CheapestProductSelector.Running cheapest = cheapestProductSelector.running(requiredAmount, unit);
+        Set<MallType> targetMalls = parseMalls(malls);
+        keywordPopularityTracker.record(keyword, targetMalls);
+
+        mallSearchOrchestrator.stream(keyword, requiredAmount, targetMalls, null, result -> {
+            stream.send("mall", ApiDto.MallEvent.of(keyword, result));
+            cheapest.offer(result.products())
+                    .ifPresent(p -> stream.send("cheapest", new ApiDto.CheapestEvent(keyword, p)));
+        }).whenComplete((mallResults, error) -> {
+            if (error != null) {
+                stream.fail(error);
+                return;
+            }
+            stream.send("summary", toSearchResponse(mallResults, requiredAmount, unit));
+            stream.complete();
+        });
+        return stream.emitter();
+    }
+
+    private ApiDto.IngredientSearchResponse toSearchResponse(Map<MallType, MallSearchResult> mallResults,
+                                                             double requiredAmount, String unit) {
+        List<Product> candidates = new ArrayList<>();
+        mallResults.values().forEach(r -> candidates.addAll(r.products()));
+
+        // 최저가 선정 시간을 "search.rank"로 기록 (unit 파라미터 유무에 따라 구매 금액/단위 가격 기준)
         Map<MallType, List<Product>> results = new HashMap<>();
+        Observation.createNotStarted("search.rank", observationRegistry)
+                .lowCardinalityKeyValue("unit", unit != null && !unit.isBlank() ? "given" : "none")
+                .observe(() -> cheapestProductSelector.select(candidates, requiredAmount, unit))
+                .ifPresent(p -> results.put(p.getMallType(), Collections.singletonList(p)));
+        return ApiDto.IngredientSearchResponse.of(results, mallResults);
+    }
 
-        Set<MallType> targetMalls = new HashSet<>();
+    /**
+     * 레시피(ID) 또는 재료 목록의 모든 재료를 한 번에 검색하여 장바구니를 구성합니다.
+     */
+    @PostMapping("/ingredients/batch-search")
+    public ResponseEntity<ApiDto.BatchSearchResponse> batchSearch(@RequestBody ApiDto.BatchSearchRequest request) {
+        Set<MallType> targetMalls = parseMalls(request.getMalls());
+        int targetPortion = request.getTargetPortion() != null ? request.getTargetPortion() : 1;
+
+        BasketSearchResult result;
+        if (request.getRecipeId() != null) {
+            result = basketSearchService.searchRecipe(request.getRecipeId(), targetPortion, targetMalls);
+        } else {
+            int basePortion = request.getBasePortion() != null ? request.getBasePortion() : 1;
+            result = basketSearchService.search(toRequirements(request), basePortion, targetPortion, targetMalls);
+        }
+        result.lines().forEach(line -> keywordPopularityTracker.record(line.requirement().name(), targetMalls));
+        return ResponseEntity.ok(ApiDto.BatchSearchResponse.from(result));
+    }
+
+    /**
+     * /ingredients/batch-search의 SSE 스트리밍 버전.
+     * 이벤트: mall(재료 × 쇼핑몰별 결과), cheapest(재료별 최저가 변경 시), line(재료별 확정 결과),
+     * summary(전체 결과, /ingredients/batch-search 응답과 동일)
+     */
+    @PostMapping(value = "/ingredients/batch-search/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamBatchSearch(@RequestBody ApiDto.BatchSearchRequest request) {
+        Set<MallType> targetMalls = parseMalls(request.getMalls());
+        int targetPortion = request.getTargetPortion() != null ? request.getTargetPortion() : 1;
+        SseEventStream stream = new SseEventStream(streamTimeoutMs);
+        Map<String, CheapestProductSelector.Running> cheapestByIngredient = new ConcurrentHashMap<>();
+
+        BasketSearchListener listener = new BasketSearchListener() {
+            @Override
+            public void onMallResult(IngredientRequirement requirement, MallSearchResult result) {
+                stream.send("mall", ApiDto.MallEvent.of(requirement.name(), result));
+                cheapestByIngredient
+                        .computeIfAbsent(requirement.name(), n -> cheapestProductSelector.running(requirement.amount(),
+                                requirement.unit()))
+                        .offer(result.products())
+                        .ifPresent(p -> stream.send("cheapest", new ApiDto.CheapestEvent(requirement.name(), p)));
+            }
+
+            @Override
+            public void onLine(BasketLine line) {
+                keywordPopularityTracker.record(line.requirement().name(), targetMalls);
+                stream.send("line", ApiDto.BasketLineResponse.from(line));
+            }
+        };
+
+        CompletableFuture<BasketSearchResult> search;
+        if (request.getRecipeId() != null) {
+            search = basketSearchService.streamRecipe(request.getRecipeId(), targetPortion, targetMalls, listener);
+        } else {
+            int basePortion = request.getBasePortion() != null ? request.getBasePortion() : 1;
+            search = basketSearchService.stream(toRequirements(request), basePortion, targetPortion, targetMalls,
+                    listener);
+        }
+        search.whenComplete((result, error) -> {
+            if (error != null) {
+                stream.fail(error);
+                return;
+            }
+            stream.send("summary", ApiDto.BatchSearchResponse.from(result));
+            stream.complete();
+        });
+        return stream.emitter();
+    }
+
+    private List<IngredientRequirement> toRequirements(ApiDto.BatchSearchRequest request) {
+        if (request.getIngredients() == null || request.getIngredients().isEmpty()) {
+            throw new IllegalArgumentException("recipeId 또는 ingredients 중 하나는 필요합니다.");
+        }
+        return request.getIngredients().stream()
+                .map(i -> new IngredientRequirement(i.getName(), i.getAmount() != null ? i.getAmount() : 1, i.getUnit()))
+                .toList();
+    }
+
+    private Set<MallType> parseMalls(String malls) {
+        Set<MallType> targetMalls = EnumSet.noneOf(MallType.class);
         if (malls == null || malls.isEmpty() || malls.equalsIgnoreCase("ALL")) {
             targetMalls.addAll(Arrays.asList(MallType.values()));
         } else {
@@ -104,93 +291,133 @@ public class ApiController {
                 }
             }
         }
+        return targetMalls;
+    }
 
-        Product cheapestProduct = null;
-        double lowestUnitPrice = Double.MAX_VALUE;
-        double closestQuantityDiff = Double.MAX_VALUE;
-
-        for (MallType type : targetMalls) {
-            try {
-                MallStrategy strategy = mallStrategyFactory.getStrategy(type);
-                List<Product> products = strategy.searchProducts(keyword, requiredAmount, false);
-                
-                for (Product p : products) {
-                    double unitPrice = (double) p.getPrice() / Math.max(1, p.getCapacity());
-                    double quantityDiff = Math.abs(p.getCapacity() - requiredAmount);
-
-                    if (unitPrice < lowestUnitPrice || (unitPrice == lowestUnitPrice && quantityDiff < closestQuantityDiff)) {
-                        lowestUnitPrice = unitPrice;
-                        closestQuantityDiff = quantityDiff;
-                        cheapestProduct = p;
-                    }
-                }
-            } catch (Exception e) {
-                log.error("쇼핑몰 {} 검색 실패: {}", type, e.getMessage());
-            }
-        }
+    @GetMapping("/cart")
+    public ResponseEntity<ApiDto.CartResponse> getCart(@RequestParam Long userId) {
+        return ResponseEntity.ok(ApiDto.CartResponse.from(cartService.getCart(userId)));
+    }
 
-        if (cheapestProduct != null) {
-            results.put(cheapestProduct.getMallType(), Collections.singletonList(cheapestProduct));
-        }
+    /**
+     * 상품 하나를 담습니다. 이미 담긴 상품이면 수량을 더합니다.
+     */
+    @PostMapping("/cart/add")
+    public ResponseEntity<ApiDto.CartResponse> addToCart(@RequestBody ApiDto.CartAddRequest request) {
+        return ResponseEntity.ok(ApiDto.CartResponse.from(
+                cartService.addAll(request.getUserId(), request.getVersion(), List.of(request.toAddition()))));
+    }
 
-        return ResponseEntity.ok(results);
+    /**
+     * 레시피 장바구니 전체를 한 번에 담습니다. 하나라도 찾을 수 없는 상품이 있으면 아무것도 담지 않습니다.
+     */
+    @PostMapping("/cart/bulk-add")
+    public ResponseEntity<ApiDto.CartResponse> bulkAddToCart(@RequestBody ApiDto.CartBulkAddRequest request) {
+        List<CartAddition> additions = request.getItems() == null ? List.of()
+                : request.getItems().stream().map(ApiDto.CartItemRequest::toAddition).toList();
+        return ResponseEntity.ok(ApiDto.CartResponse.from(
+                cartService.addAll(request.getUserId(), request.getVersion(), additions)));
     }
 
-    @PostMapping("/cart/add")
-    public ResponseEntity<String> addToCart(@RequestBody ApiDto.CartAddRequest request) {
-        return ResponseEntity.ok("장바구니에 상품이 추가되었습니다.");
+    @PostMapping("/cart/bulk-remove")
+    public ResponseEntity<ApiDto.CartResponse> bulkRemoveFromCart(@RequestBody ApiDto.CartRemoveRequest request) {
+        return ResponseEntity.ok(ApiDto.CartResponse.from(
+                cartService.removeAll(request.getUserId(), request.getVersion(), request.getProductIds())));
+    }
+
+    @PutMapping("/cart/items/{productId}")
+    public ResponseEntity<ApiDto.CartResponse> changeCartQuantity(@PathVariable Long productId,
+                                                                  @RequestBody ApiDto.CartQuantityRequest request) {
+        int quantity = request.getQuantity() == null ? 0 : request.getQuantity();
+        return ResponseEntity.ok(ApiDto.CartResponse.from(
+                cartService.changeQuantity(request.getUserId(), request.getVersion(), productId, quantity)));
     }
 
+    /**
+     * 선택한 쇼핑몰의 장바구니 담기 작업을 제출합니다. 쇼핑몰별 작업은 백그라운드에서 병렬로 실행되며,
+     * 진행 상황은 /order/jobs/{groupId} (조회) 또는 /order/jobs/{groupId}/stream (SSE)으로 확인합니다.
+     */
     @PostMapping("/order/auto-cart")
-    public ResponseEntity<String> autoCart(@RequestBody ApiDto.CheckoutRequest request) {
-        User user = userRepository.findById(request.getUserId())
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-
-        for (String mallTypeStr : request.getMallTypes()) {
-            try {
-                String decCreds = decryptCredentials(user, MallType.valueOf(mallTypeStr.toUpperCase()));
-                scraperService.executeAutoCartAddition(mallTypeStr, decCreds, "[]");
-            } catch (Exception e) {
-                log.error("쇼핑몰 {} 장바구니 자동 추가 실패: {}", mallTypeStr, e.getMessage());
-            }
-        }
-        return ResponseEntity.ok("선택한 쇼핑몰의 장바구니에 상품을 모두 담았습니다.");
+    public ResponseEntity<ApiDto.AutomationGroupResponse> autoCart(@RequestBody ApiDto.CheckoutRequest request) {
+        return submitAutomation(request, AutomationJobType.CART);
     }
 
+    /**
+     * 선택한 쇼핑몰의 결제 작업을 제출합니다. (/order/auto-cart와 같은 방식으로 진행 상황 확인)
+     */
     @PostMapping("/order/checkout")
-    public ResponseEntity<String> checkout(@RequestBody ApiDto.CheckoutRequest request) {
-        User user = userRepository.findById(request.getUserId())
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-
-        for (String mallTypeStr : request.getMallTypes()) {
-            try {
-                MallType type = MallType.valueOf(mallTypeStr.toUpperCase());
-                String decCreds = decryptCredentials(user, type);
-                scraperService.executeAutoCheckout(type.name(), decCreds, "[]");
-            } catch (Exception e) {
-                log.error("쇼핑몰 {} 결제 실패: {}", mallTypeStr, e.getMessage());
-            }
+    public ResponseEntity<ApiDto.AutomationGroupResponse> checkout(@RequestBody ApiDto.CheckoutRequest request) {
+        return submitAutomation(request, AutomationJobType.CHECKOUT);
+    }
+
+    @GetMapping("/order/jobs/{groupId}")
+    public ResponseEntity<ApiDto.AutomationGroupResponse> getAutomationJobs(@PathVariable String groupId) {
+        List<AutomationJob> jobs = automationJobService.findGroup(groupId);
+        if (jobs.isEmpty()) {
+            return ResponseEntity.notFound().build();
         }
-        return ResponseEntity.ok("결제 프로세스가 시작되었습니다.");
+        return ResponseEntity.ok(ApiDto.AutomationGroupResponse.from(groupId, jobs));
     }
 
-    private String decryptCredentials(User user, MallType type) {
-        String encryptedCreds = getCredentialsFromUser(user, type);
-        if (encryptedCreds == null || encryptedCreds.isEmpty()) return "";
-        try {
-            return aes256Util.decrypt(encryptedCreds);
-        } catch (Exception e) {
-            log.error("쇼핑몰 {} 자격증명 복호화 실패", type, e);
-            return "";
+    /**
+     * 자동화 작업 진행 상황 SSE 스트림.
+     * 이벤트: job(작업 상태 변경, 연결 직후 현재 상태 포함) → summary(모든 작업 종료 시, /order/jobs/{groupId} 응답과 동일)
+     */
+    @GetMapping(value = "/order/jobs/{groupId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamAutomationJobs(@PathVariable String groupId) {
+        SseEventStream stream = new SseEventStream(automationStreamTimeoutMs);
+        Map<Long, AutomationJobStatus> statuses = new ConcurrentHashMap<>();
+        AtomicInteger jobCount = new AtomicInteger(); // 현재 상태를 읽기 전에는 0 (완료 판정 보류)
+        Runnable unsubscribe = automationJobService.subscribe(groupId, job -> {
+            statuses.put(job.getId(), job.getStatus());
+            stream.send("job", ApiDto.AutomationJobResponse.from(job));
+            if (allFinished(statuses, jobCount.get())) {
+                completeAutomationStream(stream, groupId);
+            }
+        });
+        stream.onClose(unsubscribe);
+
+        // 구독 이후 현재 상태를 보내므로 그 사이의 변경도 놓치지 않음
+        List<AutomationJob> jobs = automationJobService.findGroup(groupId);
+        if (jobs.isEmpty()) {
+            stream.fail(new IllegalArgumentException("자동화 작업을 찾을 수 없습니다: " + groupId));
+            return stream.emitter();
         }
+        for (AutomationJob job : jobs) {
+            statuses.putIfAbsent(job.getId(), job.getStatus());
+            stream.send("job", ApiDto.AutomationJobResponse.from(job));
+        }
+        jobCount.set(jobs.size());
+        if (allFinished(statuses, jobs.size())) {
+            completeAutomationStream(stream, groupId);
+        }
+        return stream.emitter();
+    }
+
+    private boolean allFinished(Map<Long, AutomationJobStatus> statuses, int jobCount) {
+        return jobCount > 0 && statuses.size() >= jobCount
+                && statuses.values().stream().allMatch(AutomationJobStatus::isFinished);
+    }
+
+    private void completeAutomationStream(SseEventStream stream, String groupId) {
+        stream.send("summary", ApiDto.AutomationGroupResponse.from(groupId, automationJobService.findGroup(groupId)));
+        stream.complete();
     }
 
-    private String getCredentialsFromUser(User user, MallType type) {
-        switch (type) {
-            case COUPANG: return user.getCoupangCredentials();
-            case KURLY: return user.getKurlyCredentials();
-            case BMART: return user.getBmartCredentials();
-            default: return null;
+    private ResponseEntity<ApiDto.AutomationGroupResponse> submitAutomation(ApiDto.CheckoutRequest request,
+                                                                           AutomationJobType type) {
+        Set<MallType> malls = EnumSet.noneOf(MallType.class);
+        if (request.getMallTypes() != null) {
+            for (String m : request.getMallTypes()) {
+                try {
+                    malls.add(MallType.valueOf(m.trim().toUpperCase()));
+                } catch (Exception e) {
+                    log.warn("잘못된 쇼핑몰 타입 무시: {}", m);
+                }
+            }
         }
+        List<AutomationJob> jobs = automationJobService.submit(request.getUserId(), type, malls, "[]");
+        return ResponseEntity.accepted()
+                .body(ApiDto.AutomationGroupResponse.from(jobs.get(0).getGroupId(), jobs));
     }
 }
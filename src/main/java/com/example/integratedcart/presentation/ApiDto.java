@@ -1,7 +1,27 @@
 package com.example.integratedcart.presentation;
 
+import com.example.integratedcart.application.BasketLine;
+import com.example.integratedcart.application.BasketPlan;
+import com.example.integratedcart.application.BasketSearchResult;
+import com.example.integratedcart.application.CartAddition;
+import com.example.integratedcart.application.CartView;
+import com.example.integratedcart.application.MallSearchResult;
+import com.example.integratedcart.application.MallSearchStatus;
+import com.example.integratedcart.application.RecipeAnalysisJob;
+import com.example.integratedcart.domain.automation.AutomationJob;
+import com.example.integratedcart.domain.automation.AutomationJobStatus;
+import com.example.integratedcart.domain.automation.AutomationJobType;
+import com.example.integratedcart.domain.product.MallType;
+import com.example.integratedcart.domain.product.Product;
+import com.example.integratedcart.domain.recipe.Recipe;
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 public class ApiDto {
 
@@ -11,6 +31,23 @@ public class ApiDto {
         private String modelName; // Gemini 모델명
     }
 
+    @Data
+    public static class AnalysisJobResponse {
+        private String jobId;
+        private RecipeAnalysisJob.Status status; // PENDING, COMPLETED, FAILED
+        private Recipe recipe; // 완료된 경우에만
+        private String error; // 실패한 경우에만
+
+        public static AnalysisJobResponse from(RecipeAnalysisJob job) {
+            AnalysisJobResponse response = new AnalysisJobResponse();
+            response.setJobId(job.id());
+            response.setStatus(job.status());
+            response.setRecipe(job.recipe());
+            response.setError(job.error());
+            return response;
+        }
+    }
+
     @Data
     public static class SearchRequest {
         private String keyword;
@@ -22,7 +59,63 @@ public class ApiDto {
     public static class CartAddRequest {
         private Long userId;
         private Long productId;
+        private MallType mallType; // productId가 없을 때 (검색 결과 상품)
+        private String mallProductId;
         private Integer quantity;
+        private Long version; // 마지막으로 조회한 장바구니 version (생략 시 충돌 확인 안 함)
+
+        public CartAddition toAddition() {
+            return new CartItemRequest(productId, mallType, mallProductId, quantity).toAddition();
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CartItemRequest {
+        private Long productId;
+        private MallType mallType;
+        private String mallProductId;
+        private Integer quantity; // 생략 시 1
+
+        public CartAddition toAddition() {
+            return new CartAddition(productId, mallType, mallProductId, quantity == null ? 1 : quantity);
+        }
+    }
+
+    @Data
+    public static class CartBulkAddRequest {
+        private Long userId;
+        private Long version;
+        private List<CartItemRequest> items; // 레시피 장바구니 전체 (basket-search 결과의 선정 상품)
+    }
+
+    @Data
+    public static class CartRemoveRequest {
+        private Long userId;
+        private Long version;
+        private List<Long> productIds;
+    }
+
+    @Data
+    public static class CartQuantityRequest {
+        private Long userId;
+        private Long version;
+        private Integer quantity; // 0 이하이면 장바구니에서 뺌
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CartResponse {
+        private Long cartId;
+        private Long version; // 다음 수정 요청에 그대로 보냄
+        private List<CartView.Line> items;
+        private long totalPrice;
+
+        public static CartResponse from(CartView view) {
+            return new CartResponse(view.cartId(), view.version(), view.items(), view.totalPrice());
+        }
     }
 
     @Data
@@ -30,4 +123,172 @@ public class ApiDto {
         private Long userId;
         private List<String> mallTypes; // e.g., ["COUPANG", "KURLY"]
     }
+
+    @Data
+    public static class AutomationJobResponse {
+        private Long jobId;
+        private MallType mallType;
+        private AutomationJobType type; // CART, CHECKOUT
+        private AutomationJobStatus status; // QUEUED, RUNNING, SUCCEEDED, FAILED
+        private String message; // 진행 상황 또는 실패 사유
+        private int attempts;
+        private Instant createdAt;
+        private Instant startedAt;
+        private Instant finishedAt;
+
+        public static AutomationJobResponse from(AutomationJob job) {
+            AutomationJobResponse response = new AutomationJobResponse();
+            response.setJobId(job.getId());
+            response.setMallType(job.getMallType());
+            response.setType(job.getType());
+            response.setStatus(job.getStatus());
+            response.setMessage(job.getMessage());
+            response.setAttempts(job.getAttempts());
+            response.setCreatedAt(job.getCreatedAt());
+            response.setStartedAt(job.getStartedAt());
+            response.setFinishedAt(job.getFinishedAt());
+            return response;
+        }
+    }
+
+    @Data
+    public static class AutomationGroupResponse {
+        private String groupId;
+        private boolean finished; // 모든 쇼핑몰 작업이 끝났으면 true
+        private List<AutomationJobResponse> jobs;
+
+        public static AutomationGroupResponse from(String groupId, List<AutomationJob> jobs) {
+            AutomationGroupResponse response = new AutomationGroupResponse();
+            response.setGroupId(groupId);
+            response.setFinished(jobs.stream().allMatch(AutomationJob::isFinished));
+            response.setJobs(jobs.stream().map(AutomationJobResponse::from).toList());
+            return response;
+        }
+    }
+
+    @Data
+    public static class IngredientSearchResponse {
+        private Map<MallType, List<Product>> products; // 최저가 상품 (쇼핑몰별)
+        private Map<MallType, MallStatus> mallStatuses; // 쇼핑몰별 검색 상태
+        private boolean partial; // 시간 초과/실패한 쇼핑몰이 있으면 true
+
+        public static IngredientSearchResponse of(Map<MallType, List<Product>> products,
+                                                  Map<MallType, MallSearchResult> mallResults) {
+            IngredientSearchResponse response = new IngredientSearchResponse();
+            response.setProducts(products);
+            response.setMallStatuses(MallStatus.from(mallResults));
+            response.setPartial(mallResults.values().stream().anyMatch(MallStatus::isIncomplete));
+            return response;
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MallStatus {
+        private MallSearchStatus status;
+        private int resultCount;
+        private long elapsedMs;
+        private String error;
+
+        public static Map<MallType, MallStatus> from(Map<MallType, MallSearchResult> mallResults) {
+            Map<MallType, MallStatus> statuses = new EnumMap<>(MallType.class);
+            mallResults.forEach((type, r) -> statuses.put(type,
+                    new MallStatus(r.status(), r.products().size(), r.elapsedMs(), r.error())));
+            return statuses;
+        }
+
+        static boolean isIncomplete(MallSearchResult result) {
+            return result.status() == MallSearchStatus.TIMEOUT || result.status() == MallSearchStatus.FAILED
+                    || result.status() == MallSearchStatus.REJECTED;
+        }
+    }
+
+    @Data
+    public static class IngredientLine {
+        private String name;
+        private Double amount;
+        private String unit;
+    }
+
+    @Data
+    public static class BatchSearchRequest {
+        private Long recipeId; // 저장된 레시피 ID (ingredients 대신 사용)
+        private List<IngredientLine> ingredients; // 직접 지정한 재료 목록
+        private Integer basePortion; // ingredients의 기준 인분 수 (기본 1)
+        private Integer targetPortion; // 목표 인분 수 (기본 1)
+        private String malls; // 쉼표 구분 쇼핑몰 목록, 생략 시 전체
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BasketLineResponse {
+        private String name;
+        private double amount;
+        private String unit;
+        private Product product; // 선정된 상품 (없으면 null)
+        private Map<MallType, MallStatus> mallStatuses;
+
+        public static BasketLineResponse from(BasketLine line) {
+            return new BasketLineResponse(line.requirement().name(), line.requirement().amount(),
+                    line.requirement().unit(), line.selected(), MallStatus.from(line.mallResults()));
+        }
+    }
+
+    @Data
+    public static class BatchSearchResponse {
+        private List<BasketLineResponse> lines;
+        private int totalPrice;
+        private List<String> unresolved; // 상품을 찾지 못한 재료
+        private BasketPlan plan; // 배송비/쇼핑몰 수까지 고려한 최적 장바구니
+        private boolean partial;
+        private long elapsedMs;
+
+        public static BatchSearchResponse from(BasketSearchResult result) {
+            BatchSearchResponse response = new BatchSearchResponse();
+            response.setLines(result.lines().stream().map(BasketLineResponse::from).toList());
+            response.setTotalPrice(result.totalPrice());
+            response.setPlan(result.plan());
+            response.setUnresolved(result.lines().stream()
+                    .filter(l -> l.selected() == null)
+                    .map(l -> l.requirement().name())
+                    .toList());
+            response.setPartial(result.lines().stream()
+                    .flatMap(l -> l.mallResults().values().stream())
+                    .anyMatch(MallStatus::isIncomplete));
+            response.setElapsedMs(result.elapsedMs());
+            return response;
+        }
+    }
+
+    /**
+     * 스트리밍 검색의 "mall" 이벤트: 쇼핑몰 하나의 검색 결과.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MallEvent {
+        private String keyword;
+        private MallType mallType;
+        private MallStatus status;
+        private List<Product> products;
+
+        public static MallEvent of(String keyword, MallSearchResult result) {
+            return new MallEvent(keyword, result.mallType(),
+                    new MallStatus(result.status(), result.products().size(), result.elapsedMs(), result.error()),
+                    result.products());
+        }
+    }
+
+    /**
+     * 스트리밍 검색의 "cheapest" 이벤트: 지금까지 도착한 결과 중 최저가 상품.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CheapestEvent {
+        private String keyword;
+        private Product product;
+    }
 }
@@ -1,5 +1,6 @@
 package com.example.integratedcart.presentation;
 
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -11,6 +12,16 @@ import java.util.Map;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    /**
+     * 다른 탭에서 장바구니를 먼저 수정한 경우. 클라이언트는 다시 조회한 뒤 재시도합니다.
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Map<String, String>> handleOptimisticLockingFailure(OptimisticLockingFailureException e) {
+        Map<String, String> response = new HashMap<>();
+        response.put("message", "다른 곳에서 먼저 변경되었습니다. 다시 조회한 뒤 시도해 주세요.");
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<Map<String, String>> handleRuntimeException(RuntimeException e) {
         Map<String, String> response = new HashMap<>();
@@ -0,0 +1,91 @@
+package com.example.integratedcart.presentation;
+
+import com.example.integratedcart.application.AutomationJobService;
+import com.example.integratedcart.application.CartService;
+import com.example.integratedcart.application.MallResilienceRegistry;
+import com.example.integratedcart.application.PriceRefreshScheduler;
+import com.example.integratedcart.application.ProductIdentityResolver;
+import com.example.integratedcart.application.ScrapeTier;
+import com.example.integratedcart.application.ScrapeTierRegistry;
+import com.example.integratedcart.application.SearchResultCache;
+import com.example.integratedcart.domain.product.MallType;
+import com.example.integratedcart.infrastructure.BrowserPool;
+import com.example.integratedcart.infrastructure.HostRateLimiter;
+import com.example.integratedcart.infrastructure.MallHttpClient;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * 검색 파이프라인 내부 상태(브라우저 풀 등)를 조회하는 운영용 API.
+ */
+@RestController
+@RequestMapping("/api/v1/monitoring")
+@RequiredArgsConstructor
+public class MonitoringController {
+
+    private final BrowserPool browserPool;
+    private final SearchResultCache searchResultCache;
+    private final ScrapeTierRegistry scrapeTierRegistry;
+    private final MallHttpClient mallHttpClient;
+    private final MallResilienceRegistry mallResilienceRegistry;
+    private final HostRateLimiter hostRateLimiter;
+    private final PriceRefreshScheduler priceRefreshScheduler;
+    private final ProductIdentityResolver productIdentityResolver;
+    private final AutomationJobService automationJobService;
+    private final CartService cartService;
+
+    @GetMapping("/browser-pool")
+    public ResponseEntity<BrowserPool.BrowserPoolStats> browserPoolStats() {
+        return ResponseEntity.ok(browserPool.getStats());
+    }
+
+    @GetMapping("/search-cache")
+    public ResponseEntity<Map<MallType, SearchResultCache.CacheStatsView>> searchCacheStats() {
+        return ResponseEntity.ok(searchResultCache.getStats());
+    }
+
+    @GetMapping("/http-clients")
+    public ResponseEntity<Map<String, MallHttpClient.HostStats>> httpClientStats() {
+        return ResponseEntity.ok(mallHttpClient.getStats());
+    }
+
+    @GetMapping("/resilience")
+    public ResponseEntity<Map<MallType, MallResilienceRegistry.ResilienceStats>> resilienceStats() {
+        return ResponseEntity.ok(mallResilienceRegistry.getStats());
+    }
+
+    @GetMapping("/rate-limits")
+    public ResponseEntity<Map<String, HostRateLimiter.RateLimitStats>> rateLimitStats() {
+        return ResponseEntity.ok(hostRateLimiter.getStats());
+    }
+
+    @GetMapping("/price-refresh")
+    public ResponseEntity<PriceRefreshScheduler.CrawlStats> priceRefreshStats() {
+        return ResponseEntity.ok(priceRefreshScheduler.getStats());
+    }
+
+    @GetMapping("/product-identity")
+    public ResponseEntity<ProductIdentityResolver.IdentityStats> productIdentityStats() {
+        return ResponseEntity.ok(productIdentityResolver.getStats());
+    }
+
+    @GetMapping("/automation")
+    public ResponseEntity<Map<MallType, AutomationJobService.AutomationStats>> automationStats() {
+        return ResponseEntity.ok(automationJobService.getStats());
+    }
+
+    @GetMapping("/cart-cache")
+    public ResponseEntity<CartService.CartCacheStats> cartCacheStats() {
+        return ResponseEntity.ok(cartService.getStats());
+    }
+
+    @GetMapping("/scrape-tiers")
+    public ResponseEntity<Map<String, Map<ScrapeTier, ScrapeTierRegistry.TierStats>>> scrapeTierStats() {
+        return ResponseEntity.ok(scrapeTierRegistry.getStats());
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.integratedcart.presentation;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 여러 검색 작업 스레드가 동시에 이벤트를 보내는 SseEmitter 래퍼.
+ * 전송을 직렬화하고, 클라이언트 연결이 끊긴 뒤의 전송은 조용히 무시합니다.
+ */
+@Slf4j
+final class SseEventStream {
+
+    private final SseEmitter emitter;
+    private final CopyOnWriteArrayList<Runnable> closeCallbacks = new CopyOnWriteArrayList<>();
+    // 네트워크 전송 중에 잡고 있는 잠금이므로 synchronized 대신 사용 (가상 스레드의 캐리어 고정 방지)
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile boolean closed;
+
+    SseEventStream(long timeoutMs) {
+        this.emitter = new SseEmitter(timeoutMs);
+        emitter.onCompletion(this::markClosed);
+        emitter.onTimeout(this::markClosed);
+        emitter.onError(e -> markClosed());
+    }
+
+    /**
+     * 스트림이 닫힐 때(완료, 시간 초과, 클라이언트 연결 종료) 실행할 작업을 등록합니다. (예: 구독 해제)
+     */
+    void onClose(Runnable callback) {
+        closeCallbacks.add(callback);
+        if (closed) {
+            runCloseCallbacks();
+        }
+    }
+
+    SseEmitter emitter() {
+        return emitter;
+    }
+
+    void send(String name, Object data) {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            try {
+                emitter.send(SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON));
+            } catch (IOException | IllegalStateException e) {
+                markClosed();
+                log.debug("SSE 전송 중단 (클라이언트 연결 종료): {}", e.getMessage());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void complete() {
+        lock.lock();
+        try {
+            if (!closed) {
+                markClosed();
+                emitter.complete();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void markClosed() {
+        closed = true;
+        runCloseCallbacks();
+    }
+
+    private void runCloseCallbacks() {
+        for (Runnable callback : closeCallbacks) {
+            if (closeCallbacks.remove(callback)) {
+                callback.run();
+            }
+        }
+    }
+
+    /**
+     * "error" 이벤트를 보낸 뒤 스트림을 닫습니다.
+     */
+    void fail(Throwable error) {
+        Throwable cause = error.getCause() != null ? error.getCause() : error;
+        send("error", Map.of("message", String.valueOf(cause.getMessage())));
+        complete();
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.integratedcart.application;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 실제 사이트 대신 저장된 응답(src/jmh/resources/fixtures)이나 고정 응답을 돌려주는 로컬 HTTP 서버.
+ * 경로별 요청 수를 세어 어떤 단계가 실제로 요청을 보냈는지 확인할 수 있습니다.
+ */
+final class FixtureHttpServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final Map<String, AtomicInteger> hits = new ConcurrentHashMap<>();
+
+    FixtureHttpServer() {
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        server.start();
+    }
+
+    String baseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    /**
+     * @param path 경로 접두사 (예: "/naver")
+     * @param handler 요청 본문 → 응답
+     */
+    FixtureHttpServer route(String path, Function<String, Response> handler) {
+        hits.put(path, new AtomicInteger());
+        server.createContext(path, exchange -> {
+            hits.get(path).incrementAndGet();
+            try (exchange) {
+                respond(exchange, handler.apply(body(exchange)));
+            }
+        });
+        return this;
+    }
+
+    FixtureHttpServer html(String path, String html) {
+        return route(path, body -> new Response(200, "text/html; charset=UTF-8", html));
+    }
+
+    int hits(String path) {
+        return hits.get(path).get();
+    }
+
+    static String fixture(String name) {
+        try (InputStream in = FixtureHttpServer.class.getResourceAsStream("/fixtures/" + name)) {
+            if (in == null) {
+                throw new IllegalStateException("fixture 없음: " + name);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private static String body(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static void respond(HttpExchange exchange, Response response) throws IOException {
+        byte[] bytes = response.body().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", response.contentType());
+        exchange.sendResponseHeaders(response.status(), bytes.length == 0 ? -1 : bytes.length);
+        if (bytes.length > 0) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        }
+    }
+
+    record Response(int status, String contentType, String body) {
+
+        static Response json(String body) {
+            return new Response(200, "application/json; charset=UTF-8", body);
+        }
+
+        static Response status(int status) {
+            return new Response(status, "text/plain; charset=UTF-8", "");
+        }
+    }
+}
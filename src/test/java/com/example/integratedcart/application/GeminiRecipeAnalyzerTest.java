@@ -0,0 +1,171 @@
+package com.example.integratedcart.application;
+
+import com.example.integratedcart.infrastructure.GeminiConfig;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로컬 Gemini 스텁 서버(google.ai.base-url)를 상대로 한 음식명 마이크로 배치.
+ * 스텁은 배치 프롬프트면 "음식명 목록"의 각 줄에 대한 배열을, 단독 프롬프트면 객체 하나를 응답합니다.
+ */
+class GeminiRecipeAnalyzerTest {
+
+    private static final String MODEL = "gemini-test";
+    private static final String BATCH_MARKER = "음식명 목록:\n";
+    private static final String SINGLE_MARKER = "입력값: ";
+    private static final long WINDOW_MS = 10_000; // 테스트에서는 max-size로만 배치를 보냄
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<String> prompts = new CopyOnWriteArrayList<>();
+
+    private FixtureHttpServer stub;
+    private ExecutorService executor;
+    private ScheduledExecutorService flushScheduler;
+    private GeminiRecipeAnalyzer analyzer;
+
+    // 배치 응답에서 뺄 음식명
+    private volatile Set<String> omitFromBatch = Set.of();
+
+    @BeforeEach
+    void setUp() {
+        stub = new FixtureHttpServer().route("/", this::generateContent);
+        executor = Executors.newSingleThreadExecutor();
+        flushScheduler = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        flushScheduler.shutdownNow();
+        executor.shutdownNow();
+        stub.close();
+    }
+
+    @Test
+    @DisplayName("배치 응답을 input 기준으로 나눠 각 요청에 돌려준다 (응답 순서와 무관)")
+    void splitsBatchByInput() throws Exception {
+        analyzer = analyzer(executor, 3);
+
+        List<CompletableFuture<JsonNode>> results = analyzeAll("김치찌개", "된장찌개", "제육볶음");
+
+        assertThat(results.get(0).get(5, TimeUnit.SECONDS).path("name").asText()).isEqualTo("김치찌개 레시피");
+        assertThat(results.get(1).get(5, TimeUnit.SECONDS).path("name").asText()).isEqualTo("된장찌개 레시피");
+        assertThat(results.get(2).get(5, TimeUnit.SECONDS).path("name").asText()).isEqualTo("제육볶음 레시피");
+        assertThat(prompts).hasSize(1);
+        assertThat(prompts.get(0)).contains(BATCH_MARKER);
+    }
+
+    @Test
+    @DisplayName("배치 응답에 없는 음식명은 단독 프롬프트로 다시 요청한다")
+    void fallsBackToSingleRequestForMissingItems() throws Exception {
+        omitFromBatch = Set.of("된장찌개");
+        analyzer = analyzer(executor, 3);
+
+        List<CompletableFuture<JsonNode>> results = analyzeAll("김치찌개", "된장찌개", "제육볶음");
+
+        JsonNode missing = results.get(1).get(5, TimeUnit.SECONDS);
+        assertThat(missing.path("name").asText()).isEqualTo("된장찌개 레시피");
+        assertThat(missing.path("kind").asText()).isEqualTo("single");
+        assertThat(results.get(0).get(5, TimeUnit.SECONDS).path("kind").asText()).isEqualTo("batch");
+        assertThat(prompts).hasSize(2);
+        assertThat(prompts.get(1)).contains(SINGLE_MARKER + "된장찌개");
+    }
+
+    @Test
+    @DisplayName("executor가 작업을 거절하면 대기 중인 요청을 모두 실패시킨다")
+    void rejectedExecutorFailsPendingFutures() {
+        ExecutorService rejecting = Executors.newSingleThreadExecutor();
+        rejecting.shutdown();
+        analyzer = analyzer(rejecting, 2);
+
+        List<CompletableFuture<JsonNode>> results = analyzeAll("김치찌개", "된장찌개");
+
+        for (CompletableFuture<JsonNode> result : results) {
+            assertThat(result).isCompletedExceptionally();
+            assertThatThrownBy(result::get)
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(IllegalStateException.class);
+        }
+        assertThat(prompts).isEmpty();
+    }
+
+    private GeminiRecipeAnalyzer analyzer(ExecutorService executor, int batchMaxSize) {
+        return new GeminiRecipeAnalyzer(new GeminiConfig().geminiClient("test-key", stub.baseUrl(), 5000),
+                objectMapper, executor, flushScheduler, WINDOW_MS, batchMaxSize, ObservationRegistry.NOOP);
+    }
+
+    private List<CompletableFuture<JsonNode>> analyzeAll(String... dishes) {
+        List<CompletableFuture<JsonNode>> results = new ArrayList<>();
+        for (String dish : dishes) {
+            results.add(analyzer.analyzeDish(dish, MODEL));
+        }
+        return results;
+    }
+
+    /**
+     * generateContent 스텁: 요청 프롬프트를 기록하고 모델 응답 형식으로 돌려줍니다.
+     */
+    private FixtureHttpServer.Response generateContent(String requestBody) {
+        try {
+            String prompt = objectMapper.readTree(requestBody)
+                    .path("contents").path(0).path("parts").path(0).path("text").asText();
+            prompts.add(prompt);
+            String text;
+            if (prompt.contains(BATCH_MARKER)) {
+                ArrayNode items = objectMapper.createArrayNode();
+                List<String> dishes = new ArrayList<>();
+                for (String line : prompt.substring(prompt.indexOf(BATCH_MARKER) + BATCH_MARKER.length()).split("\n")) {
+                    if (line.startsWith("- ")) {
+                        dishes.add(line.substring(2));
+                    }
+                }
+                // 입력 순서와 다르게 응답
+                for (int i = dishes.size() - 1; i >= 0; i--) {
+                    if (!omitFromBatch.contains(dishes.get(i))) {
+                        items.add(recipe(dishes.get(i), "batch").put("input", dishes.get(i)));
+                    }
+                }
+                text = "```json\n" + items + "\n```";
+            } else {
+                text = recipe(prompt.substring(prompt.indexOf(SINGLE_MARKER) + SINGLE_MARKER.length()), "single")
+                        .toString();
+            }
+            ObjectNode response = objectMapper.createObjectNode();
+            ObjectNode candidate = response.putArray("candidates").addObject();
+            candidate.putObject("content").put("role", "model").putArray("parts").addObject().put("text", text);
+            candidate.put("finishReason", "STOP");
+            return FixtureHttpServer.Response.json(response.toString());
+        } catch (Exception e) {
+            return FixtureHttpServer.Response.status(500);
+        }
+    }
+
+    private ObjectNode recipe(String dish, String kind) {
+        ObjectNode recipe = objectMapper.createObjectNode()
+                .put("name", dish + " 레시피")
+                .put("basePortion", 2)
+                .put("kind", kind);
+        recipe.putArray("ingredients").addObject().put("name", "양파").put("amount", 1).put("unit", "개");
+        return recipe;
+    }
+}
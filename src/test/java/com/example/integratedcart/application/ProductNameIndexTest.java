@@ -0,0 +1,108 @@
+package com.example.integratedcart.application;
+
+import com.example.integratedcart.domain.product.MallType;
+import com.example.integratedcart.domain.product.Product;
+import com.example.integratedcart.domain.product.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 상품명 bigram 역색인 조회. (쇼핑몰별 posting, 한 글자 키워드, 후보 한정)
+ */
+class ProductNameIndexTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-17T09:00:00Z");
+    private static final Instant FRESH_SINCE = NOW.minus(Duration.ofHours(1));
+
+    private final ProductRelevanceScorer scorer = new ProductRelevanceScorer();
+    private ProductNameIndex index;
+    private long nextId;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductNameIndex(mock(ProductRepository.class), scorer, mock(ExecutorService.class), 1000);
+        nextId = 1;
+    }
+
+    @Test
+    @DisplayName("한 글자 키워드도 그 글자가 들어간 상품을 찾는다")
+    void singleCharacterKeyword() {
+        long greenOnion = add(MallType.KURLY, "손질대파 500g", 2500, NOW);
+        long radish = add(MallType.KURLY, "무 1개", 1800, NOW);
+        add(MallType.KURLY, "감자 2kg", 5000, NOW);
+
+        assertThat(index.search(MallType.KURLY, "파", FRESH_SINCE, 5)).containsExactly(greenOnion);
+        assertThat(index.search(MallType.KURLY, "무", FRESH_SINCE, 5)).containsExactly(radish);
+        assertThat(index.search(MallType.KURLY, "쌀", FRESH_SINCE, 5)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다른 쇼핑몰, 품절, 오래된 상품은 제외하고 관련도 → 가격 순으로 반환한다")
+    void filtersByMallStockAndFreshness() {
+        long cheap = add(MallType.COUPANG, "국내산 돼지 앞다리살 1kg", 9000, NOW);
+        long exact = add(MallType.COUPANG, "돼지고기 목살 500g", 12000, NOW);
+        add(MallType.KURLY, "돼지고기 삼겹살 500g", 8000, NOW);
+        add(MallType.COUPANG, "돼지고기 등심 500g", 7000, NOW.minus(Duration.ofHours(2)));
+        index.index(List.of(product(nextId++, MallType.COUPANG, "돼지고기 안심 500g", 6000, false, NOW)));
+        add(MallType.COUPANG, "한우 소고기 300g", 20000, NOW);
+
+        assertThat(index.search(MallType.COUPANG, "돼지고기", FRESH_SINCE, 5)).containsExactly(exact, cheap);
+    }
+
+    @Test
+    @DisplayName("키워드의 일부인 짧은 상품명도 찾는다")
+    void shortNameContainedInKeyword() {
+        long onion = add(MallType.NAVER, "양파", 3000, NOW);
+
+        assertThat(index.search(MallType.NAVER, "햇양파 3kg", FRESH_SINCE, 5)).containsExactly(onion);
+    }
+
+    @Test
+    @DisplayName("상품명이 바뀌면 이전 이름의 posting에서 빠진다")
+    void reindexRemovesOldPostings() {
+        long id = add(MallType.BMART, "양배추 1통", 3000, NOW);
+        index.index(List.of(product(id, MallType.BMART, "브로콜리 2송이", 3000, true, NOW)));
+
+        assertThat(index.search(MallType.BMART, "양배추", FRESH_SINCE, 5)).isEmpty();
+        assertThat(index.search(MallType.BMART, "브로콜리", FRESH_SINCE, 5)).containsExactly(id);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("bigram 일치율 기준에 닿는 최소 공통 bigram 수")
+    void minimumOverlap() {
+        assertThat(scorer.minimumOverlap(1)).isEqualTo(1);
+        assertThat(scorer.minimumOverlap(2)).isEqualTo(2);
+        assertThat(scorer.minimumOverlap(3)).isEqualTo(2);
+        assertThat(scorer.minimumOverlap(8)).isEqualTo(5);
+    }
+
+    private long add(MallType mallType, String name, int price, Instant lastSeenAt) {
+        long id = nextId++;
+        index.index(List.of(product(id, mallType, name, price, true, lastSeenAt)));
+        return id;
+    }
+
+    private static Product product(long id, MallType mallType, String name, int price, boolean inStock,
+                                   Instant lastSeenAt) {
+        return Product.builder()
+                .id(id)
+                .name(name)
+                .price(price)
+                .mallType(mallType)
+                .inStock(inStock)
+                .unit("g")
+                .capacity(0)
+                .lastSeenAt(lastSeenAt)
+                .build();
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.integratedcart.application;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvFileSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품명 코퍼스(fixtures/product-titles.tsv)의 기대 용량/단위 회귀 확인.
+ */
+class ProductQuantityParserTest {
+
+    @ParameterizedTest(name = "{0} → {1}{2}")
+    @CsvFileSource(resources = "/fixtures/product-titles.tsv", delimiter = '\t')
+    void parsesCorpusTitle(String title, int capacity, String unit) {
+        ProductQuantityParser.ProductQuantity quantity = ProductQuantityParser.parse(title);
+
+        assertThat(quantity.capacity()).as("용량").isEqualTo(capacity);
+        assertThat(quantity.unit()).as("단위").isEqualTo(unit);
+    }
+}
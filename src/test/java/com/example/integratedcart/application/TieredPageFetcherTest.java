@@ -0,0 +1,174 @@
+package com.example.integratedcart.application;
+
+import com.example.integratedcart.domain.product.Product;
+import com.example.integratedcart.infrastructure.BrowserPool;
+import com.example.integratedcart.infrastructure.HostRateLimiter;
+import com.example.integratedcart.infrastructure.MallHttpClient;
+import io.micrometer.observation.ObservationRegistry;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 로컬 fixture 서버를 상대로 한 HTTP → 브라우저 단계 전환.
+ * 브라우저 단계는 BrowserPool mock으로 대체하고, 호출 여부로 전환을 확인합니다.
+ */
+class TieredPageFetcherTest {
+
+    private static final int SKIP_AFTER_FAILURES = 2;
+
+    private final ProductRelevanceScorer scorer = new ProductRelevanceScorer();
+    private final List<Product> browserProducts = List.of(
+            ScrapedProducts.create(null, "브라우저 단계 상품 양파 1kg", 3000, "https://example.com/p/1"));
+
+    private FixtureHttpServer server;
+    private BrowserPool browserPool;
+    private ScrapeTierRegistry tierRegistry;
+    private TieredPageFetcher fetcher;
+
+    @BeforeEach
+    void setUp() {
+        Document withoutNextData = Jsoup.parse(FixtureHttpServer.fixture("naver-shopping.html"));
+        withoutNextData.select("script#__NEXT_DATA__").remove();
+
+        server = new FixtureHttpServer()
+                .html("/naver", FixtureHttpServer.fixture("naver-shopping.html"))
+                .html("/naver-html", withoutNextData.outerHtml())
+                .html("/google", FixtureHttpServer.fixture("google-shopping.html"))
+                .html("/consent", "<html><body><form action=\"/save\">동의</form></body></html>")
+                .route("/broken", body -> FixtureHttpServer.Response.status(503));
+
+        browserPool = mock(BrowserPool.class);
+        doReturn(browserProducts).when(browserPool).withPage(any());
+        tierRegistry = new ScrapeTierRegistry(SKIP_AFTER_FAILURES, 600);
+        HostRateLimiter rateLimiter = new HostRateLimiter(new MockEnvironment(), 1000, 1000, 1000);
+        fetcher = new TieredPageFetcher(browserPool, tierRegistry, new MallHttpClient(rateLimiter, 3000, 5000),
+                rateLimiter, ObservationRegistry.NOOP);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    @DisplayName("네이버 __NEXT_DATA__가 있으면 HTTP 단계에서 끝나고 브라우저를 쓰지 않는다")
+    void naverNextData() {
+        List<Product> products = fetcher.fetch(naver("/naver"), "양파", null);
+
+        assertThat(products).isNotEmpty();
+        assertThat(products).allSatisfy(p -> assertThat(p.getName()).contains("양파"));
+        verify(browserPool, never()).withPage(any());
+        assertThat(tierRegistry.getStats().get("naver-shopping").get(ScrapeTier.HTTP).successes()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("__NEXT_DATA__가 없으면 HTML 상품 카드에서 같은 상품을 추출한다")
+    void naverHtmlCards() {
+        List<Product> fromNextData = fetcher.fetch(naver("/naver"), "양파", null);
+        List<Product> fromHtml = fetcher.fetch(naver("/naver-html"), "양파", null);
+
+        assertThat(fromHtml).isNotEmpty();
+        assertThat(fromHtml).extracting(Product::getName).isSubsetOf(fromNextData.stream().map(Product::getName).toList());
+        verify(browserPool, never()).withPage(any());
+    }
+
+    @Test
+    @DisplayName("Google Shopping 카드에서 쇼핑몰 필터에 맞는 상품과 가격을 추출한다")
+    void googleCards() {
+        List<Product> products = fetcher.fetch(google("/google"), "삼겹살", "쿠팡");
+
+        assertThat(products).isNotEmpty();
+        assertThat(products).allSatisfy(p -> assertThat(p.getPrice()).isPositive());
+        verify(browserPool, never()).withPage(any());
+    }
+
+    @Test
+    @DisplayName("페이지 구조를 인식하지 못하면(null) 브라우저 단계로 전환하고 HTTP 실패로 기록한다")
+    void unrecognizedPageFallsBackToBrowser() {
+        List<Product> products = fetcher.fetch(google("/consent"), "삼겹살", "쿠팡");
+
+        assertThat(products).isEqualTo(browserProducts);
+        verify(browserPool).withPage(any());
+        ScrapeTierRegistry.TierStats http = tierRegistry.getStats().get("google-shopping").get(ScrapeTier.HTTP);
+        assertThat(http.failures()).isEqualTo(1);
+        assertThat(tierRegistry.getStats().get("google-shopping").get(ScrapeTier.BROWSER).successes()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("HTTP 오류 응답이면 브라우저 단계로 전환한다")
+    void httpErrorFallsBackToBrowser() {
+        List<Product> products = fetcher.fetch(naver("/broken"), "양파", null);
+
+        assertThat(products).isEqualTo(browserProducts);
+        assertThat(server.hits("/broken")).isEqualTo(1);
+        verify(browserPool).withPage(any());
+    }
+
+    @Test
+    @DisplayName("HTTP 단계가 연속으로 실패하면 건너뛰고 바로 브라우저 단계로 간다")
+    void skipsFailingHttpTier() {
+        for (int i = 0; i < SKIP_AFTER_FAILURES; i++) {
+            fetcher.fetch(naver("/broken"), "양파", null);
+        }
+        assertThat(tierRegistry.tiersFor("naver-shopping")).containsExactly(ScrapeTier.BROWSER);
+
+        fetcher.fetch(naver("/broken"), "양파", null);
+
+        assertThat(server.hits("/broken")).isEqualTo(SKIP_AFTER_FAILURES);
+        verify(browserPool, times(SKIP_AFTER_FAILURES + 1)).withPage(any());
+        assertThat(tierRegistry.getStats().get("naver-shopping").get(ScrapeTier.HTTP).skipping()).isTrue();
+    }
+
+    @Test
+    @DisplayName("건너뛰는 시간이 지나면 HTTP 단계를 다시 시도하고, 성공하면 복구된다")
+    void retriesHttpTierAfterBackoff() {
+        ScrapeTierRegistry registry = new ScrapeTierRegistry(SKIP_AFTER_FAILURES, 0);
+        for (int i = 0; i < SKIP_AFTER_FAILURES; i++) {
+            registry.recordFailure("naver-shopping", ScrapeTier.HTTP);
+        }
+        assertThat(registry.tiersFor("naver-shopping")).containsExactly(ScrapeTier.HTTP, ScrapeTier.BROWSER);
+
+        registry.recordSuccess("naver-shopping", ScrapeTier.HTTP);
+
+        ScrapeTierRegistry.TierStats http = registry.getStats().get("naver-shopping").get(ScrapeTier.HTTP);
+        assertThat(http.consecutiveFailures()).isZero();
+        assertThat(http.skipping()).isFalse();
+    }
+
+    @Test
+    @DisplayName("모든 단계가 실패하면 IllegalStateException")
+    void allTiersFail() {
+        doThrow(new IllegalStateException("브라우저 작업 실패")).when(browserPool).withPage(any());
+
+        assertThatThrownBy(() -> fetcher.fetch(naver("/broken"), "양파", null))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("naver-shopping");
+        ScrapeTierRegistry.TierStats browser = tierRegistry.getStats().get("naver-shopping").get(ScrapeTier.BROWSER);
+        assertThat(browser.failures()).isEqualTo(1);
+    }
+
+    private NaverShoppingSource naver(String path) {
+        return new NaverShoppingSource(scorer, null, server.baseUrl() + path);
+    }
+
+    private GoogleShoppingSource google(String path) {
+        return new GoogleShoppingSource(scorer, null, server.baseUrl() + path);
+    }
+}